@@ -14,9 +14,14 @@
 package org.vaadin.addons.reactive;
 
 import javax.annotation.Nonnull;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 import io.reactivex.Observable;
+import io.reactivex.ObservableTransformer;
+import io.reactivex.Scheduler;
 import io.reactivex.disposables.Disposable;
+import io.reactivex.schedulers.Schedulers;
 
 /**
  * Binder used to bind property which is also observable
@@ -62,4 +67,111 @@ public interface ObservablePropertyBinder<T>
      */
     @Nonnull
     Disposable to(final @Nonnull ObservableProperty<T> anotherProperty);
+
+    /**
+     * Returns binder which binds values of source observable transformed by given transformer
+     *
+     * @param transformer transformer
+     * @return binder
+     */
+    @Nonnull
+    ObservablePropertyBinder<T> compose(final @Nonnull ObservableTransformer<T, T> transformer);
+
+    /**
+     * Returns binder which binds only values of source observable which are not followed by another value
+     * within given timeout
+     *
+     * @param timeout timeout
+     * @param unit time unit of timeout
+     * @return binder
+     */
+    @Nonnull
+    default ObservablePropertyBinder<T> debounced(final long timeout, final @Nonnull TimeUnit unit)
+    {
+        return debounced(timeout, unit, Schedulers.computation());
+    }
+
+    /**
+     * Returns binder which binds only values of source observable which are not followed by another value
+     * within given timeout
+     *
+     * @param timeout timeout
+     * @param unit time unit of timeout
+     * @param scheduler scheduler used to measure timeout
+     * @return binder
+     */
+    @Nonnull
+    default ObservablePropertyBinder<T> debounced(final long timeout,
+                                                  final @Nonnull TimeUnit unit,
+                                                  final @Nonnull Scheduler scheduler)
+    {
+        Objects.requireNonNull(unit, "Unit cannot be null");
+        Objects.requireNonNull(scheduler, "Scheduler cannot be null");
+
+        return compose(observable -> observable.debounce(timeout, unit, scheduler));
+    }
+
+    /**
+     * Returns binder which binds only first value of source observable in each window of given duration
+     *
+     * @param window window duration
+     * @param unit time unit of window duration
+     * @return binder
+     */
+    @Nonnull
+    default ObservablePropertyBinder<T> throttled(final long window, final @Nonnull TimeUnit unit)
+    {
+        return throttled(window, unit, Schedulers.computation());
+    }
+
+    /**
+     * Returns binder which binds only first value of source observable in each window of given duration
+     *
+     * @param window window duration
+     * @param unit time unit of window duration
+     * @param scheduler scheduler used to measure window duration
+     * @return binder
+     */
+    @Nonnull
+    default ObservablePropertyBinder<T> throttled(final long window,
+                                                  final @Nonnull TimeUnit unit,
+                                                  final @Nonnull Scheduler scheduler)
+    {
+        Objects.requireNonNull(unit, "Unit cannot be null");
+        Objects.requireNonNull(scheduler, "Scheduler cannot be null");
+
+        return compose(observable -> observable.throttleFirst(window, unit, scheduler));
+    }
+
+    /**
+     * Returns binder which binds only latest value of source observable at the end of each period of given duration
+     *
+     * @param period period duration
+     * @param unit time unit of period duration
+     * @return binder
+     */
+    @Nonnull
+    default ObservablePropertyBinder<T> sampled(final long period, final @Nonnull TimeUnit unit)
+    {
+        return sampled(period, unit, Schedulers.computation());
+    }
+
+    /**
+     * Returns binder which binds only latest value of source observable at the end of each period of given duration
+     *
+     * @param period period duration
+     * @param unit time unit of period duration
+     * @param scheduler scheduler used to measure period duration
+     * @return binder
+     */
+    @Nonnull
+    default ObservablePropertyBinder<T> sampled(final long period,
+                                                final @Nonnull TimeUnit unit,
+                                                final @Nonnull Scheduler scheduler)
+    {
+        Objects.requireNonNull(unit, "Unit cannot be null");
+        Objects.requireNonNull(scheduler, "Scheduler cannot be null");
+
+        return compose(observable -> observable.sample(period, unit, scheduler, true));
+    }
 }
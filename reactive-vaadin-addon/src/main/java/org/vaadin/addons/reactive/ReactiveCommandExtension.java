@@ -16,6 +16,7 @@ package org.vaadin.addons.reactive;
 import javax.annotation.Nonnull;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -26,9 +27,19 @@ import io.reactivex.Completable;
 import io.reactivex.Observable;
 import io.reactivex.Scheduler;
 import io.reactivex.schedulers.Schedulers;
+import org.vaadin.addons.reactive.command.Bulkhead;
+import org.vaadin.addons.reactive.command.BulkheadCommand;
+import org.vaadin.addons.reactive.command.CircuitBreakerCommand;
 import org.vaadin.addons.reactive.command.Command;
+import org.vaadin.addons.reactive.command.CommandSchedulers;
 import org.vaadin.addons.reactive.command.CompositeCommand;
+import org.vaadin.addons.reactive.command.GraphCommand;
+import org.vaadin.addons.reactive.command.GraphResult;
+import org.vaadin.addons.reactive.command.IndexedResult;
 import org.vaadin.addons.reactive.command.ProgressCommand;
+import org.vaadin.addons.reactive.command.RetryCommand;
+import org.vaadin.addons.reactive.command.StreamingCompositeCommand;
+import org.vaadin.addons.reactive.command.TimeoutCommand;
 
 /**
  * Extension to create instances of {@link ReactiveCommand}
@@ -82,7 +93,7 @@ public interface ReactiveCommandExtension
         Objects.requireNonNull(canExecute, "CanExecute cannot be null");
         Objects.requireNonNull(execution, "Execution cannot be null");
 
-        return createCommandFromRunnable(canExecute, execution, Schedulers.trampoline());
+        return createCommandFromRunnable(canExecute, execution, getDefaultScheduler());
     }
 
     /**
@@ -154,7 +165,7 @@ public interface ReactiveCommandExtension
         Objects.requireNonNull(canExecute, "CanExecute cannot be null");
         Objects.requireNonNull(execution, "Execution cannot be null");
 
-        return createCommandFromSupplier(canExecute, execution, Schedulers.trampoline());
+        return createCommandFromSupplier(canExecute, execution, getDefaultScheduler());
     }
 
     /**
@@ -227,7 +238,7 @@ public interface ReactiveCommandExtension
         Objects.requireNonNull(canExecute, "CanExecute cannot be null");
         Objects.requireNonNull(execution, "Execution cannot be null");
 
-        return createCommandFromConsumer(canExecute, execution, Schedulers.trampoline());
+        return createCommandFromConsumer(canExecute, execution, getDefaultScheduler());
     }
 
     /**
@@ -306,7 +317,7 @@ public interface ReactiveCommandExtension
         Objects.requireNonNull(canExecute, "CanExecute cannot be null");
         Objects.requireNonNull(execution, "Execution cannot be null");
 
-        return createCommandFromFunction(canExecute, execution, Schedulers.trampoline());
+        return createCommandFromFunction(canExecute, execution, getDefaultScheduler());
     }
 
     /**
@@ -384,7 +395,7 @@ public interface ReactiveCommandExtension
         Objects.requireNonNull(canExecute, "CanExecute cannot be null");
         Objects.requireNonNull(execution, "Execution cannot be null");
 
-        return createCommandFromObservable(canExecute, execution, Schedulers.trampoline());
+        return createCommandFromObservable(canExecute, execution, getDefaultScheduler());
     }
 
     /**
@@ -460,7 +471,7 @@ public interface ReactiveCommandExtension
         Objects.requireNonNull(canExecute, "CanExecute cannot be null");
         Objects.requireNonNull(execution, "Execution cannot be null");
 
-        return createCommandFromObservable(canExecute, execution, Schedulers.trampoline());
+        return createCommandFromObservable(canExecute, execution, getDefaultScheduler());
     }
 
     /**
@@ -809,7 +820,7 @@ public interface ReactiveCommandExtension
         Objects.requireNonNull(canExecute, "CanExecute cannot be null");
         Objects.requireNonNull(commands, "Commands cannot be null");
 
-        return createCompositeCommand(canExecute, commands, Schedulers.trampoline());
+        return createCompositeCommand(canExecute, commands, getDefaultScheduler());
     }
 
     /**
@@ -834,6 +845,230 @@ public interface ReactiveCommandExtension
         return onCreateCommand(new CompositeCommand<>(canExecute, commands, scheduler));
     }
 
+    /**
+     * Creates a new streaming composite command composed of given commands
+     * <p>
+     * Aggregated results are available from {@link StreamingCompositeCommand} created by its constructor
+     *
+     * @param commands commands to compose
+     * @param <T> type of commands input
+     * @param <R> type of commands result
+     * @return created streaming composite command
+     * @see StreamingCompositeCommand
+     */
+    @Nonnull
+    default <T, R> ReactiveCommand<T, IndexedResult<R>> createStreamingCompositeCommand(
+            final @Nonnull List<ReactiveCommand<T, R>> commands)
+    {
+        Objects.requireNonNull(commands, "Commands cannot be null");
+
+        return createStreamingCompositeCommand(Observable.just(true), commands, getDefaultScheduler());
+    }
+
+    /**
+     * Creates a new streaming composite command composed of given commands
+     * <p>
+     * Aggregated results are available from {@link StreamingCompositeCommand} created by its constructor
+     *
+     * @param canExecute observable which controls command executability
+     * @param commands commands to compose
+     * @param scheduler scheduler used to schedule execution
+     * @param <T> type of commands input
+     * @param <R> type of commands result
+     * @return created streaming composite command
+     * @see StreamingCompositeCommand
+     */
+    @Nonnull
+    default <T, R> ReactiveCommand<T, IndexedResult<R>> createStreamingCompositeCommand(
+            final @Nonnull Observable<Boolean> canExecute,
+            final @Nonnull List<ReactiveCommand<T, R>> commands,
+            final @Nonnull Scheduler scheduler)
+    {
+        Objects.requireNonNull(canExecute, "CanExecute cannot be null");
+        Objects.requireNonNull(commands, "Commands cannot be null");
+        Objects.requireNonNull(scheduler, "Scheduler cannot be null");
+
+        return onCreateCommand(new StreamingCompositeCommand<>(canExecute, commands, scheduler));
+    }
+
+    /**
+     * Creates a new command which executes graph of commands built by given builder
+     *
+     * @param builder builder of graph
+     * @param <T> type of command input
+     * @return created graph command
+     */
+    @Nonnull
+    default <T> ReactiveCommand<T, GraphResult> createGraphCommand(final @Nonnull GraphCommand.Builder<T> builder)
+    {
+        Objects.requireNonNull(builder, "Builder cannot be null");
+
+        return createGraphCommand(Observable.just(true), builder, getDefaultScheduler());
+    }
+
+    /**
+     * Creates a new command which executes graph of commands built by given builder
+     *
+     * @param canExecute observable which controls command executability
+     * @param builder builder of graph
+     * @param scheduler scheduler used to schedule execution
+     * @param <T> type of command input
+     * @return created graph command
+     */
+    @Nonnull
+    default <T> ReactiveCommand<T, GraphResult> createGraphCommand(final @Nonnull Observable<Boolean> canExecute,
+                                                                   final @Nonnull GraphCommand.Builder<T> builder,
+                                                                   final @Nonnull Scheduler scheduler)
+    {
+        Objects.requireNonNull(canExecute, "CanExecute cannot be null");
+        Objects.requireNonNull(builder, "Builder cannot be null");
+        Objects.requireNonNull(scheduler, "Scheduler cannot be null");
+
+        return onCreateCommand(builder.build(canExecute, scheduler));
+    }
+
+    /**
+     * Creates a new command which retries failed executions of given command with exponential backoff
+     * and default jitter
+     *
+     * @param command command to decorate
+     * @param maxRetries maximum number of retries of one execution
+     * @param initialDelay delay before first retry, each next delay is doubled
+     * @param maxDelay maximum delay between retries
+     * @param unit unit of delays
+     * @param <T> type of command input
+     * @param <R> type of command result
+     * @return created retry command
+     */
+    @Nonnull
+    default <T, R> ReactiveCommand<T, R> createRetryCommand(final @Nonnull ReactiveCommand<T, R> command,
+                                                            final int maxRetries,
+                                                            final long initialDelay,
+                                                            final long maxDelay,
+                                                            final @Nonnull TimeUnit unit)
+    {
+        Objects.requireNonNull(command, "Command cannot be null");
+        Objects.requireNonNull(unit, "Unit cannot be null");
+
+        return onCreateCommand(new RetryCommand<>(command, maxRetries, initialDelay, maxDelay, unit,
+                RetryCommand.DEFAULT_JITTER, Schedulers.computation()));
+    }
+
+    /**
+     * Creates a new command which stops executing given command after given number of consecutive failures
+     *
+     * @param command command to decorate
+     * @param failureThreshold number of consecutive failures which opens the circuit
+     * @param openDuration how long the circuit stays open
+     * @param unit unit of open duration
+     * @param <T> type of command input
+     * @param <R> type of command result
+     * @return created circuit breaker command
+     */
+    @Nonnull
+    default <T, R> ReactiveCommand<T, R> createCircuitBreakerCommand(final @Nonnull ReactiveCommand<T, R> command,
+                                                                     final int failureThreshold,
+                                                                     final long openDuration,
+                                                                     final @Nonnull TimeUnit unit)
+    {
+        Objects.requireNonNull(command, "Command cannot be null");
+        Objects.requireNonNull(unit, "Unit cannot be null");
+
+        return onCreateCommand(new CircuitBreakerCommand<>(command, failureThreshold, openDuration, unit,
+                Schedulers.computation()));
+    }
+
+    /**
+     * Creates a new command which executes given command only if given bulkhead is not full
+     *
+     * @param command command to decorate
+     * @param bulkhead bulkhead which limits executions
+     * @param <T> type of command input
+     * @param <R> type of command result
+     * @return created bulkhead command
+     */
+    @Nonnull
+    default <T, R> ReactiveCommand<T, R> createBulkheadCommand(final @Nonnull ReactiveCommand<T, R> command,
+                                                               final @Nonnull Bulkhead bulkhead)
+    {
+        Objects.requireNonNull(command, "Command cannot be null");
+        Objects.requireNonNull(bulkhead, "Bulkhead cannot be null");
+
+        return onCreateCommand(new BulkheadCommand<>(command, bulkhead));
+    }
+
+    /**
+     * Creates a new command which disposes executions of given command which have not finished in time
+     *
+     * @param command command to decorate
+     * @param timeout timeout of each execution
+     * @param unit unit of timeout
+     * @param <T> type of command input
+     * @param <R> type of command result
+     * @return created timeout command
+     */
+    @Nonnull
+    default <T, R> ReactiveCommand<T, R> createTimeoutCommand(final @Nonnull ReactiveCommand<T, R> command,
+                                                              final long timeout,
+                                                              final @Nonnull TimeUnit unit)
+    {
+        Objects.requireNonNull(command, "Command cannot be null");
+        Objects.requireNonNull(unit, "Unit cannot be null");
+
+        return createTimeoutCommand(command, timeout, unit, false);
+    }
+
+    /**
+     * Creates a new command which disposes executions of given command which have not finished in time
+     *
+     * @param command command to decorate
+     * @param timeout timeout of each execution
+     * @param unit unit of timeout
+     * @param interrupt whether thread running timed out execution should be interrupted
+     * @param <T> type of command input
+     * @param <R> type of command result
+     * @return created timeout command
+     */
+    @Nonnull
+    default <T, R> ReactiveCommand<T, R> createTimeoutCommand(final @Nonnull ReactiveCommand<T, R> command,
+                                                              final long timeout,
+                                                              final @Nonnull TimeUnit unit,
+                                                              final boolean interrupt)
+    {
+        Objects.requireNonNull(command, "Command cannot be null");
+        Objects.requireNonNull(unit, "Unit cannot be null");
+
+        return onCreateCommand(new TimeoutCommand<>(command, timeout, unit, interrupt, Schedulers.computation()));
+    }
+
+    /**
+     * Returns scheduler used by commands which are created without explicit scheduler
+     * <p>
+     * By default, commands are executed synchronously on the calling thread
+     *
+     * @return default scheduler
+     */
+    @Nonnull
+    default Scheduler getDefaultScheduler()
+    {
+        return Schedulers.trampoline();
+    }
+
+    /**
+     * Returns scheduler for commands which wrap blocking calls
+     * <p>
+     * Each execution runs on its own virtual thread if the runtime supports virtual threads,
+     * otherwise executions run on a shared bounded pool of platform threads
+     *
+     * @return blocking scheduler
+     * @see CommandSchedulers#blocking()
+     */
+    @Nonnull
+    default Scheduler getBlockingScheduler()
+    {
+        return CommandSchedulers.blocking();
+    }
+
     /**
      * Extension method with is called when new command has been created
      *
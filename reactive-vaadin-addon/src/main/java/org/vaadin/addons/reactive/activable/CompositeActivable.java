@@ -17,33 +17,70 @@ import javax.annotation.Nonnull;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import io.reactivex.disposables.CompositeDisposable;
 import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
 import org.vaadin.addons.reactive.Activable;
 
 /**
  * Composite implementation of {@link Activable} for multiple activable
+ * <p>
+ * Activable can be added, activated and deactivated from different threads at once.
+ * All of them are guarded by one lock, so activable added during concurrent activation
+ * is always activated and activable added during concurrent clear is never lost
+ * <p>
+ * Composite activable may have an owner, subscriptions created by its activation are then tracked
+ * by {@link LeakDetection} as subscriptions of the owner
  *
  * @author dohnal
  */
 public final class CompositeActivable implements Activable
 {
+    private final Object lock;
+
+    private final Object owner;
+
+    private final Predicate<Object> isOwnerAlive;
+
     private final List<Activable> activables;
 
     private final CompositeDisposable compositeDisposable;
 
-    private final AtomicBoolean isActivated;
+    private volatile boolean isActivated;
 
     /**
      * Creates new composite activable with empty activable
      */
     public CompositeActivable()
     {
+        this.lock = new Object();
+        this.owner = null;
+        this.isOwnerAlive = null;
+        this.activables = new ArrayList<>();
+        this.compositeDisposable = new CompositeDisposable();
+        this.isActivated = false;
+    }
+
+    /**
+     * Creates new composite activable with empty activable which is owned by given owner
+     *
+     * @param owner owner of subscriptions created by activation, for example view
+     * @param isOwnerAlive predicate which decides whether owner is still alive, it should not capture the owner
+     */
+    public CompositeActivable(final @Nonnull Object owner, final @Nonnull Predicate<Object> isOwnerAlive)
+    {
+        Objects.requireNonNull(owner, "Owner cannot be null");
+        Objects.requireNonNull(isOwnerAlive, "Predicate cannot be null");
+
+        this.lock = new Object();
+        this.owner = owner;
+        this.isOwnerAlive = isOwnerAlive;
         this.activables = new ArrayList<>();
         this.compositeDisposable = new CompositeDisposable();
-        this.isActivated = new AtomicBoolean(false);
+        this.isActivated = false;
     }
 
     /**
@@ -55,12 +92,15 @@ public final class CompositeActivable implements Activable
     {
         Objects.requireNonNull(activable, "Activable cannot be null");
 
-        activables.add(activable);
-        compositeDisposable.add(activable.asDisposable());
-
-        if (isActivated())
+        synchronized (lock)
         {
-            activable.activate();
+            activables.add(activable);
+            compositeDisposable.add(activable.asDisposable());
+
+            if (isActivated())
+            {
+                runWithOwner(activable::activate);
+            }
         }
     }
 
@@ -69,31 +109,103 @@ public final class CompositeActivable implements Activable
      */
     public void clear()
     {
-        deactivate();
+        synchronized (lock)
+        {
+            deactivate();
 
-        activables.clear();
-        compositeDisposable.clear();
+            activables.clear();
+            compositeDisposable.clear();
+        }
     }
 
     @Override
     public void activate()
     {
-        isActivated.set(true);
-        activables.forEach(Activable::activate);
+        synchronized (lock)
+        {
+            isActivated = true;
+            runWithOwner(() -> activables.forEach(Activable::activate));
+        }
+    }
+
+    /**
+     * Activates activable in chunks of given size, each chunk is run by given executor after the previous one
+     * <p>
+     * Activable which are already activated are skipped. Remaining chunks are not run if this composite
+     * activable is deactivated in the meantime
+     *
+     * @param chunkSize maximum number of activable activated by one chunk
+     * @param executor executor of chunks, for example access to UI
+     * @return disposable which stops activation of remaining chunks
+     */
+    @Nonnull
+    public Disposable activate(final int chunkSize, final @Nonnull Consumer<Runnable> executor)
+    {
+        Objects.requireNonNull(executor, "Executor cannot be null");
+
+        if (chunkSize <= 0)
+        {
+            throw new IllegalArgumentException("Chunk size has to be positive");
+        }
+
+        final ChunkActivation activation = new ChunkActivation(chunkSize, executor);
+
+        synchronized (lock)
+        {
+            isActivated = true;
+
+            if (activables.isEmpty())
+            {
+                return activation.cancelled;
+            }
+        }
+
+        executor.accept(activation);
+
+        return activation.cancelled;
+    }
+
+    /**
+     * Returns number of added activable
+     *
+     * @return number of activable
+     */
+    public int size()
+    {
+        synchronized (lock)
+        {
+            return activables.size();
+        }
+    }
+
+    /**
+     * Returns number of added activable which are currently activated
+     *
+     * @return number of activated activable
+     */
+    public int getActivatedCount()
+    {
+        synchronized (lock)
+        {
+            return (int) activables.stream().filter(Activable::isActivated).count();
+        }
     }
 
     @Override
     public void deactivate()
     {
-        isActivated.set(false);
-        activables.forEach(Activable::deactivate);
+        synchronized (lock)
+        {
+            isActivated = false;
+            activables.forEach(Activable::deactivate);
+        }
     }
 
     @Override
     public boolean isActivated()
     {
 
-        return !compositeDisposable.isDisposed() && isActivated.get();
+        return !compositeDisposable.isDisposed() && isActivated;
     }
 
     @Nonnull
@@ -102,4 +214,70 @@ public final class CompositeActivable implements Activable
     {
         return compositeDisposable;
     }
+
+    private void runWithOwner(final @Nonnull Runnable action)
+    {
+        if (owner != null)
+        {
+            LeakDetection.runWithOwner(owner, isOwnerAlive, action);
+        }
+        else
+        {
+            action.run();
+        }
+    }
+
+    private final class ChunkActivation implements Runnable
+    {
+        private final int chunkSize;
+
+        private final Consumer<Runnable> executor;
+
+        private final Disposable cancelled;
+
+        private int cursor;
+
+        ChunkActivation(final int chunkSize, final @Nonnull Consumer<Runnable> executor)
+        {
+            this.chunkSize = chunkSize;
+            this.executor = executor;
+            this.cancelled = Disposables.empty();
+            this.cursor = 0;
+        }
+
+        @Override
+        public void run()
+        {
+            final boolean hasNext;
+
+            synchronized (lock)
+            {
+                if (cancelled.isDisposed() || !isActivated())
+                {
+                    return;
+                }
+
+                final int end = Math.min(cursor + chunkSize, activables.size());
+
+                runWithOwner(() -> {
+                    for (; cursor < end; cursor++)
+                    {
+                        final Activable activable = activables.get(cursor);
+
+                        if (!activable.isActivated())
+                        {
+                            activable.activate();
+                        }
+                    }
+                });
+
+                hasNext = cursor < activables.size();
+            }
+
+            if (hasNext)
+            {
+                executor.accept(this);
+            }
+        }
+    }
 }
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.activable;
+
+import javax.annotation.Nonnull;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import io.reactivex.disposables.Disposable;
+
+/**
+ * Global opt-in detection of subscriptions of bindings which outlive their owner
+ * <p>
+ * Subscriptions created by activation of {@link CompositeActivable} with an owner belong to that owner.
+ * Detection is disabled by default. When it is disabled, binders only read a volatile field
+ * per subscription and subscriptions are not wrapped
+ *
+ * @author dohnal
+ */
+public final class LeakDetection
+{
+    private static final Set<TrackedSubscription> SUBSCRIPTIONS = ConcurrentHashMap.newKeySet();
+
+    private static final ThreadLocal<Owner> OWNER = new ThreadLocal<>();
+
+    private static volatile boolean enabled;
+
+    private LeakDetection()
+    {}
+
+    /**
+     * Returns whether leak detection is enabled
+     *
+     * @return whether leak detection is enabled
+     */
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables leak detection, subscriptions tracked so far are forgotten when it is disabled
+     *
+     * @param enabled whether leak detection should be enabled
+     */
+    public static void setEnabled(final boolean enabled)
+    {
+        LeakDetection.enabled = enabled;
+
+        if (!enabled)
+        {
+            SUBSCRIPTIONS.clear();
+        }
+    }
+
+    /**
+     * Runs given action so that subscriptions created by it are owned by given owner
+     * <p>
+     * Owner is referenced weakly, subscriptions are reported as leaks when the owner is garbage collected
+     * or when given predicate says the owner is no longer alive. The predicate should not capture the owner
+     *
+     * @param owner owner of subscriptions, for example view
+     * @param isOwnerAlive predicate which decides whether owner is still alive
+     * @param action action which creates subscriptions
+     */
+    public static void runWithOwner(final @Nonnull Object owner,
+                                    final @Nonnull Predicate<Object> isOwnerAlive,
+                                    final @Nonnull Runnable action)
+    {
+        Objects.requireNonNull(owner, "Owner cannot be null");
+        Objects.requireNonNull(isOwnerAlive, "Predicate cannot be null");
+        Objects.requireNonNull(action, "Action cannot be null");
+
+        if (!enabled)
+        {
+            action.run();
+
+            return;
+        }
+
+        final Owner previous = OWNER.get();
+
+        OWNER.set(new Owner(owner, isOwnerAlive));
+
+        try
+        {
+            action.run();
+        }
+        finally
+        {
+            if (previous != null)
+            {
+                OWNER.set(previous);
+            }
+            else
+            {
+                OWNER.remove();
+            }
+        }
+    }
+
+    /**
+     * Starts tracking of given subscription if leak detection is enabled
+     *
+     * @param subscription subscription
+     * @return tracked subscription or given subscription if leak detection is disabled
+     */
+    @Nonnull
+    public static Disposable track(final @Nonnull Disposable subscription)
+    {
+        Objects.requireNonNull(subscription, "Subscription cannot be null");
+
+        if (!enabled)
+        {
+            return subscription;
+        }
+
+        final TrackedSubscription trackedSubscription = new TrackedSubscription(subscription, OWNER.get());
+
+        SUBSCRIPTIONS.add(trackedSubscription);
+
+        return trackedSubscription;
+    }
+
+    /**
+     * Returns all tracked subscriptions which have not been disposed yet
+     *
+     * @return live subscriptions
+     */
+    @Nonnull
+    public static List<TrackedSubscription> getLiveSubscriptions()
+    {
+        // Subscriptions of completed observables are disposed without being disposed by binding
+        SUBSCRIPTIONS.removeIf(TrackedSubscription::isDisposed);
+
+        return SUBSCRIPTIONS.stream()
+                .filter(subscription -> !subscription.isDisposed())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns tracked subscriptions which are still alive although their owner is not
+     *
+     * @return leaked subscriptions
+     */
+    @Nonnull
+    public static List<TrackedSubscription> findLeaks()
+    {
+        return getLiveSubscriptions().stream()
+                .filter(TrackedSubscription::isLeaked)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns tracked subscriptions which are still alive and have no owner, their disposables
+     * are often ignored and they live until their source completes
+     *
+     * @return suspicious subscriptions
+     */
+    @Nonnull
+    public static List<TrackedSubscription> findSuspicious()
+    {
+        return getLiveSubscriptions().stream()
+                .filter(TrackedSubscription::isSuspicious)
+                .collect(Collectors.toList());
+    }
+
+    static void untrack(final @Nonnull TrackedSubscription subscription)
+    {
+        SUBSCRIPTIONS.remove(subscription);
+    }
+
+    /**
+     * Owner of subscriptions created in one activation
+     */
+    static final class Owner
+    {
+        private final WeakReference<Object> reference;
+
+        private final String description;
+
+        private final Predicate<Object> isAlive;
+
+        Owner(final @Nonnull Object owner, final @Nonnull Predicate<Object> isAlive)
+        {
+            this.reference = new WeakReference<>(owner);
+            this.description = owner.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(owner));
+            this.isAlive = isAlive;
+        }
+
+        Object get()
+        {
+            return reference.get();
+        }
+
+        @Nonnull
+        String getDescription()
+        {
+            return description;
+        }
+
+        boolean isAlive()
+        {
+            final Object owner = reference.get();
+
+            return owner != null && isAlive.test(owner);
+        }
+    }
+}
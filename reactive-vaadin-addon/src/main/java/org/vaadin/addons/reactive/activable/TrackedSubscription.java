@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.activable;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.reactivex.disposables.Disposable;
+
+/**
+ * Subscription tracked by {@link LeakDetection} together with place where it was created and its owner
+ *
+ * @author dohnal
+ */
+public final class TrackedSubscription implements Disposable
+{
+    private final Disposable subscription;
+
+    private final LeakDetection.Owner owner;
+
+    private final Throwable creation;
+
+    private final String threadName;
+
+    TrackedSubscription(final @Nonnull Disposable subscription, final @Nullable LeakDetection.Owner owner)
+    {
+        this.subscription = subscription;
+        this.owner = owner;
+        this.creation = new Throwable("Subscription created");
+        this.threadName = Thread.currentThread().getName();
+    }
+
+    /**
+     * Returns owner of this subscription
+     *
+     * @return owner or null if subscription has no owner or owner has been garbage collected
+     */
+    @Nullable
+    public Object getOwner()
+    {
+        return owner != null ? owner.get() : null;
+    }
+
+    /**
+     * Returns description of owner of this subscription which is available even after owner is garbage collected
+     *
+     * @return description of owner or null if subscription has no owner
+     */
+    @Nullable
+    public String getOwnerDescription()
+    {
+        return owner != null ? owner.getDescription() : null;
+    }
+
+    /**
+     * Returns stack trace of place where this subscription was created
+     *
+     * @return creation stack trace
+     */
+    @Nonnull
+    public StackTraceElement[] getCreationStackTrace()
+    {
+        return creation.getStackTrace();
+    }
+
+    /**
+     * Returns name of thread which created this subscription
+     *
+     * @return thread name
+     */
+    @Nonnull
+    public String getThreadName()
+    {
+        return threadName;
+    }
+
+    /**
+     * Returns whether this subscription is still alive although its owner is not
+     * <p>
+     * Subscriptions without owner are never reported as leaks, see {@link #isSuspicious()}
+     *
+     * @return whether this subscription leaked
+     */
+    public boolean isLeaked()
+    {
+        return !isDisposed() && owner != null && !owner.isAlive();
+    }
+
+    /**
+     * Returns whether this subscription is alive and has no owner, for example binding created outside
+     * of view whose disposable may have been ignored
+     *
+     * @return whether this subscription is suspicious
+     */
+    public boolean isSuspicious()
+    {
+        return !isDisposed() && owner == null;
+    }
+
+    @Override
+    public void dispose()
+    {
+        subscription.dispose();
+
+        LeakDetection.untrack(this);
+    }
+
+    @Override
+    public boolean isDisposed()
+    {
+        return subscription.isDisposed();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "TrackedSubscription{" +
+                "owner=" + getOwnerDescription() +
+                ", threadName=" + threadName +
+                ", leaked=" + isLeaked() +
+                ", suspicious=" + isSuspicious() +
+                '}';
+    }
+}
@@ -22,6 +22,7 @@ import io.reactivex.Completable;
 import io.reactivex.Observable;
 import io.reactivex.disposables.Disposable;
 import io.reactivex.internal.functions.Functions;
+import org.vaadin.addons.reactive.activable.LeakDetection;
 
 /**
  * Base class for binder implementations
@@ -51,14 +52,14 @@ public abstract class AbstractBinder
         Objects.requireNonNull(observable, "Observable cannot be null");
         Objects.requireNonNull(action, "Action cannot be null");
 
-        return observable
+        return LeakDetection.track(observable
                 .flatMap(value -> Completable
                         .fromRunnable(() -> action.accept(value))
                         .doOnError(errorHandler::accept)
                         .onErrorComplete()
                         .toObservable())
                 .ignoreElements()
-                .subscribe(Functions.EMPTY_ACTION, errorHandler::accept);
+                .subscribe(Functions.EMPTY_ACTION, errorHandler::accept));
     }
 
     @Nonnull
@@ -68,13 +69,13 @@ public abstract class AbstractBinder
         Objects.requireNonNull(observable, "Observable cannot be null");
         Objects.requireNonNull(action, "Action cannot be null");
 
-        return Observable.switchOnNext(observable
+        return LeakDetection.track(Observable.switchOnNext(observable
                 .map(value -> action.apply(value)
                         .ignoreElements()
                         .doOnError(errorHandler::accept)
                         .onErrorComplete()
                         .toObservable()))
                 .ignoreElements()
-                .subscribe(Functions.EMPTY_ACTION, errorHandler::accept);
+                .subscribe(Functions.EMPTY_ACTION, errorHandler::accept));
     }
 }
@@ -20,6 +20,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 import io.reactivex.Observable;
+import io.reactivex.ObservableTransformer;
 import io.reactivex.disposables.Disposable;
 import org.vaadin.addons.reactive.ObservableBinder;
 
@@ -89,4 +90,13 @@ public final class DefaultObservableBinder<T> extends AbstractBinder implements
 
         return subscribeWithErrorHandler(getObservable(), action);
     }
+
+    @Nonnull
+    @Override
+    public ObservableBinder<T> compose(final @Nonnull ObservableTransformer<T, T> transformer)
+    {
+        Objects.requireNonNull(transformer, "Transformer cannot be null");
+
+        return new DefaultObservableBinder<>(getObservable().compose(transformer), errorHandler);
+    }
 }
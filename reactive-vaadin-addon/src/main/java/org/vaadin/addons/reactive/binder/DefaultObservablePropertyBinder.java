@@ -18,6 +18,7 @@ import java.util.Objects;
 import java.util.function.Consumer;
 
 import io.reactivex.Observable;
+import io.reactivex.ObservableTransformer;
 import io.reactivex.disposables.Disposable;
 import io.reactivex.internal.disposables.ListCompositeDisposable;
 import org.vaadin.addons.reactive.IsObservable;
@@ -34,14 +35,25 @@ public final class DefaultObservablePropertyBinder<T> extends AbstractBinder imp
 {
     private final ObservableProperty<T> property;
 
+    private final ObservableTransformer<T, T> transformer;
+
     public DefaultObservablePropertyBinder(final @Nonnull ObservableProperty<T> property,
                                            final @Nonnull Consumer<? super Throwable> errorHandler)
+    {
+        this(property, errorHandler, observable -> observable);
+    }
+
+    private DefaultObservablePropertyBinder(final @Nonnull ObservableProperty<T> property,
+                                            final @Nonnull Consumer<? super Throwable> errorHandler,
+                                            final @Nonnull ObservableTransformer<T, T> transformer)
     {
         super(errorHandler);
 
         Objects.requireNonNull(property, "Property cannot be null");
+        Objects.requireNonNull(transformer, "Transformer cannot be null");
 
         this.property = property;
+        this.transformer = transformer;
     }
 
     @Nonnull
@@ -53,11 +65,23 @@ public final class DefaultObservablePropertyBinder<T> extends AbstractBinder imp
 
     @Nonnull
     @Override
+    public ObservablePropertyBinder<T> compose(final @Nonnull ObservableTransformer<T, T> transformer)
+    {
+        Objects.requireNonNull(transformer, "Transformer cannot be null");
+
+        return new DefaultObservablePropertyBinder<>(property, errorHandler,
+                observable -> observable.compose(this.transformer).compose(transformer));
+    }
+
+    @Nonnull
+    @Override
+    @SuppressWarnings("unchecked")
     public final Disposable to(final @Nonnull Observable<? extends T> observable)
     {
         Objects.requireNonNull(observable, "Observable cannot be null");
 
-        return subscribeWithErrorHandler(observable, getProperty()::setValue);
+        return subscribeWithErrorHandler(((Observable<T>) observable).compose(transformer),
+                getProperty()::setValue);
     }
 
     @Nonnull
@@ -79,7 +103,7 @@ public final class DefaultObservablePropertyBinder<T> extends AbstractBinder imp
                 subscribeWithErrorHandler(getProperty().asObservable(), value -> {
                     getProperty().suppress(() -> anotherProperty.setValue(value));
                 }),
-                subscribeWithErrorHandler(anotherProperty.asObservable(), value -> {
+                subscribeWithErrorHandler(anotherProperty.asObservable().compose(transformer), value -> {
                     anotherProperty.suppress(() -> getProperty().setValue(value));
                 }));
     }
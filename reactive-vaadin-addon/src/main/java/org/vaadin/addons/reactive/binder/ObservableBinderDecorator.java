@@ -20,6 +20,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 import io.reactivex.Observable;
+import io.reactivex.ObservableTransformer;
 import io.reactivex.disposables.Disposable;
 import org.vaadin.addons.reactive.ObservableBinder;
 
@@ -88,4 +89,13 @@ public class ObservableBinderDecorator<T> implements ObservableBinder<T>
 
         return binder.then(action);
     }
+
+    @Nonnull
+    @Override
+    public ObservableBinder<T> compose(final @Nonnull ObservableTransformer<T, T> transformer)
+    {
+        Objects.requireNonNull(transformer, "Transformer cannot be null");
+
+        return binder.compose(transformer);
+    }
 }
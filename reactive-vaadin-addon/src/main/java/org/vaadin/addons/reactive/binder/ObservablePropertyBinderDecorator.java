@@ -17,6 +17,7 @@ import javax.annotation.Nonnull;
 import java.util.Objects;
 
 import io.reactivex.Observable;
+import io.reactivex.ObservableTransformer;
 import io.reactivex.disposables.Disposable;
 import org.vaadin.addons.reactive.IsObservable;
 import org.vaadin.addons.reactive.ObservableProperty;
@@ -78,4 +79,13 @@ public class ObservablePropertyBinderDecorator<T> implements ObservablePropertyB
 
         return binder.to(anotherProperty);
     }
+
+    @Nonnull
+    @Override
+    public ObservablePropertyBinder<T> compose(final @Nonnull ObservableTransformer<T, T> transformer)
+    {
+        Objects.requireNonNull(transformer, "Transformer cannot be null");
+
+        return binder.compose(transformer);
+    }
 }
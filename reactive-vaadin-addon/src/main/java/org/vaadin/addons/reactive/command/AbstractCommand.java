@@ -16,15 +16,19 @@ package org.vaadin.addons.reactive.command;
 import javax.annotation.Nonnull;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
 import io.reactivex.disposables.Disposable;
-import io.reactivex.disposables.SerialDisposable;
 import io.reactivex.subjects.PublishSubject;
 import org.vaadin.addons.reactive.ReactiveCommand;
 import org.vaadin.addons.reactive.ReactiveProperty;
 import org.vaadin.addons.reactive.ReactivePropertyExtension;
 import org.vaadin.addons.reactive.exceptions.CannotExecuteCommandException;
+import org.vaadin.addons.reactive.exceptions.RejectedCommandExecutionException;
+import org.vaadin.addons.reactive.property.LazyProperty;
 
 /**
  * Abstract implementation of {@link ReactiveCommand}
@@ -35,21 +39,31 @@ import org.vaadin.addons.reactive.exceptions.CannotExecuteCommandException;
  */
 public abstract class AbstractCommand<T, R> implements ReactiveCommand<T, R>, ReactivePropertyExtension
 {
-    protected final PublishSubject<R> result;
-
-    protected final PublishSubject<Throwable> error;
-
     protected final ReactiveProperty<Boolean> isExecuting;
 
     protected final ReactiveProperty<Integer> executionCount;
 
-    protected final ReactiveProperty<Boolean> canExecute;
-
     protected final ReactiveProperty<Float> progress;
 
     protected final Observable<Float> customProgress;
 
-    protected SerialDisposable progressDisposable;
+    private final CanExecuteState canExecuteState;
+
+    private volatile ReactiveProperty<Boolean> canExecute;
+
+    private volatile PublishSubject<R> result;
+
+    private volatile PublishSubject<Throwable> error;
+
+    private volatile Disposable progressDisposable;
+
+    private volatile long executionStart;
+
+    private final Object interruptLock = new Object();
+
+    private Thread executingThread;
+
+    private Thread interruptedThread;
 
     /**
      * Creates new command reactive command
@@ -62,23 +76,16 @@ public abstract class AbstractCommand<T, R> implements ReactiveCommand<T, R>, Re
         Objects.requireNonNull(canExecute, "CanExecute cannot be null");
         Objects.requireNonNull(customProgress, "Custom progress cannot be null");
 
-        this.result = PublishSubject.create();
-        this.error = PublishSubject.create();
-        this.isExecuting = createProperty(false);
-        this.executionCount = createProperty(0);
+        // State is materialized lazily when it is observed for the first time
+        this.isExecuting = onCreateProperty(new LazyProperty<>(false));
+        this.executionCount = onCreateProperty(new LazyProperty<>(0));
 
-        // By default, command cannot be executed while it is executing
-        final Observable<Boolean> defaultCanExecute = this.isExecuting.asObservable().map(value -> !value);
-
-        // Combine default command executability with custom one by performing logical and
-        this.canExecute = createPropertyFrom(Observable
-                .combineLatest(defaultCanExecute, canExecute.startWith(true), (x, y) -> x && y));
+        // Command cannot be executed while it is executing or when custom executability is false
+        this.canExecuteState = new CanExecuteState(canExecute);
 
         this.customProgress = customProgress;
 
-        this.progress = createProperty(0.0f);
-
-        this.progressDisposable = new SerialDisposable();
+        this.progress = onCreateProperty(new LazyProperty<>(0.0f));
     }
 
     /**
@@ -93,14 +100,101 @@ public abstract class AbstractCommand<T, R> implements ReactiveCommand<T, R>, Re
     @Override
     public final Observable<R> getResult()
     {
-        return result;
+        return getResultSubject();
     }
 
     @Nonnull
     @Override
     public final Observable<Throwable> getError()
     {
-        return error;
+        return getErrorSubject();
+    }
+
+    /**
+     * Returns property which holds executability of this command, which is created when it is requested
+     * for the first time
+     * <p>
+     * Property is updated whenever executability changes, setting its value does not affect the command
+     *
+     * @return property of executability
+     */
+    @Nonnull
+    protected final ReactiveProperty<Boolean> getCanExecuteProperty()
+    {
+        ReactiveProperty<Boolean> currentCanExecute = canExecute;
+
+        if (currentCanExecute == null)
+        {
+            synchronized (this)
+            {
+                currentCanExecute = canExecute;
+
+                if (currentCanExecute == null)
+                {
+                    currentCanExecute = createPropertyFrom(canExecuteState.asObservable());
+
+                    canExecute = currentCanExecute;
+                }
+            }
+        }
+
+        return currentCanExecute;
+    }
+
+    /**
+     * Returns subject of results, which is created when it is requested for the first time
+     *
+     * @return subject of results
+     */
+    @Nonnull
+    protected final PublishSubject<R> getResultSubject()
+    {
+        PublishSubject<R> currentResult = result;
+
+        if (currentResult == null)
+        {
+            synchronized (this)
+            {
+                currentResult = result;
+
+                if (currentResult == null)
+                {
+                    currentResult = PublishSubject.create();
+
+                    result = currentResult;
+                }
+            }
+        }
+
+        return currentResult;
+    }
+
+    /**
+     * Returns subject of errors, which is created when it is requested for the first time
+     *
+     * @return subject of errors
+     */
+    @Nonnull
+    protected final PublishSubject<Throwable> getErrorSubject()
+    {
+        PublishSubject<Throwable> currentError = error;
+
+        if (currentError == null)
+        {
+            synchronized (this)
+            {
+                currentError = error;
+
+                if (currentError == null)
+                {
+                    currentError = PublishSubject.create();
+
+                    error = currentError;
+                }
+            }
+        }
+
+        return currentError;
     }
 
     @Nonnull
@@ -117,6 +211,33 @@ public abstract class AbstractCommand<T, R> implements ReactiveCommand<T, R>, Re
         return executionCount.asObservable().distinctUntilChanged();
     }
 
+    /**
+     * Returns current number of executions of this command
+     *
+     * @return number of executions
+     */
+    public final int getCurrentExecutionCount()
+    {
+        final Integer count = executionCount.getValue();
+
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Restores number of executions of this command, for example when its view model is deserialized
+     *
+     * @param count number of executions
+     */
+    public final void restoreExecutionCount(final int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Execution count cannot be negative");
+        }
+
+        executionCount.setValue(count);
+    }
+
     @Nonnull
     @Override
     public final Observable<Boolean> hasBeenExecuted()
@@ -128,7 +249,7 @@ public abstract class AbstractCommand<T, R> implements ReactiveCommand<T, R>, Re
     @Override
     public final Observable<Boolean> canExecute()
     {
-        return canExecute.asObservable().distinctUntilChanged();
+        return canExecuteState.asObservable();
     }
 
     @Nonnull
@@ -154,6 +275,70 @@ public abstract class AbstractCommand<T, R> implements ReactiveCommand<T, R>, Re
         return executeInternal(Optional.of(input));
     }
 
+    /**
+     * Schedules execution on given scheduler
+     * <p>
+     * If the scheduler throws {@link RejectedExecutionException}, execution fails
+     * with {@link RejectedCommandExecutionException}. If the scheduler drops the execution by returning
+     * already disposed disposable, execution completes without any result
+     *
+     * @param input input for command execution
+     * @param scheduler scheduler used to schedule execution
+     * @return input stage of execution pipeline
+     */
+    @Nonnull
+    protected final Observable<Optional<T>> scheduleExecution(final @Nonnull Optional<T> input,
+                                                              final @Nonnull Scheduler scheduler)
+    {
+        Objects.requireNonNull(input, "Input cannot be null");
+        Objects.requireNonNull(scheduler, "Scheduler cannot be null");
+
+        return Observable.create(emitter -> {
+            final AtomicBoolean started = new AtomicBoolean(false);
+            final AtomicBoolean scheduling = new AtomicBoolean(true);
+            final Thread caller = Thread.currentThread();
+            final long scheduled = CommandTracing.start();
+
+            try
+            {
+                final Disposable disposable = scheduler.scheduleDirect(() -> {
+                    if (started.compareAndSet(false, true))
+                    {
+                        CommandTracing.end(this, CommandStage.SCHEDULING, scheduled);
+
+                        final Runnable emission = () -> {
+                            emitter.onNext(input);
+                            emitter.onComplete();
+                        };
+
+                        // Execution running inline on the calling thread does not own the thread
+                        if (scheduling.get() && Thread.currentThread() == caller)
+                        {
+                            emission.run();
+                        }
+                        else
+                        {
+                            runInterruptibly(emission);
+                        }
+                    }
+                });
+
+                scheduling.set(false);
+
+                emitter.setDisposable(disposable);
+
+                if (disposable.isDisposed() && started.compareAndSet(false, true))
+                {
+                    emitter.onComplete();
+                }
+            }
+            catch (final RejectedExecutionException e)
+            {
+                emitter.tryOnError(new RejectedCommandExecutionException(this, e));
+            }
+        });
+    }
+
     /**
      * Checks whether command can be executed
      *
@@ -166,7 +351,12 @@ public abstract class AbstractCommand<T, R> implements ReactiveCommand<T, R>, Re
     {
         Objects.requireNonNull(input, "Input cannot be null");
 
-        if (Boolean.TRUE.equals(canExecute.getValue()))
+        final long start = CommandTracing.start();
+        final boolean canExecute = canExecuteState.get();
+
+        CommandTracing.end(this, CommandStage.CAN_EXECUTE_CHECK, start);
+
+        if (canExecute)
         {
             return Observable.just(input);
         }
@@ -174,6 +364,66 @@ public abstract class AbstractCommand<T, R> implements ReactiveCommand<T, R>, Re
         return Observable.error(new CannotExecuteCommandException(this));
     }
 
+    /**
+     * Interrupts thread of scheduler which is running execution, if there is such execution
+     * <p>
+     * Executions which run inline on the calling thread are never interrupted
+     */
+    void interruptExecution()
+    {
+        synchronized (interruptLock)
+        {
+            final Thread thread = executingThread;
+
+            if (thread != null && thread != Thread.currentThread())
+            {
+                interruptedThread = thread;
+
+                thread.interrupt();
+            }
+        }
+    }
+
+    /**
+     * Runs given execution on current scheduler thread, which can be interrupted until the execution returns
+     * <p>
+     * Interrupt status caused by {@link #interruptExecution()} is cleared afterwards, so it does not leak
+     * to other tasks of the same thread
+     *
+     * @param execution execution
+     */
+    private void runInterruptibly(final @Nonnull Runnable execution)
+    {
+        final Thread current = Thread.currentThread();
+
+        synchronized (interruptLock)
+        {
+            executingThread = current;
+        }
+
+        try
+        {
+            execution.run();
+        }
+        finally
+        {
+            synchronized (interruptLock)
+            {
+                if (executingThread == current)
+                {
+                    executingThread = null;
+                }
+
+                if (interruptedThread == current)
+                {
+                    interruptedThread = null;
+
+                    Thread.interrupted();
+                }
+            }
+        }
+    }
+
     /**
      * Handles start of command execution
      *
@@ -183,10 +433,13 @@ public abstract class AbstractCommand<T, R> implements ReactiveCommand<T, R>, Re
     {
         Objects.requireNonNull(input, "Input cannot be null");
 
+        executionStart = CommandTracing.start();
+
         progress.setValue(0.0f);
+        canExecuteState.setExecuting(true);
         isExecuting.setValue(true);
 
-        progressDisposable.set(customProgress.subscribe(progress::setValue));
+        progressDisposable = customProgress.subscribe(progress::setValue);
     }
 
     /**
@@ -198,7 +451,16 @@ public abstract class AbstractCommand<T, R> implements ReactiveCommand<T, R>, Re
     {
         Objects.requireNonNull(result, "Result cannot be null");
 
-        this.result.onNext(result);
+        final PublishSubject<R> currentResult = this.result;
+
+        if (currentResult != null)
+        {
+            final long start = CommandTracing.start();
+
+            currentResult.onNext(result);
+
+            CommandTracing.end(this, CommandStage.RESULT, start);
+        }
     }
 
     /**
@@ -210,9 +472,11 @@ public abstract class AbstractCommand<T, R> implements ReactiveCommand<T, R>, Re
     {
         Objects.requireNonNull(throwable, "Throwable cannot be null");
 
-        if (this.error.hasObservers())
+        final PublishSubject<Throwable> currentError = this.error;
+
+        if (currentError != null && currentError.hasObservers())
         {
-            error.onNext(throwable);
+            currentError.onNext(throwable);
 
             return Observable.empty();
         }
@@ -227,10 +491,17 @@ public abstract class AbstractCommand<T, R> implements ReactiveCommand<T, R>, Re
      */
     protected final void handleComplete()
     {
-        Optional.ofNullable(progressDisposable.get()).ifPresent(Disposable::dispose);
+        CommandTracing.end(this, CommandStage.EXECUTION, executionStart);
+
+        final long start = CommandTracing.start();
+
+        Optional.ofNullable(progressDisposable).ifPresent(Disposable::dispose);
 
         this.progress.setValue(1.0f);
+        this.canExecuteState.setExecuting(false);
         this.isExecuting.setValue(false);
         this.executionCount.updateValue(count -> count + 1);
+
+        CommandTracing.end(this, CommandStage.COMPLETION, start);
     }
 }
@@ -0,0 +1,443 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.command;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.CompositeDisposable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
+import io.reactivex.disposables.SerialDisposable;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * Scheduler which runs at most given number of tasks at once on another scheduler and bounds
+ * the number of tasks waiting to be run
+ * <p>
+ * Scheduler with concurrency of one runs tasks serially in order they were scheduled.
+ * When the queue of waiting tasks is full, new tasks scheduled directly are handled by {@link OverflowPolicy}
+ * <p>
+ * Each worker runs its tasks serially in order they were scheduled by single task on this scheduler,
+ * so tasks of a worker are never rejected or dropped
+ *
+ * @author dohnal
+ */
+public final class BoundedScheduler extends Scheduler
+{
+    private final Scheduler actual;
+
+    private final int maxConcurrency;
+
+    private final int maxQueueDepth;
+
+    private final OverflowPolicy overflowPolicy;
+
+    private final Queue<Runnable> queue;
+
+    private final AtomicInteger queueDepth;
+
+    private final AtomicInteger running;
+
+    private final AtomicLong rejectedCount;
+
+    private final AtomicLong droppedCount;
+
+    /**
+     * Creates new bounded scheduler
+     *
+     * @param actual scheduler which runs tasks
+     * @param maxConcurrency maximum number of tasks running at once
+     * @param maxQueueDepth maximum number of tasks which are scheduled but not running yet
+     */
+    public BoundedScheduler(final @Nonnull Scheduler actual, final int maxConcurrency, final int maxQueueDepth)
+    {
+        this(actual, maxConcurrency, maxQueueDepth, OverflowPolicy.REJECT);
+    }
+
+    /**
+     * Creates new bounded scheduler
+     *
+     * @param actual scheduler which runs tasks
+     * @param maxConcurrency maximum number of tasks running at once
+     * @param maxQueueDepth maximum number of tasks which are scheduled but not running yet
+     * @param overflowPolicy policy which handles new tasks when the queue is full
+     */
+    public BoundedScheduler(final @Nonnull Scheduler actual,
+                            final int maxConcurrency,
+                            final int maxQueueDepth,
+                            final @Nonnull OverflowPolicy overflowPolicy)
+    {
+        Objects.requireNonNull(actual, "Actual scheduler cannot be null");
+        Objects.requireNonNull(overflowPolicy, "Overflow policy cannot be null");
+
+        if (maxConcurrency <= 0)
+        {
+            throw new IllegalArgumentException("Maximum concurrency has to be positive");
+        }
+
+        if (maxQueueDepth <= 0)
+        {
+            throw new IllegalArgumentException("Maximum queue depth has to be positive");
+        }
+
+        this.actual = actual;
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueueDepth = maxQueueDepth;
+        this.overflowPolicy = overflowPolicy;
+        this.queue = new ConcurrentLinkedQueue<>();
+        this.queueDepth = new AtomicInteger(0);
+        this.running = new AtomicInteger(0);
+        this.rejectedCount = new AtomicLong(0);
+        this.droppedCount = new AtomicLong(0);
+    }
+
+    /**
+     * Returns maximum number of tasks which are scheduled but not running yet
+     *
+     * @return maximum queue depth
+     */
+    public int getMaxQueueDepth()
+    {
+        return maxQueueDepth;
+    }
+
+    /**
+     * Returns number of tasks which are scheduled but not running yet, worker with waiting tasks
+     * is counted as one task
+     *
+     * @return queue depth
+     */
+    public int getQueueDepth()
+    {
+        return queueDepth.get();
+    }
+
+    /**
+     * Returns policy which handles new tasks when the queue is full
+     *
+     * @return overflow policy
+     */
+    @Nonnull
+    public OverflowPolicy getOverflowPolicy()
+    {
+        return overflowPolicy;
+    }
+
+    /**
+     * Returns number of tasks which were rejected because the queue was full
+     *
+     * @return number of rejected tasks
+     */
+    public long getRejectedCount()
+    {
+        return rejectedCount.get();
+    }
+
+    /**
+     * Returns number of tasks which were dropped because the queue was full
+     *
+     * @return number of dropped tasks
+     */
+    public long getDroppedCount()
+    {
+        return droppedCount.get();
+    }
+
+    @Nonnull
+    @Override
+    public Worker createWorker()
+    {
+        return new BoundedWorker();
+    }
+
+    @Nonnull
+    @Override
+    public Disposable scheduleDirect(final @Nonnull Runnable run, final long delay, final @Nonnull TimeUnit unit)
+    {
+        Objects.requireNonNull(run, "Run cannot be null");
+        Objects.requireNonNull(unit, "Unit cannot be null");
+
+        final Task task = new Task(RxJavaPlugins.onSchedule(run), null);
+
+        if (delay <= 0)
+        {
+            try
+            {
+                submit(task);
+            }
+            catch (final RejectedExecutionException e)
+            {
+                task.dispose();
+
+                throw e;
+            }
+        }
+        else
+        {
+            task.timer.set(actual.scheduleDirect(() -> {
+                try
+                {
+                    submit(task);
+                }
+                catch (final RejectedExecutionException e)
+                {
+                    task.dispose();
+
+                    RxJavaPlugins.onError(e);
+                }
+            }, delay, unit));
+        }
+
+        return task;
+    }
+
+    private void submit(final @Nonnull Task task)
+    {
+        if (queueDepth.incrementAndGet() > maxQueueDepth)
+        {
+            queueDepth.decrementAndGet();
+
+            if (overflowPolicy == OverflowPolicy.DROP)
+            {
+                droppedCount.incrementAndGet();
+                task.dispose();
+
+                return;
+            }
+
+            rejectedCount.incrementAndGet();
+
+            throw new RejectedExecutionException("Queue of scheduler is full");
+        }
+
+        queue.offer(task);
+
+        drainIfPossible();
+    }
+
+    private void offer(final @Nonnull Runnable run)
+    {
+        queueDepth.incrementAndGet();
+        queue.offer(run);
+
+        drainIfPossible();
+    }
+
+    private void drainIfPossible()
+    {
+        int currentlyRunning;
+
+        while ((currentlyRunning = running.get()) < maxConcurrency && !queue.isEmpty())
+        {
+            if (running.compareAndSet(currentlyRunning, currentlyRunning + 1))
+            {
+                actual.scheduleDirect(this::drain);
+            }
+        }
+    }
+
+    private void drain()
+    {
+        try
+        {
+            Runnable run;
+
+            while ((run = queue.poll()) != null)
+            {
+                queueDepth.decrementAndGet();
+
+                run.run();
+            }
+        }
+        finally
+        {
+            running.decrementAndGet();
+
+            drainIfPossible();
+        }
+    }
+
+    /**
+     * Worker which queues its tasks and runs them serially by single task on the scheduler
+     */
+    private final class BoundedWorker extends Worker implements Runnable
+    {
+        private final CompositeDisposable tasks = new CompositeDisposable();
+
+        private final Queue<Task> workerQueue = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger pendingCount = new AtomicInteger(0);
+
+        @Nonnull
+        @Override
+        public Disposable schedule(final @Nonnull Runnable run, final long delay, final @Nonnull TimeUnit unit)
+        {
+            Objects.requireNonNull(run, "Run cannot be null");
+            Objects.requireNonNull(unit, "Unit cannot be null");
+
+            if (tasks.isDisposed())
+            {
+                return Disposables.disposed();
+            }
+
+            final Task task = new Task(RxJavaPlugins.onSchedule(run), tasks);
+
+            tasks.add(task);
+
+            if (delay <= 0)
+            {
+                enqueue(task);
+            }
+            else
+            {
+                task.timer.set(actual.scheduleDirect(() -> enqueue(task), delay, unit));
+            }
+
+            return task;
+        }
+
+        @Override
+        public void run()
+        {
+            int missed = 1;
+
+            do
+            {
+                Task task;
+
+                while (!tasks.isDisposed() && (task = workerQueue.poll()) != null)
+                {
+                    task.run();
+                }
+
+                if (tasks.isDisposed())
+                {
+                    workerQueue.clear();
+                }
+
+                missed = pendingCount.addAndGet(-missed);
+            }
+            while (missed != 0);
+        }
+
+        @Override
+        public void dispose()
+        {
+            tasks.dispose();
+        }
+
+        @Override
+        public boolean isDisposed()
+        {
+            return tasks.isDisposed();
+        }
+
+        private void enqueue(final @Nonnull Task task)
+        {
+            workerQueue.offer(task);
+
+            // Only one task of the worker is on the scheduler at once
+            if (pendingCount.getAndIncrement() == 0)
+            {
+                offer(this);
+            }
+        }
+    }
+
+    private static final class Task implements Runnable, Disposable
+    {
+        private final Runnable run;
+
+        private final CompositeDisposable parent;
+
+        private final SerialDisposable timer;
+
+        private final AtomicBoolean disposed;
+
+        Task(final @Nonnull Runnable run, final @Nullable CompositeDisposable parent)
+        {
+            this.run = run;
+            this.parent = parent;
+            this.timer = new SerialDisposable();
+            this.disposed = new AtomicBoolean(false);
+        }
+
+        @Override
+        public void run()
+        {
+            if (!disposed.get())
+            {
+                try
+                {
+                    run.run();
+                }
+                catch (final Throwable e)
+                {
+                    RxJavaPlugins.onError(e);
+                }
+                finally
+                {
+                    dispose();
+                }
+            }
+        }
+
+        @Override
+        public void dispose()
+        {
+            if (disposed.compareAndSet(false, true))
+            {
+                timer.dispose();
+
+                if (parent != null)
+                {
+                    parent.delete(this);
+                }
+            }
+        }
+
+        @Override
+        public boolean isDisposed()
+        {
+            return disposed.get();
+        }
+    }
+
+    /**
+     * Policy which handles new tasks when the queue of waiting tasks is full
+     */
+    public enum OverflowPolicy
+    {
+        /**
+         * New task is rejected by throwing {@link RejectedExecutionException}, commands report
+         * such execution through {@link org.vaadin.addons.reactive.ReactiveCommand#getError()}
+         */
+        REJECT,
+
+        /**
+         * New task is silently dropped, commands complete such execution without any result
+         */
+        DROP
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+package org.vaadin.addons.reactive.command;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits number of executions running at once, usually shared by all commands which call
+ * the same backend
+ *
+ * @author dohnal
+ * @see BulkheadCommand
+ */
+public final class Bulkhead
+{
+    private final int maxConcurrency;
+
+    private final AtomicInteger running;
+
+    private final AtomicLong acceptedCount;
+
+    private final AtomicLong rejectedCount;
+
+    /**
+     * Creates new bulkhead
+     *
+     * @param maxConcurrency maximum number of executions running at once
+     */
+    public Bulkhead(final int maxConcurrency)
+    {
+        if (maxConcurrency <= 0)
+        {
+            throw new IllegalArgumentException("Maximum concurrency has to be positive");
+        }
+
+        this.maxConcurrency = maxConcurrency;
+        this.running = new AtomicInteger(0);
+        this.acceptedCount = new AtomicLong(0);
+        this.rejectedCount = new AtomicLong(0);
+    }
+
+    public int getMaxConcurrency()
+    {
+        return maxConcurrency;
+    }
+
+    /**
+     * Returns number of executions which are running now
+     *
+     * @return number of running executions
+     */
+    public int getRunningCount()
+    {
+        return running.get();
+    }
+
+    /**
+     * Returns number of executions which were allowed to run
+     *
+     * @return number of accepted executions
+     */
+    public long getAcceptedCount()
+    {
+        return acceptedCount.get();
+    }
+
+    /**
+     * Returns number of executions which were rejected because too many executions were running
+     *
+     * @return number of rejected executions
+     */
+    public long getRejectedCount()
+    {
+        return rejectedCount.get();
+    }
+
+    /**
+     * Tries to start new execution
+     *
+     * @return whether execution can run
+     */
+    boolean tryAcquire()
+    {
+        int currentlyRunning;
+
+        while ((currentlyRunning = running.get()) < maxConcurrency)
+        {
+            if (running.compareAndSet(currentlyRunning, currentlyRunning + 1))
+            {
+                acceptedCount.incrementAndGet();
+
+                return true;
+            }
+        }
+
+        rejectedCount.incrementAndGet();
+
+        return false;
+    }
+
+    /**
+     * Finishes execution which was started by {@link #tryAcquire()}
+     */
+    void release()
+    {
+        running.decrementAndGet();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+package org.vaadin.addons.reactive.command;
+
+import javax.annotation.Nonnull;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+
+import io.reactivex.Observable;
+import io.reactivex.schedulers.Schedulers;
+import org.vaadin.addons.reactive.ReactiveCommand;
+import org.vaadin.addons.reactive.exceptions.RejectedCommandExecutionException;
+
+/**
+ * Command which executes another command only if its {@link Bulkhead} is not full
+ * <p>
+ * Executions which do not fit into the bulkhead fail immediately with {@link RejectedCommandExecutionException}
+ *
+ * @param <T> type of command input parameter
+ * @param <R> type of command result
+ * @author dohnal
+ */
+public final class BulkheadCommand<T, R> extends DecoratedCommand<T, R>
+{
+    private final ReactiveCommand<T, R> command;
+
+    private final ReactiveCommand<T, R> delegate;
+
+    private final Bulkhead bulkhead;
+
+    /**
+     * Creates new bulkhead command
+     *
+     * @param command decorated command
+     * @param bulkhead bulkhead which limits executions
+     */
+    public BulkheadCommand(final @Nonnull ReactiveCommand<T, R> command, final @Nonnull Bulkhead bulkhead)
+    {
+        Objects.requireNonNull(command, "Command cannot be null");
+        Objects.requireNonNull(bulkhead, "Bulkhead cannot be null");
+
+        this.command = command;
+        this.bulkhead = bulkhead;
+
+        this.delegate = new Command<>(command.canExecute(), command.getProgress(), this::executeInBulkhead,
+                Schedulers.trampoline());
+    }
+
+    @Nonnull
+    public Bulkhead getBulkhead()
+    {
+        return bulkhead;
+    }
+
+    @Nonnull
+    @Override
+    protected ReactiveCommand<T, R> getDelegate()
+    {
+        return delegate;
+    }
+
+    @Nonnull
+    private Observable<R> executeInBulkhead(final T input)
+    {
+        if (!bulkhead.tryAcquire())
+        {
+            return Observable.error(new RejectedCommandExecutionException(this,
+                    new RejectedExecutionException("Bulkhead is full")));
+        }
+
+        return executeDecorated(command, input).doFinally(bulkhead::release);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.command;
+
+import javax.annotation.Nonnull;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Observable;
+import io.reactivex.subjects.BehaviorSubject;
+
+/**
+ * Holds executability of a command combined from whether the command is executing
+ * and from custom CanExecute observable
+ * <p>
+ * Value is emitted only when it changes and all subscribers share the same observable.
+ * Changes are emitted without holding any lock, one thread at a time and always with the latest value
+ *
+ * @author dohnal
+ */
+final class CanExecuteState
+{
+    private final BehaviorSubject<Boolean> subject;
+
+    private final Observable<Boolean> observable;
+
+    private final AtomicInteger pendingCount;
+
+    private volatile boolean executing;
+
+    private volatile boolean enabled;
+
+    private volatile Throwable error;
+
+    private boolean emitted;
+
+    private boolean terminated;
+
+    CanExecuteState(final @Nonnull Observable<Boolean> canExecute)
+    {
+        Objects.requireNonNull(canExecute, "CanExecute cannot be null");
+
+        this.subject = BehaviorSubject.createDefault(true);
+        this.observable = subject.hide();
+        this.pendingCount = new AtomicInteger();
+        this.executing = false;
+        this.enabled = true;
+        this.error = null;
+        this.emitted = true;
+        this.terminated = false;
+
+        canExecute.subscribe(this::setEnabled, this::setError);
+    }
+
+    /**
+     * Returns whether the command can be executed
+     *
+     * @return whether the command can be executed
+     */
+    boolean get()
+    {
+        return error == null && !executing && enabled;
+    }
+
+    /**
+     * Returns observable which emits current executability and its changes
+     *
+     * @return observable
+     */
+    @Nonnull
+    Observable<Boolean> asObservable()
+    {
+        return observable;
+    }
+
+    void setExecuting(final boolean executing)
+    {
+        this.executing = executing;
+
+        emitIfChanged();
+    }
+
+    private void setEnabled(final @Nonnull Boolean enabled)
+    {
+        this.enabled = Boolean.TRUE.equals(enabled);
+
+        emitIfChanged();
+    }
+
+    private void setError(final @Nonnull Throwable error)
+    {
+        this.error = error;
+
+        emitIfChanged();
+    }
+
+    private void emitIfChanged()
+    {
+        // Only one thread emits, other threads only request another pass with the latest state
+        if (pendingCount.getAndIncrement() != 0)
+        {
+            return;
+        }
+
+        int missed = 1;
+
+        do
+        {
+            if (!terminated)
+            {
+                final Throwable currentError = error;
+
+                if (currentError != null)
+                {
+                    terminated = true;
+
+                    subject.onError(currentError);
+                }
+                else
+                {
+                    final boolean value = get();
+
+                    if (value != emitted)
+                    {
+                        emitted = value;
+
+                        subject.onNext(value);
+                    }
+                }
+            }
+
+            missed = pendingCount.addAndGet(-missed);
+        }
+        while (missed != 0);
+    }
+}
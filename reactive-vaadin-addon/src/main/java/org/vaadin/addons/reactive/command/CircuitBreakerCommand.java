@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+package org.vaadin.addons.reactive.command;
+
+import javax.annotation.Nonnull;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.SerialDisposable;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.subjects.BehaviorSubject;
+import org.vaadin.addons.reactive.ReactiveCommand;
+import org.vaadin.addons.reactive.exceptions.CannotExecuteCommandException;
+import org.vaadin.addons.reactive.exceptions.CircuitBreakerOpenException;
+
+/**
+ * Command which stops executing another command after given number of consecutive failures
+ * <p>
+ * While the circuit is open, command cannot be executed and its executions fail immediately
+ * with {@link CircuitBreakerOpenException}. After open duration, one trial execution is allowed,
+ * which either closes the circuit or opens it again
+ *
+ * @param <T> type of command input parameter
+ * @param <R> type of command result
+ * @author dohnal
+ */
+public final class CircuitBreakerCommand<T, R> extends DecoratedCommand<T, R>
+{
+    private final ReactiveCommand<T, R> command;
+
+    private final ReactiveCommand<T, R> delegate;
+
+    private final int failureThreshold;
+
+    private final long openDuration;
+
+    private final TimeUnit unit;
+
+    private final Scheduler scheduler;
+
+    private final BehaviorSubject<State> state;
+
+    private final SerialDisposable timer;
+
+    private final AtomicLong failureCount;
+
+    private final AtomicLong rejectedCount;
+
+    private final AtomicLong openCount;
+
+    private int consecutiveFailures;
+
+    /**
+     * Creates new circuit breaker command
+     *
+     * @param command decorated command
+     * @param failureThreshold number of consecutive failures which opens the circuit
+     * @param openDuration how long the circuit stays open
+     * @param unit unit of open duration
+     * @param scheduler scheduler used to close the circuit after open duration
+     */
+    public CircuitBreakerCommand(final @Nonnull ReactiveCommand<T, R> command,
+                                 final int failureThreshold,
+                                 final long openDuration,
+                                 final @Nonnull TimeUnit unit,
+                                 final @Nonnull Scheduler scheduler)
+    {
+        Objects.requireNonNull(command, "Command cannot be null");
+        Objects.requireNonNull(unit, "Unit cannot be null");
+        Objects.requireNonNull(scheduler, "Scheduler cannot be null");
+
+        if (failureThreshold <= 0)
+        {
+            throw new IllegalArgumentException("Failure threshold has to be positive");
+        }
+
+        if (openDuration <= 0)
+        {
+            throw new IllegalArgumentException("Open duration has to be positive");
+        }
+
+        this.command = command;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.unit = unit;
+        this.scheduler = scheduler;
+        this.state = BehaviorSubject.createDefault(State.CLOSED);
+        this.timer = new SerialDisposable();
+        this.failureCount = new AtomicLong(0);
+        this.rejectedCount = new AtomicLong(0);
+        this.openCount = new AtomicLong(0);
+
+        this.delegate = new Command<>(command.canExecute(), command.getProgress(), this::executeWithBreaker,
+                Schedulers.trampoline());
+    }
+
+    /**
+     * Returns observable of circuit state
+     *
+     * @return observable of circuit state
+     */
+    @Nonnull
+    public Observable<State> getState()
+    {
+        return state.distinctUntilChanged();
+    }
+
+    /**
+     * Returns current circuit state
+     *
+     * @return current circuit state
+     */
+    @Nonnull
+    public State getCurrentState()
+    {
+        return state.getValue();
+    }
+
+    /**
+     * Returns number of all failed executions of decorated command
+     *
+     * @return number of failures
+     */
+    public long getFailureCount()
+    {
+        return failureCount.get();
+    }
+
+    /**
+     * Returns number of executions which failed immediately because the circuit was open
+     *
+     * @return number of rejected executions
+     */
+    public long getRejectedCount()
+    {
+        return rejectedCount.get();
+    }
+
+    /**
+     * Returns how many times the circuit has been opened
+     *
+     * @return number of openings
+     */
+    public long getOpenCount()
+    {
+        return openCount.get();
+    }
+
+    @Nonnull
+    @Override
+    public Observable<Boolean> canExecute()
+    {
+        return Observable.combineLatest(super.canExecute(), getState(),
+                (canExecute, currentState) -> canExecute && currentState != State.OPEN)
+                .distinctUntilChanged();
+    }
+
+    @Nonnull
+    @Override
+    protected ReactiveCommand<T, R> getDelegate()
+    {
+        return delegate;
+    }
+
+    @Nonnull
+    private Observable<R> executeWithBreaker(final T input)
+    {
+        if (state.getValue() == State.OPEN)
+        {
+            rejectedCount.incrementAndGet();
+
+            return Observable.error(new CircuitBreakerOpenException(this));
+        }
+
+        return executeDecorated(command, input)
+                .doOnError(this::handleFailure)
+                .doOnComplete(this::handleSuccess);
+    }
+
+    private synchronized void handleFailure(final @Nonnull Throwable error)
+    {
+        if (error instanceof CannotExecuteCommandException)
+        {
+            return;
+        }
+
+        failureCount.incrementAndGet();
+        consecutiveFailures++;
+
+        if (state.getValue() == State.HALF_OPEN || consecutiveFailures >= failureThreshold)
+        {
+            openCount.incrementAndGet();
+            state.onNext(State.OPEN);
+
+            timer.set(scheduler.scheduleDirect(this::handleOpenDurationElapsed, openDuration, unit));
+        }
+    }
+
+    private synchronized void handleSuccess()
+    {
+        consecutiveFailures = 0;
+
+        if (state.getValue() != State.CLOSED)
+        {
+            state.onNext(State.CLOSED);
+        }
+    }
+
+    private synchronized void handleOpenDurationElapsed()
+    {
+        if (state.getValue() == State.OPEN)
+        {
+            state.onNext(State.HALF_OPEN);
+        }
+    }
+
+    /**
+     * State of circuit
+     */
+    public enum State
+    {
+        /**
+         * Executions are passed to decorated command
+         */
+        CLOSED,
+
+        /**
+         * Executions fail immediately
+         */
+        OPEN,
+
+        /**
+         * Next execution is a trial which decides whether the circuit will be closed or opened again
+         */
+        HALF_OPEN
+    }
+}
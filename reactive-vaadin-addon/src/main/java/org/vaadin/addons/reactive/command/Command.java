@@ -70,8 +70,7 @@ public final class Command<T, R> extends AbstractCommand<T, R>
     {
         Objects.requireNonNull(input, "Input cannot be null");
 
-        return Observable.just(input)
-                .subscribeOn(scheduler)
+        return scheduleExecution(input, scheduler)
                 .flatMap(this::checkCanExecute)
                 .flatMap(value -> execution.apply(value.orElse(null))
                         .doOnSubscribe(disposable -> handleStart(value))
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.command;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * Schedulers suitable for executions of commands
+ *
+ * @author dohnal
+ */
+public final class CommandSchedulers
+{
+    public static final int DEFAULT_MAX_PLATFORM_THREADS = 64;
+
+    public static final String THREAD_NAME_PREFIX = "reactive-command-";
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private CommandSchedulers()
+    {}
+
+    /**
+     * Returns shared scheduler for blocking executions, for example JDBC or HTTP calls
+     * <p>
+     * Each execution runs on its own virtual thread if the runtime supports virtual threads,
+     * otherwise executions run on a bounded pool of {@link #DEFAULT_MAX_PLATFORM_THREADS} daemon threads
+     *
+     * @return blocking scheduler
+     */
+    @Nonnull
+    public static Scheduler blocking()
+    {
+        return BlockingHolder.INSTANCE;
+    }
+
+    /**
+     * Creates new scheduler for blocking executions
+     * <p>
+     * Each execution runs on its own virtual thread if the runtime supports virtual threads,
+     * otherwise executions run on a bounded pool of daemon threads
+     *
+     * @param maxPlatformThreads maximum number of platform threads used if virtual threads are not supported
+     * @return blocking scheduler
+     */
+    @Nonnull
+    public static Scheduler blocking(final int maxPlatformThreads)
+    {
+        if (maxPlatformThreads <= 0)
+        {
+            throw new IllegalArgumentException("Maximum number of platform threads has to be positive");
+        }
+
+        final ExecutorService virtualThreadExecutor = createVirtualThreadExecutor();
+
+        return Schedulers.from(virtualThreadExecutor != null ?
+                virtualThreadExecutor : createPlatformThreadExecutor(maxPlatformThreads));
+    }
+
+    /**
+     * Returns whether the runtime supports virtual threads
+     *
+     * @return whether virtual threads are supported
+     */
+    public static boolean isVirtualThreadSupported()
+    {
+        return VirtualThreadHolder.SUPPORTED;
+    }
+
+    @Nullable
+    private static ExecutorService createVirtualThreadExecutor()
+    {
+        if (!isVirtualThreadSupported())
+        {
+            return null;
+        }
+
+        try
+        {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        }
+        catch (final ReflectiveOperationException | RuntimeException e)
+        {
+            return null;
+        }
+    }
+
+    @Nonnull
+    private static ExecutorService createPlatformThreadExecutor(final int maxThreads)
+    {
+        final AtomicInteger threadCount = new AtomicInteger(0);
+
+        final ThreadFactory threadFactory = runnable -> {
+            final Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+
+            thread.setDaemon(true);
+
+            return thread;
+        };
+
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+
+        executor.allowCoreThreadTimeOut(true);
+
+        return executor;
+    }
+
+    private static final class VirtualThreadHolder
+    {
+        private static final boolean SUPPORTED = isSupported();
+
+        private static boolean isSupported()
+        {
+            try
+            {
+                final ExecutorService executor = (ExecutorService) Executors.class
+                        .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+
+                executor.shutdown();
+
+                return true;
+            }
+            catch (final ReflectiveOperationException | RuntimeException | LinkageError e)
+            {
+                return false;
+            }
+        }
+    }
+
+    private static final class BlockingHolder
+    {
+        private static final Scheduler INSTANCE = blocking(DEFAULT_MAX_PLATFORM_THREADS);
+    }
+}
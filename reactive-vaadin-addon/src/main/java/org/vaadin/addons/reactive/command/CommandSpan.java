@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+package org.vaadin.addons.reactive.command;
+
+import javax.annotation.Nonnull;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.vaadin.addons.reactive.ReactiveCommand;
+
+/**
+ * Single traced stage of command execution
+ * <p>
+ * Span identifies its command only by class and name, so kept spans do not hold commands
+ * and their view models in memory
+ *
+ * @author dohnal
+ */
+public final class CommandSpan
+{
+    private final Class<?> commandClass;
+
+    private final String commandName;
+
+    private final CommandStage stage;
+
+    private final String threadName;
+
+    private final long startNanos;
+
+    private final long durationNanos;
+
+    public CommandSpan(final @Nonnull ReactiveCommand<?, ?> command,
+                       final @Nonnull CommandStage stage,
+                       final @Nonnull String threadName,
+                       final long startNanos,
+                       final long durationNanos)
+    {
+        Objects.requireNonNull(command, "Command cannot be null");
+        Objects.requireNonNull(stage, "Stage cannot be null");
+        Objects.requireNonNull(threadName, "Thread name cannot be null");
+
+        this.commandClass = command.getClass();
+        this.commandName = command.getClass().getSimpleName() + "@" +
+                Integer.toHexString(System.identityHashCode(command));
+        this.stage = stage;
+        this.threadName = threadName;
+        this.startNanos = startNanos;
+        this.durationNanos = durationNanos;
+    }
+
+    @Nonnull
+    public Class<?> getCommandClass()
+    {
+        return commandClass;
+    }
+
+    /**
+     * Returns name of command which distinguishes commands of the same class,
+     * composed of simple class name and identity hash code
+     *
+     * @return command name
+     */
+    @Nonnull
+    public String getCommandName()
+    {
+        return commandName;
+    }
+
+    @Nonnull
+    public CommandStage getStage()
+    {
+        return stage;
+    }
+
+    /**
+     * Returns name of thread which has finished the stage
+     *
+     * @return thread name
+     */
+    @Nonnull
+    public String getThreadName()
+    {
+        return threadName;
+    }
+
+    /**
+     * Returns start of the stage as returned by {@link System#nanoTime()}
+     *
+     * @return start in nanoseconds
+     */
+    public long getStartNanos()
+    {
+        return startNanos;
+    }
+
+    public long getDurationNanos()
+    {
+        return durationNanos;
+    }
+
+    public long getDuration(final @Nonnull TimeUnit unit)
+    {
+        Objects.requireNonNull(unit, "Unit cannot be null");
+
+        return unit.convert(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "CommandSpan{" +
+                "command=" + commandName +
+                ", stage=" + stage +
+                ", threadName='" + threadName + '\'' +
+                ", durationNanos=" + durationNanos +
+                '}';
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+package org.vaadin.addons.reactive.command;
+
+/**
+ * Stages of command execution pipeline which are traced by {@link CommandTracer}
+ *
+ * @author dohnal
+ */
+public enum CommandStage
+{
+    /**
+     * Time from subscribing to execution until the scheduler starts it
+     */
+    SCHEDULING,
+
+    /**
+     * Checking whether command can be executed
+     */
+    CAN_EXECUTE_CHECK,
+
+    /**
+     * Execution itself, including emitting its results
+     */
+    EXECUTION,
+
+    /**
+     * Emitting single result to observers of command result
+     */
+    RESULT,
+
+    /**
+     * Updating command state after execution has finished
+     */
+    COMPLETION
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+package org.vaadin.addons.reactive.command;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Receives spans of traced stages of command executions
+ * <p>
+ * Tracer is called synchronously on the thread which has run the stage, so it should be fast and thread-safe
+ *
+ * @author dohnal
+ * @see CommandTracing#setTracer(CommandTracer)
+ */
+@FunctionalInterface
+public interface CommandTracer
+{
+    /**
+     * Called when traced stage of command execution has finished
+     *
+     * @param span span of the stage
+     */
+    void onSpan(final @Nonnull CommandSpan span);
+}
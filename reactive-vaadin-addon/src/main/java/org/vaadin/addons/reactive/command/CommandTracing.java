@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+package org.vaadin.addons.reactive.command;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.vaadin.addons.reactive.ReactiveCommand;
+
+/**
+ * Global opt-in tracing of command executions
+ * <p>
+ * Tracing is disabled by default. When no tracer is set, commands only read a volatile field per stage
+ *
+ * @author dohnal
+ */
+public final class CommandTracing
+{
+    private static volatile CommandTracer tracer;
+
+    private CommandTracing()
+    {}
+
+    /**
+     * Returns current tracer
+     *
+     * @return current tracer or null if tracing is disabled
+     */
+    @Nullable
+    public static CommandTracer getTracer()
+    {
+        return tracer;
+    }
+
+    /**
+     * Sets tracer which receives spans of all command executions
+     *
+     * @param tracer tracer or null to disable tracing
+     */
+    public static void setTracer(final @Nullable CommandTracer tracer)
+    {
+        CommandTracing.tracer = tracer;
+    }
+
+    /**
+     * Returns start of a span if tracing is enabled
+     *
+     * @return start of a span or zero if tracing is disabled
+     */
+    static long start()
+    {
+        return tracer != null ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Reports span which has started at given time if tracing is enabled
+     *
+     * @param command traced command
+     * @param stage traced stage
+     * @param startNanos start of the span returned by {@link #start()}
+     */
+    static void end(final @Nonnull ReactiveCommand<?, ?> command,
+                    final @Nonnull CommandStage stage,
+                    final long startNanos)
+    {
+        final CommandTracer currentTracer = tracer;
+
+        if (currentTracer != null && startNanos != 0L)
+        {
+            currentTracer.onSpan(new CommandSpan(command, stage, Thread.currentThread().getName(),
+                    startNanos, System.nanoTime() - startNanos));
+        }
+    }
+}
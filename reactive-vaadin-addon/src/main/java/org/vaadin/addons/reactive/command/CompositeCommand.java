@@ -64,7 +64,31 @@ public final class CompositeCommand<T, R> implements ReactiveCommand<T, List<R>>
 
         this.commands = commands;
 
-        final Observable<Boolean> compositeCanExecute = Observable.combineLatest(
+        final Observable<Boolean> compositeCanExecute = createCanExecute(canExecute, commands);
+        final Observable<Float> compositeProgress = createProgress(commands);
+
+        final Function<T, Observable<List<R>>> compositeExecution = input -> Observable
+                .just(Optional.ofNullable(input))
+                .flatMap(value -> Observable.concat(getChildExecutions(value)))
+                .map(Arrays::asList)
+                .reduce((x, y) -> Stream.concat(x.stream(), y.stream()).collect(Collectors.toList()))
+                .toObservable();
+
+        this.compositeCommand = new Command<>(compositeCanExecute, compositeProgress, compositeExecution, scheduler);
+    }
+
+    /**
+     * Creates executability of composite command which can be executed only if all child commands can be executed
+     *
+     * @param canExecute observable which controls composite command executability
+     * @param commands child commands
+     * @return composite executability
+     */
+    @Nonnull
+    static Observable<Boolean> createCanExecute(final @Nonnull Observable<Boolean> canExecute,
+                                                final @Nonnull List<? extends ReactiveCommand<?, ?>> commands)
+    {
+        return Observable.combineLatest(
                 canExecute.startWith(true).distinctUntilChanged(),
                 Observable.combineLatest(
                         commands.stream()
@@ -76,8 +100,18 @@ public final class CompositeCommand<T, R> implements ReactiveCommand<T, List<R>>
                         values -> Arrays.stream(Arrays.copyOf(values, values.length, Boolean[].class))
                                 .allMatch(Boolean.TRUE::equals)),
                 (x, y) -> x && y);
+    }
 
-        final Observable<Float> compositeProgress = Observable
+    /**
+     * Creates progress of composite command as average progress of executing child commands
+     *
+     * @param commands child commands
+     * @return composite progress
+     */
+    @Nonnull
+    static Observable<Float> createProgress(final @Nonnull List<? extends ReactiveCommand<?, ?>> commands)
+    {
+        return Observable
                 .combineLatest(commands.stream()
                                 .map(command -> command.getProgress()
                                         .withLatestFrom(command.isExecuting().take(3), AbstractMap.SimpleImmutableEntry::new)
@@ -85,16 +119,8 @@ public final class CompositeCommand<T, R> implements ReactiveCommand<T, List<R>>
                                         .map(AbstractMap.SimpleImmutableEntry::getKey)
                                         .startWith(0.0f))
                                 .collect(Collectors.toList()),
-                        values -> computeProgress(Arrays.copyOf(values, values.length, Float[].class)));
-
-        final Function<T, Observable<List<R>>> compositeExecution = input -> Observable
-                .just(Optional.ofNullable(input))
-                .flatMap(value -> Observable.concat(getChildExecutions(value)))
-                .map(Arrays::asList)
-                .reduce((x, y) -> Stream.concat(x.stream(), y.stream()).collect(Collectors.toList()))
-                .toObservable();
-
-        this.compositeCommand = new Command<>(compositeCanExecute, compositeProgress, compositeExecution, scheduler);
+                        values -> Arrays.stream(Arrays.copyOf(values, values.length, Float[].class))
+                                .reduce(0.0f, (x, y) -> x + y) / commands.size());
     }
 
     @Nonnull
@@ -183,14 +209,6 @@ public final class CompositeCommand<T, R> implements ReactiveCommand<T, List<R>>
         });
     }
 
-    @Nonnull
-    private Float computeProgress(final @Nonnull Float... values)
-    {
-        Objects.requireNonNull(values, "Values cannot be null");
-
-        return Arrays.stream(values).reduce(0.0f, (x, y) -> x + y) / commands.size();
-    }
-
     @Nonnull
     private Throwable correctCanExecuteException(final @Nonnull Throwable error)
     {
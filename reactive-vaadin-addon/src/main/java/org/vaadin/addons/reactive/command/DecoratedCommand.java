@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+package org.vaadin.addons.reactive.command;
+
+import javax.annotation.Nonnull;
+import java.util.Objects;
+
+import io.reactivex.Observable;
+import org.vaadin.addons.reactive.ReactiveCommand;
+import org.vaadin.addons.reactive.exceptions.CannotExecuteCommandException;
+
+/**
+ * Base of commands which decorate executions of other commands
+ * <p>
+ * Decorated commands should not have any observer of their error, otherwise their failed
+ * executions complete without error and cannot be handled
+ *
+ * @param <T> type of command input parameter
+ * @param <R> type of command result
+ * @author dohnal
+ */
+abstract class DecoratedCommand<T, R> implements ReactiveCommand<T, R>
+{
+    /**
+     * Returns command which executes decorated executions
+     *
+     * @return delegate command
+     */
+    @Nonnull
+    protected abstract ReactiveCommand<T, R> getDelegate();
+
+    /**
+     * Executes decorated command
+     *
+     * @param command decorated command
+     * @param input input for command execution or null if there is no input
+     * @return execution of decorated command
+     */
+    @Nonnull
+    protected static <T, R> Observable<R> executeDecorated(final @Nonnull ReactiveCommand<T, R> command,
+                                                           final T input)
+    {
+        Objects.requireNonNull(command, "Command cannot be null");
+
+        return input != null ? command.execute(input) : command.execute();
+    }
+
+    @Nonnull
+    @Override
+    public Observable<R> getResult()
+    {
+        return getDelegate().getResult();
+    }
+
+    @Nonnull
+    @Override
+    public Observable<Throwable> getError()
+    {
+        return getDelegate().getError().map(this::correctCanExecuteException);
+    }
+
+    @Nonnull
+    @Override
+    public Observable<Boolean> isExecuting()
+    {
+        return getDelegate().isExecuting();
+    }
+
+    @Nonnull
+    @Override
+    public Observable<Integer> getExecutionCount()
+    {
+        return getDelegate().getExecutionCount();
+    }
+
+    @Nonnull
+    @Override
+    public Observable<Boolean> hasBeenExecuted()
+    {
+        return getDelegate().hasBeenExecuted();
+    }
+
+    @Nonnull
+    @Override
+    public Observable<Boolean> canExecute()
+    {
+        return getDelegate().canExecute();
+    }
+
+    @Nonnull
+    @Override
+    public Observable<Float> getProgress()
+    {
+        return getDelegate().getProgress();
+    }
+
+    @Nonnull
+    @Override
+    public Observable<R> execute()
+    {
+        return getDelegate().execute().onErrorResumeNext(error -> {
+            return Observable.error(correctCanExecuteException(error));
+        });
+    }
+
+    @Nonnull
+    @Override
+    public Observable<R> execute(final @Nonnull T input)
+    {
+        Objects.requireNonNull(input, "Input cannot be null");
+
+        return getDelegate().execute(input).onErrorResumeNext(error -> {
+            return Observable.error(correctCanExecuteException(error));
+        });
+    }
+
+    @Nonnull
+    private Throwable correctCanExecuteException(final @Nonnull Throwable error)
+    {
+        if (error instanceof CannotExecuteCommandException)
+        {
+            if (((CannotExecuteCommandException) error).getCommand().equals(getDelegate()))
+            {
+                return new CannotExecuteCommandException(this);
+            }
+        }
+
+        return error;
+    }
+}
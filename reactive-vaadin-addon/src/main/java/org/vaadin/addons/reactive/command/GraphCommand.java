@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+package org.vaadin.addons.reactive.command;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import io.reactivex.Maybe;
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.subjects.MaybeSubject;
+import org.vaadin.addons.reactive.ReactiveCommand;
+
+/**
+ * Command which executes graph of commands where some commands depend on results of others
+ * <p>
+ * Each node starts as soon as all its dependencies have finished, so independent branches run
+ * in parallel if their commands are executed on concurrent schedulers. When a node fails, nodes depending
+ * on it are not executed, other branches finish and the execution fails with the first error
+ *
+ * @param <T> type of command input parameter
+ * @author dohnal
+ */
+public final class GraphCommand<T> extends DecoratedCommand<T, GraphResult>
+{
+    private final List<Node<?>> nodes;
+
+    private final ReactiveCommand<T, GraphResult> delegate;
+
+    private GraphCommand(final @Nonnull Observable<Boolean> canExecute,
+                         final @Nonnull List<Node<?>> nodes,
+                         final @Nonnull Scheduler scheduler)
+    {
+        this.nodes = nodes;
+
+        final List<ReactiveCommand<?, ?>> commands = nodes.stream()
+                .map(node -> node.command)
+                .collect(Collectors.toList());
+
+        this.delegate = new Command<>(CompositeCommand.createCanExecute(canExecute, commands),
+                CompositeCommand.createProgress(commands), this::executeGraph, scheduler);
+    }
+
+    /**
+     * Creates new builder of graph command
+     *
+     * @param <T> type of command input parameter
+     * @return builder
+     */
+    @Nonnull
+    public static <T> Builder<T> builder()
+    {
+        return new Builder<>();
+    }
+
+    @Nonnull
+    @Override
+    protected ReactiveCommand<T, GraphResult> getDelegate()
+    {
+        return delegate;
+    }
+
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    private Observable<GraphResult> executeGraph(final T input)
+    {
+        final Map<Node<?>, Optional<Object>> results = new ConcurrentHashMap<>();
+        final Map<Node<?>, Maybe<Optional<Object>>> executions = new HashMap<>();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final MaybeSubject<Boolean> cancelled = MaybeSubject.create();
+
+        for (final Node<?> node : nodes)
+        {
+            final Maybe<Optional<Object>> execution;
+
+            if (node.dependencies.isEmpty())
+            {
+                execution = executeNode((ReactiveCommand<Object, ?>) node.command, input);
+            }
+            else
+            {
+                execution = Maybe.zip(node.dependencies.stream().map(executions::get).collect(Collectors.toList()),
+                        values -> Boolean.TRUE)
+                        .flatMap(ready -> executeNode((ReactiveCommand<Object, ?>) node.command,
+                                node.input.apply(new GraphResult(results))));
+            }
+
+            executions.put(node, execution
+                    .doOnSuccess(result -> results.put(node, result))
+                    .onErrorResumeNext(error -> {
+                        failure.compareAndSet(null, error);
+
+                        return Maybe.empty();
+                    })
+                    .takeUntil(cancelled)
+                    .cache());
+        }
+
+        return Observable.merge(executions.values().stream().map(Maybe::toObservable).collect(Collectors.toList()))
+                .ignoreElements()
+                .andThen(Observable.defer(() -> failure.get() != null ?
+                        Observable.<GraphResult>error(failure.get()) :
+                        Observable.just(new GraphResult(results))))
+                .doOnDispose(() -> cancelled.onSuccess(Boolean.TRUE));
+    }
+
+    @Nonnull
+    private static Maybe<Optional<Object>> executeNode(final @Nonnull ReactiveCommand<Object, ?> command,
+                                                      final Object input)
+    {
+        return executeDecorated(command, input)
+                .map(Optional::<Object>of)
+                .last(Optional.empty())
+                .toMaybe();
+    }
+
+    /**
+     * Node of graph which executes one command
+     *
+     * @param <R> type of command result
+     */
+    public static final class Node<R>
+    {
+        private final Builder<?> builder;
+
+        private final ReactiveCommand<?, R> command;
+
+        private final List<Node<?>> dependencies;
+
+        private final Function<GraphResult, ?> input;
+
+        private Node(final @Nonnull Builder<?> builder,
+                     final @Nonnull ReactiveCommand<?, R> command,
+                     final @Nonnull List<Node<?>> dependencies,
+                     final @Nonnull Function<GraphResult, ?> input)
+        {
+            this.builder = builder;
+            this.command = command;
+            this.dependencies = dependencies;
+            this.input = input;
+        }
+
+        @Nonnull
+        public ReactiveCommand<?, R> getCommand()
+        {
+            return command;
+        }
+    }
+
+    /**
+     * Builder of {@link GraphCommand}
+     * <p>
+     * Nodes can depend only on nodes which were added before, so the graph cannot contain cycles
+     *
+     * @param <T> type of command input parameter
+     */
+    public static final class Builder<T>
+    {
+        private final List<Node<?>> nodes = new ArrayList<>();
+
+        private Builder()
+        {}
+
+        /**
+         * Adds node which receives input of graph execution
+         *
+         * @param command command executed by the node
+         * @param <R> type of command result
+         * @return added node
+         */
+        @Nonnull
+        public <R> Node<R> addNode(final @Nonnull ReactiveCommand<T, R> command)
+        {
+            Objects.requireNonNull(command, "Command cannot be null");
+
+            return addNode(command, Collections.emptyList(), result -> null);
+        }
+
+        /**
+         * Adds node which receives last result of given node
+         *
+         * @param command command executed by the node
+         * @param dependency node which has to finish before this node
+         * @param <A> type of dependency result
+         * @param <R> type of command result
+         * @return added node
+         */
+        @Nonnull
+        public <A, R> Node<R> addNode(final @Nonnull ReactiveCommand<A, R> command,
+                                      final @Nonnull Node<A> dependency)
+        {
+            Objects.requireNonNull(command, "Command cannot be null");
+            Objects.requireNonNull(dependency, "Dependency cannot be null");
+
+            return addNode(command, Collections.singletonList(dependency), result -> result.get(dependency));
+        }
+
+        /**
+         * Adds node which receives input computed from results of given nodes
+         *
+         * @param command command executed by the node
+         * @param input function which computes input from results of dependencies, it may return null
+         *              if command should be executed without input
+         * @param dependencies nodes which have to finish before this node
+         * @param <I> type of command input
+         * @param <R> type of command result
+         * @return added node
+         */
+        @Nonnull
+        public <I, R> Node<R> addNode(final @Nonnull ReactiveCommand<I, R> command,
+                                      final @Nonnull Function<GraphResult, I> input,
+                                      final @Nonnull Node<?>... dependencies)
+        {
+            Objects.requireNonNull(command, "Command cannot be null");
+            Objects.requireNonNull(input, "Input cannot be null");
+            Objects.requireNonNull(dependencies, "Dependencies cannot be null");
+
+            if (dependencies.length == 0)
+            {
+                throw new IllegalArgumentException("At least one dependency is required");
+            }
+
+            return addNode(command, Arrays.asList(dependencies), input);
+        }
+
+        @Nonnull
+        private <R> Node<R> addNode(final @Nonnull ReactiveCommand<?, R> command,
+                                    final @Nonnull List<Node<?>> dependencies,
+                                    final @Nonnull Function<GraphResult, ?> input)
+        {
+            for (final Node<?> dependency : dependencies)
+            {
+                Objects.requireNonNull(dependency, "Dependency cannot be null");
+
+                if (dependency.builder != this)
+                {
+                    throw new IllegalArgumentException("Dependency has to be added to this builder");
+                }
+            }
+
+            final Node<R> node = new Node<>(this, command, new ArrayList<>(dependencies), input);
+
+            nodes.add(node);
+
+            return node;
+        }
+
+        /**
+         * Builds graph command
+         *
+         * @param canExecute observable which controls command executability
+         * @param scheduler scheduler used to schedule execution
+         * @return graph command
+         */
+        @Nonnull
+        public GraphCommand<T> build(final @Nonnull Observable<Boolean> canExecute,
+                                     final @Nonnull Scheduler scheduler)
+        {
+            Objects.requireNonNull(canExecute, "CanExecute cannot be null");
+            Objects.requireNonNull(scheduler, "Scheduler cannot be null");
+
+            if (nodes.isEmpty())
+            {
+                throw new IllegalStateException("At least one node is required");
+            }
+
+            return new GraphCommand<>(canExecute, new ArrayList<>(nodes), scheduler);
+        }
+    }
+}
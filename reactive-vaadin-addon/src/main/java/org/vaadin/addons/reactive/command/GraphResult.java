@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+package org.vaadin.addons.reactive.command;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Results of nodes of {@link GraphCommand}
+ *
+ * @author dohnal
+ */
+public final class GraphResult
+{
+    private final Map<GraphCommand.Node<?>, Optional<Object>> results;
+
+    GraphResult(final @Nonnull Map<GraphCommand.Node<?>, Optional<Object>> results)
+    {
+        this.results = results;
+    }
+
+    /**
+     * Returns last result of given node
+     *
+     * @param node node of graph
+     * @param <R> type of node result
+     * @return last result of node or null if node has not produced any result
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <R> R get(final @Nonnull GraphCommand.Node<R> node)
+    {
+        Objects.requireNonNull(node, "Node cannot be null");
+
+        return (R) results.getOrDefault(node, Optional.empty()).orElse(null);
+    }
+
+    /**
+     * Returns whether given node has finished
+     *
+     * @param node node of graph
+     * @return whether node has finished
+     */
+    public boolean isFinished(final @Nonnull GraphCommand.Node<?> node)
+    {
+        Objects.requireNonNull(node, "Node cannot be null");
+
+        return results.containsKey(node);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+package org.vaadin.addons.reactive.command;
+
+import javax.annotation.Nonnull;
+import java.util.Objects;
+
+/**
+ * Result of child command together with index of the child
+ *
+ * @param <R> type of result
+ * @author dohnal
+ */
+public final class IndexedResult<R>
+{
+    private final int index;
+
+    private final R result;
+
+    public IndexedResult(final int index, final @Nonnull R result)
+    {
+        Objects.requireNonNull(result, "Result cannot be null");
+
+        this.index = index;
+        this.result = result;
+    }
+
+    /**
+     * Returns index of child command which has produced the result
+     *
+     * @return index of child command
+     */
+    public int getIndex()
+    {
+        return index;
+    }
+
+    @Nonnull
+    public R getResult()
+    {
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass())
+        {
+            return false;
+        }
+
+        final IndexedResult<?> that = (IndexedResult<?>) o;
+
+        return index == that.index && result.equals(that.result);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(index, result);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "IndexedResult{" +
+                "index=" + index +
+                ", result=" + result +
+                '}';
+    }
+}
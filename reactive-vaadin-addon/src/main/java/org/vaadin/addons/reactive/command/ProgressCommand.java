@@ -62,8 +62,7 @@ public final class ProgressCommand<T, R> extends AbstractCommand<T, R>
     {
         Objects.requireNonNull(input, "Input cannot be null");
 
-        return Observable.just(input)
-                .subscribeOn(scheduler)
+        return scheduleExecution(input, scheduler)
                 .flatMap(this::checkCanExecute)
                 .flatMap(value -> execution.apply(new ReactiveProgressContext(progress), value.orElse(null))
                         .doOnSubscribe(disposable -> handleStart(value))
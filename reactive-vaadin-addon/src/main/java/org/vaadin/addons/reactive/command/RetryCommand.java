@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+package org.vaadin.addons.reactive.command;
+
+import javax.annotation.Nonnull;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import org.vaadin.addons.reactive.ReactiveCommand;
+import org.vaadin.addons.reactive.exceptions.CannotExecuteCommandException;
+
+/**
+ * Command which retries failed executions of another command with exponential backoff
+ * <p>
+ * Executions which fail because the command cannot be executed are not retried
+ *
+ * @param <T> type of command input parameter
+ * @param <R> type of command result
+ * @author dohnal
+ */
+public final class RetryCommand<T, R> extends DecoratedCommand<T, R>
+{
+    public static final double DEFAULT_JITTER = 0.5;
+
+    private final ReactiveCommand<T, R> command;
+
+    private final ReactiveCommand<T, R> delegate;
+
+    private final int maxRetries;
+
+    private final long initialDelay;
+
+    private final long maxDelay;
+
+    private final TimeUnit unit;
+
+    private final double jitter;
+
+    private final Scheduler scheduler;
+
+    private final AtomicLong retryCount;
+
+    private final AtomicLong exhaustedCount;
+
+    /**
+     * Creates new retry command
+     *
+     * @param command decorated command
+     * @param maxRetries maximum number of retries of one execution
+     * @param initialDelay delay before first retry, each next delay is doubled
+     * @param maxDelay maximum delay between retries
+     * @param unit unit of delays
+     * @param jitter fraction of delay which is randomly subtracted from it, between 0 and 1
+     * @param scheduler scheduler used to wait between retries
+     */
+    public RetryCommand(final @Nonnull ReactiveCommand<T, R> command,
+                        final int maxRetries,
+                        final long initialDelay,
+                        final long maxDelay,
+                        final @Nonnull TimeUnit unit,
+                        final double jitter,
+                        final @Nonnull Scheduler scheduler)
+    {
+        Objects.requireNonNull(command, "Command cannot be null");
+        Objects.requireNonNull(unit, "Unit cannot be null");
+        Objects.requireNonNull(scheduler, "Scheduler cannot be null");
+
+        if (maxRetries < 0)
+        {
+            throw new IllegalArgumentException("Maximum number of retries cannot be negative");
+        }
+
+        if (initialDelay <= 0 || maxDelay < initialDelay)
+        {
+            throw new IllegalArgumentException("Initial delay has to be positive and not greater than maximum delay");
+        }
+
+        if (jitter < 0 || jitter > 1)
+        {
+            throw new IllegalArgumentException("Jitter has to be between 0 and 1");
+        }
+
+        this.command = command;
+        this.maxRetries = maxRetries;
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+        this.unit = unit;
+        this.jitter = jitter;
+        this.scheduler = scheduler;
+        this.retryCount = new AtomicLong(0);
+        this.exhaustedCount = new AtomicLong(0);
+
+        this.delegate = new Command<>(command.canExecute(), command.getProgress(), this::executeWithRetry,
+                Schedulers.trampoline());
+    }
+
+    /**
+     * Returns number of all retries of failed executions
+     *
+     * @return number of retries
+     */
+    public long getRetryCount()
+    {
+        return retryCount.get();
+    }
+
+    /**
+     * Returns number of executions which failed even after maximum number of retries
+     *
+     * @return number of exhausted executions
+     */
+    public long getExhaustedCount()
+    {
+        return exhaustedCount.get();
+    }
+
+    @Nonnull
+    @Override
+    protected ReactiveCommand<T, R> getDelegate()
+    {
+        return delegate;
+    }
+
+    /**
+     * Returns delay before given retry without jitter
+     *
+     * @param retry number of retry starting from one
+     * @return delay
+     */
+    long getDelay(final int retry)
+    {
+        final double delay = initialDelay * Math.pow(2, retry - 1);
+
+        return delay < maxDelay ? (long) delay : maxDelay;
+    }
+
+    @Nonnull
+    private Observable<R> executeWithRetry(final T input)
+    {
+        final AtomicInteger retries = new AtomicInteger(0);
+
+        return Observable.defer(() -> executeDecorated(command, input))
+                .retryWhen(errors -> errors.flatMap(error -> {
+                    if (error instanceof CannotExecuteCommandException)
+                    {
+                        return Observable.error(error);
+                    }
+
+                    final int retry = retries.incrementAndGet();
+
+                    if (retry > maxRetries)
+                    {
+                        exhaustedCount.incrementAndGet();
+
+                        return Observable.error(error);
+                    }
+
+                    retryCount.incrementAndGet();
+
+                    final long delay = getDelay(retry);
+
+                    return Observable.timer(delay - (long) (delay * jitter * ThreadLocalRandom.current().nextDouble()),
+                            unit, scheduler);
+                }));
+    }
+}
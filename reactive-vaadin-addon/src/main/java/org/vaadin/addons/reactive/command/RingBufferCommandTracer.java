@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+package org.vaadin.addons.reactive.command;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Tracer which keeps given number of most recent spans in memory, for example to be shown
+ * in a diagnostics view
+ *
+ * @author dohnal
+ */
+public final class RingBufferCommandTracer implements CommandTracer
+{
+    private final int capacity;
+
+    private final AtomicReference<Buffer> buffer;
+
+    /**
+     * Creates new ring buffer tracer
+     *
+     * @param capacity maximum number of kept spans
+     */
+    public RingBufferCommandTracer(final int capacity)
+    {
+        if (capacity <= 0)
+        {
+            throw new IllegalArgumentException("Capacity has to be positive");
+        }
+
+        this.capacity = capacity;
+        this.buffer = new AtomicReference<>(new Buffer(capacity));
+    }
+
+    @Override
+    public void onSpan(final @Nonnull CommandSpan span)
+    {
+        Objects.requireNonNull(span, "Span cannot be null");
+
+        final Buffer currentBuffer = buffer.get();
+
+        currentBuffer.spans.set((int) (currentBuffer.count.getAndIncrement() % capacity), span);
+    }
+
+    /**
+     * Returns kept spans from the oldest to the most recent one
+     *
+     * @return kept spans
+     */
+    @Nonnull
+    public List<CommandSpan> getSpans()
+    {
+        final Buffer currentBuffer = buffer.get();
+        final long currentCount = currentBuffer.count.get();
+        final int size = (int) Math.min(currentCount, capacity);
+        final List<CommandSpan> result = new ArrayList<>(size);
+
+        for (long index = currentCount - size; index < currentCount; index++)
+        {
+            final CommandSpan span = currentBuffer.spans.get((int) (index % capacity));
+
+            if (span != null)
+            {
+                result.add(span);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns number of all spans received since this tracer was created or cleared
+     *
+     * @return number of received spans
+     */
+    public long getSpanCount()
+    {
+        return buffer.get().count.get();
+    }
+
+    public int getCapacity()
+    {
+        return capacity;
+    }
+
+    /**
+     * Removes all kept spans
+     * <p>
+     * Spans are kept in a new buffer, so spans received concurrently with clearing are either
+     * kept completely or not at all
+     */
+    public void clear()
+    {
+        buffer.set(new Buffer(capacity));
+    }
+
+    /**
+     * Kept spans together with number of received spans
+     */
+    private static final class Buffer
+    {
+        private final AtomicReferenceArray<CommandSpan> spans;
+
+        private final AtomicLong count;
+
+        Buffer(final int capacity)
+        {
+            this.spans = new AtomicReferenceArray<>(capacity);
+            this.count = new AtomicLong(0);
+        }
+    }
+}
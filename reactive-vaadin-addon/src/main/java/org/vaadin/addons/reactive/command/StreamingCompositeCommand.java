@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+package org.vaadin.addons.reactive.command;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.subjects.PublishSubject;
+import org.vaadin.addons.reactive.ReactiveCommand;
+
+/**
+ * Composite command which emits results of child commands as soon as each child produces them
+ * <p>
+ * Child commands are executed at once. Each result is emitted together with index of the child.
+ * When all children finish successfully, their results are also emitted as one list
+ * through {@link #getAggregatedResult()}
+ *
+ * @param <T> type of command input parameter
+ * @param <R> type of child command result
+ * @author dohnal
+ */
+public final class StreamingCompositeCommand<T, R> extends DecoratedCommand<T, IndexedResult<R>>
+{
+    private final List<ReactiveCommand<T, R>> commands;
+
+    private final ReactiveCommand<T, IndexedResult<R>> delegate;
+
+    private final PublishSubject<List<R>> aggregatedResult;
+
+    /**
+     * Creates new streaming composite command from given child commands
+     *
+     * @param canExecute observable which controls command executability
+     * @param commands child commands this command is composed from
+     * @param scheduler scheduler used to schedule execution
+     */
+    public StreamingCompositeCommand(final @Nonnull Observable<Boolean> canExecute,
+                                     final @Nonnull List<ReactiveCommand<T, R>> commands,
+                                     final @Nonnull Scheduler scheduler)
+    {
+        Objects.requireNonNull(canExecute, "CanExecute cannot be null");
+        Objects.requireNonNull(commands, "Commands cannot be null");
+        Objects.requireNonNull(scheduler, "Scheduler cannot be null");
+
+        if (commands.size() == 0)
+        {
+            throw new IllegalArgumentException("At least one command is required");
+        }
+
+        this.commands = commands;
+        this.aggregatedResult = PublishSubject.create();
+
+        this.delegate = new Command<>(CompositeCommand.createCanExecute(canExecute, commands),
+                CompositeCommand.createProgress(commands), this::executeChildren, scheduler);
+    }
+
+    /**
+     * Returns observable of results of all child commands, which emits once per execution
+     * after all children have finished successfully
+     *
+     * @return observable of aggregated results in order of child commands
+     */
+    @Nonnull
+    public Observable<List<R>> getAggregatedResult()
+    {
+        return aggregatedResult;
+    }
+
+    @Nonnull
+    @Override
+    protected ReactiveCommand<T, IndexedResult<R>> getDelegate()
+    {
+        return delegate;
+    }
+
+    @Nonnull
+    private Observable<IndexedResult<R>> executeChildren(final T input)
+    {
+        final List<List<R>> results = IntStream.range(0, commands.size())
+                .mapToObj(index -> new ArrayList<R>())
+                .collect(Collectors.toList());
+
+        return Observable.merge(IntStream.range(0, commands.size())
+                .mapToObj(index -> executeDecorated(commands.get(index), input)
+                        .map(result -> new IndexedResult<>(index, result)))
+                .collect(Collectors.toList()))
+                .doOnNext(result -> {
+                    synchronized (results)
+                    {
+                        results.get(result.getIndex()).add(result.getResult());
+                    }
+                })
+                .doOnComplete(() -> {
+                    if (aggregatedResult.hasObservers())
+                    {
+                        synchronized (results)
+                        {
+                            aggregatedResult.onNext(results.stream()
+                                    .flatMap(List::stream)
+                                    .collect(Collectors.toList()));
+                        }
+                    }
+                });
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+package org.vaadin.addons.reactive.command;
+
+import javax.annotation.Nonnull;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import org.vaadin.addons.reactive.ReactiveCommand;
+import org.vaadin.addons.reactive.exceptions.CommandTimeoutException;
+
+/**
+ * Command which disposes executions of another command which have not finished in time
+ * <p>
+ * Disposed execution stops executing both commands and fails with {@link CommandTimeoutException}.
+ * Timeout covers whole execution including waiting for its scheduler.
+ * Optionally the scheduler thread running execution of decorated {@link AbstractCommand} is interrupted,
+ * so blocking calls which respond to interruption release the thread. Executions which run inline
+ * on the calling thread, for example with trampoline scheduler, are never interrupted
+ *
+ * @param <T> type of command input parameter
+ * @param <R> type of command result
+ * @author dohnal
+ */
+public final class TimeoutCommand<T, R> extends DecoratedCommand<T, R>
+{
+    private final ReactiveCommand<T, R> command;
+
+    private final Command<T, R> delegate;
+
+    private final long timeout;
+
+    private final TimeUnit unit;
+
+    private final boolean interrupt;
+
+    private final Scheduler scheduler;
+
+    /**
+     * Creates new timeout command
+     *
+     * @param command decorated command
+     * @param timeout default timeout of each execution
+     * @param unit unit of timeout
+     * @param interrupt whether thread running timed out execution should be interrupted
+     * @param scheduler scheduler used to measure timeout
+     */
+    public TimeoutCommand(final @Nonnull ReactiveCommand<T, R> command,
+                          final long timeout,
+                          final @Nonnull TimeUnit unit,
+                          final boolean interrupt,
+                          final @Nonnull Scheduler scheduler)
+    {
+        Objects.requireNonNull(command, "Command cannot be null");
+        Objects.requireNonNull(unit, "Unit cannot be null");
+        Objects.requireNonNull(scheduler, "Scheduler cannot be null");
+
+        checkTimeout(timeout);
+
+        this.command = command;
+        this.timeout = timeout;
+        this.unit = unit;
+        this.interrupt = interrupt;
+        this.scheduler = scheduler;
+
+        this.delegate = new Command<>(command.canExecute(), command.getProgress(),
+                input -> executeDecorated(command, input), Schedulers.trampoline());
+    }
+
+    @Nonnull
+    @Override
+    public Observable<R> execute()
+    {
+        return execute(timeout, unit);
+    }
+
+    @Nonnull
+    @Override
+    public Observable<R> execute(final @Nonnull T input)
+    {
+        return execute(input, timeout, unit);
+    }
+
+    /**
+     * Executes this command with given timeout instead of default one
+     *
+     * @param timeout timeout of this execution
+     * @param unit unit of timeout
+     * @return observable of execution
+     */
+    @Nonnull
+    public Observable<R> execute(final long timeout, final @Nonnull TimeUnit unit)
+    {
+        Objects.requireNonNull(unit, "Unit cannot be null");
+
+        checkTimeout(timeout);
+
+        return withTimeout(super.execute(), timeout, unit);
+    }
+
+    /**
+     * Executes this command with given input and timeout instead of default one
+     *
+     * @param input input for command execution
+     * @param timeout timeout of this execution
+     * @param unit unit of timeout
+     * @return observable of execution
+     */
+    @Nonnull
+    public Observable<R> execute(final @Nonnull T input, final long timeout, final @Nonnull TimeUnit unit)
+    {
+        Objects.requireNonNull(input, "Input cannot be null");
+        Objects.requireNonNull(unit, "Unit cannot be null");
+
+        checkTimeout(timeout);
+
+        return withTimeout(super.execute(input), timeout, unit);
+    }
+
+    @Nonnull
+    @Override
+    protected ReactiveCommand<T, R> getDelegate()
+    {
+        return delegate;
+    }
+
+    @Nonnull
+    private Observable<R> withTimeout(final @Nonnull Observable<R> execution,
+                                      final long timeout,
+                                      final @Nonnull TimeUnit unit)
+    {
+        return Observable.defer(() -> {
+            final long deadline = scheduler.now(TimeUnit.NANOSECONDS) + unit.toNanos(timeout);
+
+            return execution.timeout(
+                    createDeadlineTimer(deadline),
+                    result -> createDeadlineTimer(deadline),
+                    Observable.defer(() -> delegate.handleError(new CommandTimeoutException(this, timeout, unit))));
+        });
+    }
+
+    @Nonnull
+    private Observable<Long> createDeadlineTimer(final long deadline)
+    {
+        return Observable.timer(deadline - scheduler.now(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS, scheduler)
+                .doOnNext(tick -> {
+                    if (interrupt && command instanceof AbstractCommand)
+                    {
+                        ((AbstractCommand<?, ?>) command).interruptExecution();
+                    }
+                });
+    }
+
+    private static void checkTimeout(final long timeout)
+    {
+        if (timeout <= 0)
+        {
+            throw new IllegalArgumentException("Timeout has to be positive");
+        }
+    }
+}
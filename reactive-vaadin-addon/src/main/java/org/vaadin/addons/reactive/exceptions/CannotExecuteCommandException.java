@@ -29,7 +29,13 @@ public class CannotExecuteCommandException extends RuntimeException
 
     public CannotExecuteCommandException(final @Nonnull ReactiveCommand<?, ?> command)
     {
-        super("Command cannot be executed");
+        this(command, "Command cannot be executed");
+    }
+
+    protected CannotExecuteCommandException(final @Nonnull ReactiveCommand<?, ?> command,
+                                            final @Nonnull String message)
+    {
+        super(message);
 
         Objects.requireNonNull(command, "Command cannot be null");
 
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+package org.vaadin.addons.reactive.exceptions;
+
+import javax.annotation.Nonnull;
+
+import org.vaadin.addons.reactive.ReactiveCommand;
+
+/**
+ * Indicates that a command cannot be executed because its circuit breaker is open
+ *
+ * @author dohnal
+ */
+public class CircuitBreakerOpenException extends CannotExecuteCommandException
+{
+    public CircuitBreakerOpenException(final @Nonnull ReactiveCommand<?, ?> command)
+    {
+        super(command, "Circuit breaker of command is open");
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+package org.vaadin.addons.reactive.exceptions;
+
+import javax.annotation.Nonnull;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.vaadin.addons.reactive.ReactiveCommand;
+
+/**
+ * Indicates that an execution of command has not finished in time and was disposed
+ *
+ * @author dohnal
+ */
+public class CommandTimeoutException extends RuntimeException
+{
+    private final ReactiveCommand<?, ?> command;
+
+    private final long timeout;
+
+    private final TimeUnit unit;
+
+    public CommandTimeoutException(final @Nonnull ReactiveCommand<?, ?> command,
+                                   final long timeout,
+                                   final @Nonnull TimeUnit unit)
+    {
+        super("Command execution has not finished within " + timeout + " " + unit.name().toLowerCase());
+
+        Objects.requireNonNull(command, "Command cannot be null");
+
+        this.command = command;
+        this.timeout = timeout;
+        this.unit = unit;
+    }
+
+    /**
+     * Returns command which this exception was thrown for
+     *
+     * @return command
+     */
+    @Nonnull
+    public ReactiveCommand<?, ?> getCommand()
+    {
+        return command;
+    }
+
+    public long getTimeout()
+    {
+        return timeout;
+    }
+
+    @Nonnull
+    public TimeUnit getUnit()
+    {
+        return unit;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.exceptions;
+
+import javax.annotation.Nonnull;
+import java.util.Objects;
+
+import org.vaadin.addons.reactive.ReactiveCommand;
+
+/**
+ * Indicates that an execution of command was rejected by its scheduler, for example because
+ * too many executions are already waiting
+ *
+ * @author dohnal
+ */
+public class RejectedCommandExecutionException extends RuntimeException
+{
+    private final ReactiveCommand<?, ?> command;
+
+    public RejectedCommandExecutionException(final @Nonnull ReactiveCommand<?, ?> command,
+                                             final @Nonnull Throwable cause)
+    {
+        super("Command execution was rejected", cause);
+
+        Objects.requireNonNull(command, "Command cannot be null");
+
+        this.command = command;
+    }
+
+    /**
+     * Returns command which this exception was thrown for
+     *
+     * @return command
+     */
+    @Nonnull
+    public ReactiveCommand<?, ?> getCommand()
+    {
+        return command;
+    }
+}
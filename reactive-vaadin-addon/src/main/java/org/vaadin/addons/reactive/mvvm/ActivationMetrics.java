@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+package org.vaadin.addons.reactive.mvvm;
+
+import javax.annotation.Nonnull;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics of the last activation of bindings of {@link ReactiveView}
+ *
+ * @author dohnal
+ */
+public final class ActivationMetrics
+{
+    private volatile int criticalCount;
+
+    private volatile long criticalNanos;
+
+    private volatile int deferredCount;
+
+    private volatile long deferredNanos;
+
+    private volatile int chunkCount;
+
+    ActivationMetrics()
+    {}
+
+    /**
+     * Returns number of bindings activated at once when view was attached
+     *
+     * @return number of critical bindings
+     */
+    public int getCriticalCount()
+    {
+        return criticalCount;
+    }
+
+    /**
+     * Returns time spent by activating bindings at once when view was attached
+     *
+     * @param unit unit of time
+     * @return activation time of critical bindings
+     */
+    public long getCriticalTime(final @Nonnull TimeUnit unit)
+    {
+        Objects.requireNonNull(unit, "Unit cannot be null");
+
+        return unit.convert(criticalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns number of bindings activated in chunks after view was attached
+     *
+     * @return number of deferred bindings
+     */
+    public int getDeferredCount()
+    {
+        return deferredCount;
+    }
+
+    /**
+     * Returns time spent by activating chunks of deferred bindings so far
+     *
+     * @param unit unit of time
+     * @return activation time of deferred bindings
+     */
+    public long getDeferredTime(final @Nonnull TimeUnit unit)
+    {
+        Objects.requireNonNull(unit, "Unit cannot be null");
+
+        return unit.convert(deferredNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns number of chunks of deferred bindings which have been activated so far
+     *
+     * @return number of chunks
+     */
+    public int getChunkCount()
+    {
+        return chunkCount;
+    }
+
+    /**
+     * Returns time spent by activating all bindings so far
+     *
+     * @param unit unit of time
+     * @return activation time
+     */
+    public long getTotalTime(final @Nonnull TimeUnit unit)
+    {
+        Objects.requireNonNull(unit, "Unit cannot be null");
+
+        return unit.convert(criticalNanos + deferredNanos, TimeUnit.NANOSECONDS);
+    }
+
+    synchronized void recordActivation(final int criticalCount, final long criticalNanos, final int deferredCount)
+    {
+        this.criticalCount = criticalCount;
+        this.criticalNanos = criticalNanos;
+        this.deferredCount = deferredCount;
+        this.deferredNanos = 0;
+        this.chunkCount = 0;
+    }
+
+    synchronized void recordChunk(final long nanos)
+    {
+        this.deferredNanos += nanos;
+        this.chunkCount++;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ActivationMetrics{" +
+                "criticalCount=" + criticalCount +
+                ", criticalNanos=" + criticalNanos +
+                ", deferredCount=" + deferredCount +
+                ", deferredNanos=" + deferredNanos +
+                ", chunkCount=" + chunkCount +
+                '}';
+    }
+}
@@ -589,6 +589,9 @@ public interface ComponentEventExtension
 
     /**
      * Returns events captured by given listener as observable
+     * <p>
+     * Consumer given to the function is serializable, so the component can be serialized
+     * while the observable is subscribed
      *
      * @param registerListener function which create and register listener
      * @param <T> type of event
@@ -599,10 +602,6 @@ public interface ComponentEventExtension
     {
         Objects.requireNonNull(registerListener, "Register listener cannot be null");
 
-        return Observable.create(eventEmitter -> {
-            final Registration registration = registerListener.apply(eventEmitter::onNext);
-
-            eventEmitter.setCancellable(registration::remove);
-        });
+        return Observable.create(eventEmitter -> EmitterListener.register(eventEmitter, registerListener));
     }
 }
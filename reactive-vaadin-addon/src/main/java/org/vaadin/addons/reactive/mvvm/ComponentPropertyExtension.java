@@ -19,6 +19,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.vaadin.data.Binder;
@@ -43,6 +45,8 @@ import com.vaadin.ui.TreeGrid;
 import org.vaadin.addons.reactive.ObservableProperty;
 import org.vaadin.addons.reactive.Property;
 import org.vaadin.addons.reactive.mvvm.property.ComponentObservableProperty;
+import org.vaadin.addons.reactive.mvvm.property.ItemChanges;
+import org.vaadin.addons.reactive.mvvm.property.KeyedListDataProvider;
 
 /**
  * Extension with component properties
@@ -448,6 +452,79 @@ public interface ComponentPropertyExtension extends ComponentEventExtension
         return component::setItems;
     }
 
+    /**
+     * Returns items property of given component, which updates its items incrementally
+     * <p>
+     * Items are identified by key returned from given key mapper. Whenever new items are set,
+     * they are compared with current items by key and if only some items were replaced,
+     * only these items are refreshed instead of replacing whole data set of the component
+     *
+     * @param component component with data provider
+     * @param keyMapper function which returns unique key of an item
+     * @param <T> type of item
+     * @param <C> type of collection of items
+     * @return items property
+     * @see KeyedListDataProvider
+     */
+    @Nonnull
+    default <T, C extends Collection<T>> Property<C> itemsOf(final @Nonnull HasDataProvider<T> component,
+                                                             final @Nonnull Function<? super T, ?> keyMapper)
+    {
+        Objects.requireNonNull(component, "Component cannot be null");
+        Objects.requireNonNull(keyMapper, "Key mapper cannot be null");
+
+        return value -> KeyedListDataProvider.of(component, keyMapper).setItems(value);
+    }
+
+    /**
+     * Returns items property of given component, which updates its items incrementally
+     * <p>
+     * Items are identified by key returned from given key mapper. Whenever new items are set,
+     * they are compared with current items by key and given predicate and if only some items were changed,
+     * only these items are refreshed instead of replacing whole data set of the component
+     *
+     * @param component component with data provider
+     * @param keyMapper function which returns unique key of an item
+     * @param isUnchanged predicate which tests if current item and new item with the same key are unchanged
+     * @param <T> type of item
+     * @param <C> type of collection of items
+     * @return items property
+     * @see KeyedListDataProvider
+     */
+    @Nonnull
+    default <T, C extends Collection<T>> Property<C> itemsOf(final @Nonnull HasDataProvider<T> component,
+                                                             final @Nonnull Function<? super T, ?> keyMapper,
+                                                             final @Nonnull BiPredicate<? super T, ? super T> isUnchanged)
+    {
+        Objects.requireNonNull(component, "Component cannot be null");
+        Objects.requireNonNull(keyMapper, "Key mapper cannot be null");
+        Objects.requireNonNull(isUnchanged, "Is unchanged cannot be null");
+
+        return value -> KeyedListDataProvider.of(component, keyMapper, isUnchanged).setItems(value);
+    }
+
+    /**
+     * Returns item changes property of given component, which applies changes to its items incrementally
+     * <p>
+     * Items are identified by key returned from given key mapper. If changes contain only updated items,
+     * only these items are refreshed instead of replacing whole data set of the component
+     *
+     * @param component component with data provider
+     * @param keyMapper function which returns unique key of an item
+     * @param <T> type of item
+     * @return item changes property
+     * @see KeyedListDataProvider
+     */
+    @Nonnull
+    default <T> Property<ItemChanges<T>> itemChangesOf(final @Nonnull HasDataProvider<T> component,
+                                                      final @Nonnull Function<? super T, ?> keyMapper)
+    {
+        Objects.requireNonNull(component, "Component cannot be null");
+        Objects.requireNonNull(keyMapper, "Key mapper cannot be null");
+
+        return value -> KeyedListDataProvider.of(component, keyMapper).applyChanges(value);
+    }
+
     /**
      * Returns dataProvider property of given component
      *
@@ -462,4 +539,19 @@ public interface ComponentPropertyExtension extends ComponentEventExtension
 
         return component::setDataProvider;
     }
+
+    /**
+     * Returns filter property of given reactive data provider
+     *
+     * @param dataProvider reactive data provider
+     * @param <F> type of filter
+     * @return filter property
+     */
+    @Nonnull
+    default <F> Property<F> filterOf(final @Nonnull ReactiveDataProvider<?, F> dataProvider)
+    {
+        Objects.requireNonNull(dataProvider, "Data provider cannot be null");
+
+        return dataProvider::setFilter;
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.mvvm;
+
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.vaadin.shared.Registration;
+import io.reactivex.ObservableEmitter;
+
+/**
+ * Serializable listener of component which emits its events to given emitter
+ * <p>
+ * Emitter is not written, so the listener is serialized together with its component. Deserialized
+ * listener has no subscriber and removes itself from the component on the first event
+ *
+ * @param <T> type of event
+ * @author dohnal
+ */
+final class EmitterListener<T> implements Consumer<T>, Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final transient ObservableEmitter<T> emitter;
+
+    private Registration registration;
+
+    private EmitterListener(final @Nonnull ObservableEmitter<T> emitter)
+    {
+        this.emitter = emitter;
+    }
+
+    /**
+     * Registers new listener which emits events to given emitter until the emitter is disposed
+     *
+     * @param emitter emitter of events
+     * @param registerListener function which registers listener
+     * @param <T> type of event
+     */
+    static <T> void register(final @Nonnull ObservableEmitter<T> emitter,
+                             final @Nonnull Function<Consumer<T>, Registration> registerListener)
+    {
+        final EmitterListener<T> listener = new EmitterListener<>(emitter);
+
+        listener.registration = registerListener.apply(listener);
+
+        emitter.setCancellable(listener.registration::remove);
+    }
+
+    @Override
+    public void accept(final @Nonnull T event)
+    {
+        if (emitter != null)
+        {
+            emitter.onNext(event);
+        }
+        else if (registration != null)
+        {
+            registration.remove();
+            registration = null;
+        }
+    }
+}
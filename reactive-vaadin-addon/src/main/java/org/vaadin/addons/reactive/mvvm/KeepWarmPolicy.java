@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.mvvm;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import com.vaadin.server.VaadinSession;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * Policy which keeps bindings of detached {@link ReactiveView} active for a grace period,
+ * so the view can be attached again without rebuilding all of its subscriptions
+ * <p>
+ * Number of warm views is limited per Vaadin session, the least recently detached view
+ * is deactivated when the limit is exceeded
+ *
+ * @author dohnal
+ */
+public final class KeepWarmPolicy
+{
+    public static final int DEFAULT_MAX_WARM_VIEWS = 10;
+
+    private final long gracePeriod;
+
+    private final TimeUnit unit;
+
+    private final int maxWarmViews;
+
+    private final Scheduler scheduler;
+
+    private KeepWarmPolicy(final long gracePeriod,
+                           final @Nonnull TimeUnit unit,
+                           final int maxWarmViews,
+                           final @Nonnull Scheduler scheduler)
+    {
+        this.gracePeriod = gracePeriod;
+        this.unit = unit;
+        this.maxWarmViews = maxWarmViews;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Creates new policy with default maximum number of warm views per session
+     *
+     * @param gracePeriod time for which bindings of detached view are kept active
+     * @param unit unit of grace period
+     * @return keep-warm policy
+     */
+    @Nonnull
+    public static KeepWarmPolicy of(final long gracePeriod, final @Nonnull TimeUnit unit)
+    {
+        return of(gracePeriod, unit, DEFAULT_MAX_WARM_VIEWS);
+    }
+
+    /**
+     * Creates new policy
+     *
+     * @param gracePeriod time for which bindings of detached view are kept active
+     * @param unit unit of grace period
+     * @param maxWarmViews maximum number of warm views per session
+     * @return keep-warm policy
+     */
+    @Nonnull
+    public static KeepWarmPolicy of(final long gracePeriod, final @Nonnull TimeUnit unit, final int maxWarmViews)
+    {
+        return of(gracePeriod, unit, maxWarmViews, Schedulers.computation());
+    }
+
+    /**
+     * Creates new policy
+     * <p>
+     * The limit of warm views is shared by all views of one session, the limit of policy
+     * which was used first in the session applies
+     *
+     * @param gracePeriod time for which bindings of detached view are kept active
+     * @param unit unit of grace period
+     * @param maxWarmViews maximum number of warm views per session
+     * @param scheduler scheduler which measures grace period
+     * @return keep-warm policy
+     */
+    @Nonnull
+    public static KeepWarmPolicy of(final long gracePeriod,
+                                    final @Nonnull TimeUnit unit,
+                                    final int maxWarmViews,
+                                    final @Nonnull Scheduler scheduler)
+    {
+        Objects.requireNonNull(unit, "Unit cannot be null");
+        Objects.requireNonNull(scheduler, "Scheduler cannot be null");
+
+        if (gracePeriod <= 0)
+        {
+            throw new IllegalArgumentException("Grace period has to be positive");
+        }
+
+        if (maxWarmViews <= 0)
+        {
+            throw new IllegalArgumentException("Maximum number of warm views has to be positive");
+        }
+
+        return new KeepWarmPolicy(gracePeriod, unit, maxWarmViews, scheduler);
+    }
+
+    /**
+     * Returns number of warm views of given session
+     *
+     * @param session Vaadin session
+     * @return number of warm views
+     */
+    public static int getWarmViewCount(final @Nonnull VaadinSession session)
+    {
+        Objects.requireNonNull(session, "Session cannot be null");
+
+        final WarmViews warmViews = session.getAttribute(WarmViews.class);
+
+        return warmViews != null ? warmViews.size() : 0;
+    }
+
+    /**
+     * Returns time for which bindings of detached view are kept active
+     *
+     * @param unit unit of time
+     * @return grace period
+     */
+    public long getGracePeriod(final @Nonnull TimeUnit unit)
+    {
+        Objects.requireNonNull(unit, "Unit cannot be null");
+
+        return unit.convert(gracePeriod, this.unit);
+    }
+
+    /**
+     * Returns maximum number of warm views per session
+     *
+     * @return maximum number of warm views
+     */
+    public int getMaxWarmViews()
+    {
+        return maxWarmViews;
+    }
+
+    @Nonnull
+    Scheduler getScheduler()
+    {
+        return scheduler;
+    }
+
+    @Nonnull
+    WarmViews getWarmViews(final @Nonnull VaadinSession session)
+    {
+        WarmViews warmViews = session.getAttribute(WarmViews.class);
+
+        if (warmViews == null)
+        {
+            warmViews = new WarmViews(maxWarmViews);
+
+            session.setAttribute(WarmViews.class, warmViews);
+        }
+
+        return warmViews;
+    }
+
+    @Nullable
+    static WarmViews findWarmViews(final @Nonnull VaadinSession session)
+    {
+        return session.getAttribute(WarmViews.class);
+    }
+}
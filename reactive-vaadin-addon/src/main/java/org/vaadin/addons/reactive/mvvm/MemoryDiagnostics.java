@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.mvvm;
+
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.vaadin.server.VaadinSession;
+import com.vaadin.ui.Component;
+import com.vaadin.ui.HasComponents;
+import com.vaadin.ui.UI;
+
+/**
+ * Diagnostics of memory footprint of reactive views of Vaadin session
+ *
+ * @author dohnal
+ */
+public final class MemoryDiagnostics
+{
+    private MemoryDiagnostics()
+    {}
+
+    /**
+     * Returns memory footprint of all reactive views of given session summed by class of view,
+     * ordered from the most expensive
+     * <p>
+     * Session has to be locked by the calling thread. Views of all UIs and warm views detached from them
+     * are included. View model shared by more views is counted once, for the first of them
+     *
+     * @param session Vaadin session
+     * @return memory footprint by class name of view
+     */
+    @Nonnull
+    public static Map<String, MemoryFootprint> getSessionSummary(final @Nonnull VaadinSession session)
+    {
+        Objects.requireNonNull(session, "Session cannot be null");
+
+        final Map<String, MemoryFootprint> summary = new HashMap<>();
+        final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (final UI ui : session.getUIs())
+        {
+            collect(ui, summary, visited);
+        }
+
+        final WarmViews warmViews = KeepWarmPolicy.findWarmViews(session);
+
+        if (warmViews != null)
+        {
+            for (final ReactiveView<?> view : warmViews.toList())
+            {
+                collect(view, summary, visited);
+            }
+        }
+
+        final Map<String, MemoryFootprint> result = new LinkedHashMap<>();
+
+        summary.entrySet().stream()
+                .sorted(Comparator.comparingLong(
+                        (Map.Entry<String, MemoryFootprint> entry) -> entry.getValue().getScore()).reversed())
+                .forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+
+        return result;
+    }
+
+    private static void collect(final @Nonnull Component component,
+                                final @Nonnull Map<String, MemoryFootprint> summary,
+                                final @Nonnull Set<Object> visited)
+    {
+        // Nested warm view is detached together with its parent view
+        if (!visited.add(component))
+        {
+            return;
+        }
+
+        if (component instanceof ReactiveView)
+        {
+            final ReactiveView<?> view = (ReactiveView<?>) component;
+            final ReactiveViewModel viewModel = view.getViewModel();
+
+            final MemoryFootprint footprint = viewModel != null && visited.add(viewModel) ?
+                    view.getViewFootprint().plus(viewModel.getMemoryFootprint()) : view.getViewFootprint();
+
+            summary.merge(component.getClass().getName(), footprint, MemoryFootprint::plus);
+        }
+
+        if (component instanceof HasComponents)
+        {
+            for (final Component child : (HasComponents) component)
+            {
+                collect(child, summary, visited);
+            }
+        }
+    }
+}
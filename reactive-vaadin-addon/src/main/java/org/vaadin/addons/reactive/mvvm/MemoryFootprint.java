@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.mvvm;
+
+import javax.annotation.Nonnull;
+import java.util.Objects;
+
+/**
+ * Memory footprint of {@link ReactiveViewModel} or {@link ReactiveView}
+ * <p>
+ * Footprint consists of counts of reactive objects, components and items held in memory. Score is their
+ * weighted sum, it is not size in bytes and it is meant only for finding views which are unusually expensive
+ *
+ * @author dohnal
+ */
+public final class MemoryFootprint
+{
+    static final int PROPERTY_WEIGHT = 4;
+
+    static final int COMMAND_WEIGHT = 16;
+
+    static final int SUBSCRIPTION_WEIGHT = 4;
+
+    static final int LISTENER_WEIGHT = 1;
+
+    static final int ACTIVABLE_WEIGHT = 1;
+
+    static final int COMPONENT_WEIGHT = 8;
+
+    static final int ITEM_WEIGHT = 1;
+
+    static final MemoryFootprint EMPTY = new MemoryFootprint(0, 0, 0, 0, 0, 0, 0);
+
+    private final int propertyCount;
+
+    private final int commandCount;
+
+    private final int subscriptionCount;
+
+    private final int listenerCount;
+
+    private final int activableCount;
+
+    private final int componentCount;
+
+    private final long itemCount;
+
+    MemoryFootprint(final int propertyCount,
+                    final int commandCount,
+                    final int subscriptionCount,
+                    final int listenerCount,
+                    final int activableCount,
+                    final int componentCount,
+                    final long itemCount)
+    {
+        this.propertyCount = propertyCount;
+        this.commandCount = commandCount;
+        this.subscriptionCount = subscriptionCount;
+        this.listenerCount = listenerCount;
+        this.activableCount = activableCount;
+        this.componentCount = componentCount;
+        this.itemCount = itemCount;
+    }
+
+    /**
+     * Returns number of properties
+     *
+     * @return number of properties
+     */
+    public int getPropertyCount()
+    {
+        return propertyCount;
+    }
+
+    /**
+     * Returns number of commands
+     *
+     * @return number of commands
+     */
+    public int getCommandCount()
+    {
+        return commandCount;
+    }
+
+    /**
+     * Returns number of active subscriptions of bindings
+     *
+     * @return number of active subscriptions
+     */
+    public int getSubscriptionCount()
+    {
+        return subscriptionCount;
+    }
+
+    /**
+     * Returns number of listeners registered to Vaadin components
+     *
+     * @return number of listeners
+     */
+    public int getListenerCount()
+    {
+        return listenerCount;
+    }
+
+    /**
+     * Returns number of children of composite activable, that is number of bindings
+     *
+     * @return number of activable
+     */
+    public int getActivableCount()
+    {
+        return activableCount;
+    }
+
+    /**
+     * Returns number of Vaadin components
+     *
+     * @return number of components
+     */
+    public int getComponentCount()
+    {
+        return componentCount;
+    }
+
+    /**
+     * Returns number of items of collections held by properties and of in-memory data providers of components
+     *
+     * @return number of items
+     */
+    public long getItemCount()
+    {
+        return itemCount;
+    }
+
+    /**
+     * Returns weighted sum of all counts, which is higher for more expensive views
+     *
+     * @return score
+     */
+    public long getScore()
+    {
+        return (long) propertyCount * PROPERTY_WEIGHT +
+                (long) commandCount * COMMAND_WEIGHT +
+                (long) subscriptionCount * SUBSCRIPTION_WEIGHT +
+                (long) listenerCount * LISTENER_WEIGHT +
+                (long) activableCount * ACTIVABLE_WEIGHT +
+                (long) componentCount * COMPONENT_WEIGHT +
+                itemCount * ITEM_WEIGHT;
+    }
+
+    /**
+     * Returns footprint which is sum of this and given footprint
+     *
+     * @param other other footprint
+     * @return sum of footprints
+     */
+    @Nonnull
+    public MemoryFootprint plus(final @Nonnull MemoryFootprint other)
+    {
+        Objects.requireNonNull(other, "Other footprint cannot be null");
+
+        return new MemoryFootprint(
+                propertyCount + other.propertyCount,
+                commandCount + other.commandCount,
+                subscriptionCount + other.subscriptionCount,
+                listenerCount + other.listenerCount,
+                activableCount + other.activableCount,
+                componentCount + other.componentCount,
+                itemCount + other.itemCount);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "MemoryFootprint{" +
+                "propertyCount=" + propertyCount +
+                ", commandCount=" + commandCount +
+                ", subscriptionCount=" + subscriptionCount +
+                ", listenerCount=" + listenerCount +
+                ", activableCount=" + activableCount +
+                ", componentCount=" + componentCount +
+                ", itemCount=" + itemCount +
+                ", score=" + getScore() +
+                '}';
+    }
+}
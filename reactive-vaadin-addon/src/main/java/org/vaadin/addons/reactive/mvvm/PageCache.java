@@ -0,0 +1,489 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.mvvm;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import com.vaadin.data.provider.Query;
+import com.vaadin.data.provider.QuerySortOrder;
+import com.vaadin.shared.data.sort.SortDirection;
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.subjects.PublishSubject;
+import io.reactivex.subjects.Subject;
+
+/**
+ * Bounded cache of pages of items identified by filter, sort orders, offset and limit
+ * <p>
+ * Least recently used pages are evicted when the cache exceeds its maximum size and pages
+ * expire after given time since they were cached. Pages can be also invalidated explicitly,
+ * for example whenever a command which modifies items emits a result
+ *
+ * @param <T> type of item
+ * @param <F> type of filter
+ * @author dohnal
+ */
+public final class PageCache<T, F>
+{
+    private final int maximumSize;
+
+    private final long expireAfterMillis;
+
+    private final Scheduler scheduler;
+
+    private final Map<Key<F>, Entry<T>> pages;
+
+    private final Subject<Boolean> invalidated;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long evictionCount;
+
+    /**
+     * Creates new page cache
+     *
+     * @param maximumSize maximum number of cached pages
+     * @param expireAfter time after which cached page expires
+     * @param unit time unit of expiration time
+     */
+    public PageCache(final int maximumSize, final long expireAfter, final @Nonnull TimeUnit unit)
+    {
+        this(maximumSize, expireAfter, unit, Schedulers.computation());
+    }
+
+    /**
+     * Creates new page cache
+     *
+     * @param maximumSize maximum number of cached pages
+     * @param expireAfter time after which cached page expires
+     * @param unit time unit of expiration time
+     * @param scheduler scheduler used as a source of current time
+     */
+    public PageCache(final int maximumSize,
+                     final long expireAfter,
+                     final @Nonnull TimeUnit unit,
+                     final @Nonnull Scheduler scheduler)
+    {
+        Objects.requireNonNull(unit, "Unit cannot be null");
+        Objects.requireNonNull(scheduler, "Scheduler cannot be null");
+
+        if (maximumSize <= 0)
+        {
+            throw new IllegalArgumentException("Maximum size has to be positive");
+        }
+
+        if (expireAfter <= 0)
+        {
+            throw new IllegalArgumentException("Expiration time has to be positive");
+        }
+
+        this.maximumSize = maximumSize;
+        this.expireAfterMillis = unit.toMillis(expireAfter);
+        this.scheduler = scheduler;
+        this.pages = new LinkedHashMap<>(16, 0.75f, true);
+        this.invalidated = PublishSubject.<Boolean>create().toSerialized();
+    }
+
+    /**
+     * Returns cached page for given key or null if page is not cached or has expired
+     *
+     * @param key key of page
+     * @return cached page or null
+     */
+    @Nullable
+    public synchronized List<T> get(final @Nonnull Key<F> key)
+    {
+        final List<T> page = peek(key);
+
+        if (page != null)
+        {
+            hitCount++;
+        }
+        else
+        {
+            missCount++;
+        }
+
+        return page;
+    }
+
+    /**
+     * Returns cached page for given key like {@link #get(Key)} without counting it as hit or miss
+     *
+     * @param key key of page
+     * @return cached page or null
+     */
+    @Nullable
+    synchronized List<T> peek(final @Nonnull Key<F> key)
+    {
+        Objects.requireNonNull(key, "Key cannot be null");
+
+        final Entry<T> entry = pages.get(key);
+
+        if (entry != null && entry.isExpired(now()))
+        {
+            pages.remove(key);
+            evictionCount++;
+
+            return null;
+        }
+
+        return entry != null ? entry.page : null;
+    }
+
+    /**
+     * Caches given page for given key and evicts least recently used page if the cache is full
+     *
+     * @param key key of page
+     * @param page page
+     */
+    public synchronized void put(final @Nonnull Key<F> key, final @Nonnull List<T> page)
+    {
+        Objects.requireNonNull(key, "Key cannot be null");
+        Objects.requireNonNull(page, "Page cannot be null");
+
+        pages.put(key, new Entry<>(page, now() + expireAfterMillis));
+
+        final Iterator<Entry<T>> iterator = pages.values().iterator();
+
+        while (pages.size() > maximumSize && iterator.hasNext())
+        {
+            iterator.next();
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    /**
+     * Returns whether page for given key is cached and has not expired
+     *
+     * @param key key of page
+     * @return whether page for given key is cached
+     */
+    public synchronized boolean contains(final @Nonnull Key<F> key)
+    {
+        Objects.requireNonNull(key, "Key cannot be null");
+
+        final Entry<T> entry = pages.get(key);
+
+        return entry != null && !entry.isExpired(now());
+    }
+
+    /**
+     * Invalidates all pages matching given predicate
+     *
+     * @param predicate predicate
+     */
+    public void invalidate(final @Nonnull Predicate<? super Key<F>> predicate)
+    {
+        Objects.requireNonNull(predicate, "Predicate cannot be null");
+
+        synchronized (this)
+        {
+            pages.keySet().removeIf(predicate);
+        }
+
+        invalidated.onNext(true);
+    }
+
+    /**
+     * Invalidates all pages
+     */
+    public void invalidateAll()
+    {
+        invalidate(key -> true);
+    }
+
+    /**
+     * Invalidates all pages whenever given observable emits a value
+     *
+     * @param observable observable, for example result of a command
+     * @return disposable to stop invalidation
+     */
+    @Nonnull
+    public Disposable invalidateWhen(final @Nonnull Observable<?> observable)
+    {
+        Objects.requireNonNull(observable, "Observable cannot be null");
+
+        return observable.subscribe(value -> invalidateAll());
+    }
+
+    /**
+     * Invalidates pages matching given predicate whenever given observable emits a value
+     *
+     * @param observable observable, for example result of a command
+     * @param predicate predicate which tests emitted value and key of a page
+     * @param <R> type of value
+     * @return disposable to stop invalidation
+     */
+    @Nonnull
+    public <R> Disposable invalidateWhen(final @Nonnull Observable<R> observable,
+                                         final @Nonnull BiPredicate<? super R, ? super Key<F>> predicate)
+    {
+        Objects.requireNonNull(observable, "Observable cannot be null");
+        Objects.requireNonNull(predicate, "Predicate cannot be null");
+
+        return observable.subscribe(value -> invalidate(key -> predicate.test(value, key)));
+    }
+
+    /**
+     * Returns an event which will happen when pages are invalidated
+     *
+     * @return event
+     */
+    @Nonnull
+    public Observable<Boolean> invalidated()
+    {
+        return invalidated;
+    }
+
+    /**
+     * Returns number of cached pages including expired ones which were not evicted yet
+     *
+     * @return number of cached pages
+     */
+    public synchronized int size()
+    {
+        return pages.size();
+    }
+
+    /**
+     * Returns current statistics of this cache
+     *
+     * @return statistics
+     */
+    @Nonnull
+    public synchronized Statistics getStatistics()
+    {
+        return new Statistics(hitCount, missCount, evictionCount, pages.size());
+    }
+
+    private long now()
+    {
+        return scheduler.now(TimeUnit.MILLISECONDS);
+    }
+
+    private static final class Entry<T>
+    {
+        private final List<T> page;
+
+        private final long expiration;
+
+        Entry(final @Nonnull List<T> page, final long expiration)
+        {
+            this.page = page;
+            this.expiration = expiration;
+        }
+
+        boolean isExpired(final long now)
+        {
+            return now >= expiration;
+        }
+    }
+
+    /**
+     * Identifies single page of items
+     *
+     * @param <F> type of filter
+     */
+    public static final class Key<F>
+    {
+        private final F filter;
+
+        private final List<QuerySortOrder> sortOrders;
+
+        private final List<Map.Entry<String, SortDirection>> sortKey;
+
+        private final int offset;
+
+        private final int limit;
+
+        /**
+         * Creates new key of page
+         *
+         * @param filter filter or null if there is no filter
+         * @param sortOrders sort orders
+         * @param offset offset of first item in page
+         * @param limit maximum number of items in page
+         */
+        public Key(final @Nullable F filter,
+                   final @Nonnull List<QuerySortOrder> sortOrders,
+                   final int offset,
+                   final int limit)
+        {
+            Objects.requireNonNull(sortOrders, "Sort orders cannot be null");
+
+            this.filter = filter;
+            this.sortOrders = sortOrders;
+            this.sortKey = sortOrders.stream()
+                    .map(sortOrder -> new AbstractMap.SimpleImmutableEntry<>(
+                            sortOrder.getSorted(), sortOrder.getDirection()))
+                    .collect(Collectors.toList());
+            this.offset = offset;
+            this.limit = limit;
+        }
+
+        @Nullable
+        public F getFilter()
+        {
+            return filter;
+        }
+
+        @Nonnull
+        public List<QuerySortOrder> getSortOrders()
+        {
+            return sortOrders;
+        }
+
+        public int getOffset()
+        {
+            return offset;
+        }
+
+        public int getLimit()
+        {
+            return limit;
+        }
+
+        /**
+         * Returns whether this page contains item at given index
+         *
+         * @param index index of item
+         * @return whether this page contains item at given index
+         */
+        public boolean contains(final int index)
+        {
+            return index >= offset && index - offset < limit;
+        }
+
+        /**
+         * Returns query for this page
+         *
+         * @param <T> type of item
+         * @return query
+         */
+        @Nonnull
+        public <T> Query<T, F> toQuery()
+        {
+            return new Query<>(offset, limit, sortOrders, null, filter);
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+
+            final Key<?> key = (Key<?>) o;
+
+            return offset == key.offset &&
+                    limit == key.limit &&
+                    Objects.equals(filter, key.filter) &&
+                    Objects.equals(sortKey, key.sortKey);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(filter, sortKey, offset, limit);
+        }
+    }
+
+    /**
+     * Statistics of page cache
+     */
+    public static final class Statistics
+    {
+        private final long hitCount;
+
+        private final long missCount;
+
+        private final long evictionCount;
+
+        private final int size;
+
+        Statistics(final long hitCount, final long missCount, final long evictionCount, final int size)
+        {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.size = size;
+        }
+
+        public long getHitCount()
+        {
+            return hitCount;
+        }
+
+        public long getMissCount()
+        {
+            return missCount;
+        }
+
+        public long getEvictionCount()
+        {
+            return evictionCount;
+        }
+
+        public int getSize()
+        {
+            return size;
+        }
+
+        /**
+         * Returns ratio of hits to all requests or 1 if there were no requests
+         *
+         * @return hit rate
+         */
+        public double getHitRate()
+        {
+            final long requestCount = hitCount + missCount;
+
+            return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Statistics{" +
+                    "hitCount=" + hitCount +
+                    ", missCount=" + missCount +
+                    ", evictionCount=" + evictionCount +
+                    ", size=" + size +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.mvvm;
+
+import javax.annotation.Nonnull;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import com.vaadin.shared.communication.PushMode;
+import com.vaadin.ui.UI;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
+import org.vaadin.addons.reactive.ReactiveProperty;
+import org.vaadin.addons.reactive.command.BoundedScheduler;
+import org.vaadin.addons.reactive.command.CommandSchedulers;
+
+/**
+ * Broadcaster which delivers values of one property to many UIs
+ * <p>
+ * Each value is taken once and delivered to each UI in access to that UI, accesses are run
+ * on bounded pool of workers. UI which has not received the previous value yet skips
+ * intermediate values and receives only the latest one
+ *
+ * @param <T> type of property
+ * @author dohnal
+ */
+public final class PropertyBroadcaster<T> implements Disposable
+{
+    public static final int DEFAULT_MAX_CONCURRENCY = 8;
+
+    public static final int DEFAULT_MAX_QUEUE_DEPTH = 100000;
+
+    private final Scheduler scheduler;
+
+    private final Set<Receiver> receivers;
+
+    private final Disposable subscription;
+
+    private final AtomicLong deliveredCount;
+
+    private final AtomicLong skippedCount;
+
+    private volatile T value;
+
+    /**
+     * Creates new broadcaster of given property with default pool of workers
+     *
+     * @param property broadcasted property
+     */
+    public PropertyBroadcaster(final @Nonnull ReactiveProperty<? extends T> property)
+    {
+        this(property, new BoundedScheduler(CommandSchedulers.blocking(),
+                DEFAULT_MAX_CONCURRENCY, DEFAULT_MAX_QUEUE_DEPTH));
+    }
+
+    /**
+     * Creates new broadcaster of given property
+     *
+     * @param property broadcasted property
+     * @param scheduler scheduler which runs deliveries, it should be bounded
+     */
+    public PropertyBroadcaster(final @Nonnull ReactiveProperty<? extends T> property,
+                               final @Nonnull Scheduler scheduler)
+    {
+        Objects.requireNonNull(property, "Property cannot be null");
+        Objects.requireNonNull(scheduler, "Scheduler cannot be null");
+
+        this.scheduler = scheduler;
+        this.receivers = ConcurrentHashMap.newKeySet();
+        this.deliveredCount = new AtomicLong(0);
+        this.skippedCount = new AtomicLong(0);
+        this.subscription = property.asObservable().subscribe(this::broadcast);
+    }
+
+    /**
+     * Subscribes given consumer which receives values in access to given UI
+     * <p>
+     * Consumer receives the current value immediately if the property has any
+     *
+     * @param ui UI to which values are delivered
+     * @param consumer consumer of values
+     * @return disposable which unsubscribes consumer
+     */
+    @Nonnull
+    public Disposable subscribe(final @Nonnull UI ui, final @Nonnull Consumer<? super T> consumer)
+    {
+        Objects.requireNonNull(ui, "UI cannot be null");
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+
+        if (isDisposed())
+        {
+            return Disposables.disposed();
+        }
+
+        final Receiver receiver = new Receiver(ui, consumer);
+
+        receivers.add(receiver);
+
+        if (value != null)
+        {
+            receiver.schedule();
+        }
+
+        return Disposables.fromAction(() -> receivers.remove(receiver));
+    }
+
+    /**
+     * Returns number of subscribed consumers
+     *
+     * @return number of consumers
+     */
+    public int getReceiverCount()
+    {
+        return receivers.size();
+    }
+
+    /**
+     * Returns number of values delivered to consumers
+     *
+     * @return number of delivered values
+     */
+    public long getDeliveredCount()
+    {
+        return deliveredCount.get();
+    }
+
+    /**
+     * Returns number of values which were not delivered to consumers because a newer value replaced them
+     *
+     * @return number of skipped values
+     */
+    public long getSkippedCount()
+    {
+        return skippedCount.get();
+    }
+
+    @Override
+    public void dispose()
+    {
+        subscription.dispose();
+        receivers.clear();
+    }
+
+    @Override
+    public boolean isDisposed()
+    {
+        return subscription.isDisposed();
+    }
+
+    private void broadcast(final @Nonnull T value)
+    {
+        this.value = value;
+
+        for (final Receiver receiver : receivers)
+        {
+            receiver.schedule();
+        }
+    }
+
+    private final class Receiver
+    {
+        private final UI ui;
+
+        private final Consumer<? super T> consumer;
+
+        private final AtomicBoolean scheduled;
+
+        private T lastValue;
+
+        Receiver(final @Nonnull UI ui, final @Nonnull Consumer<? super T> consumer)
+        {
+            this.ui = ui;
+            this.consumer = consumer;
+            this.scheduled = new AtomicBoolean(false);
+        }
+
+        void schedule()
+        {
+            // Previous delivery has not run yet, it will deliver the latest value
+            if (!scheduled.compareAndSet(false, true))
+            {
+                skippedCount.incrementAndGet();
+
+                return;
+            }
+
+            try
+            {
+                scheduler.scheduleDirect(this::access);
+            }
+            catch (final RejectedExecutionException e)
+            {
+                scheduled.set(false);
+                skippedCount.incrementAndGet();
+            }
+        }
+
+        private void access()
+        {
+            if (!ui.isAttached())
+            {
+                scheduled.set(false);
+
+                return;
+            }
+
+            ui.access(this::deliver);
+
+            if (ui.getPushConfiguration().getPushMode().equals(PushMode.MANUAL))
+            {
+                ui.push();
+            }
+        }
+
+        private void deliver()
+        {
+            scheduled.set(false);
+
+            final T currentValue = value;
+
+            if (currentValue != null && currentValue != lastValue && receivers.contains(this))
+            {
+                lastValue = currentValue;
+                consumer.accept(currentValue);
+                deliveredCount.incrementAndGet();
+            }
+        }
+    }
+}
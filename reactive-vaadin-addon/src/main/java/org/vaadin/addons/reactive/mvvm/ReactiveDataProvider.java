@@ -0,0 +1,384 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.mvvm;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import com.vaadin.data.provider.AbstractBackEndDataProvider;
+import com.vaadin.data.provider.Query;
+import com.vaadin.data.provider.QuerySortOrder;
+import com.vaadin.ui.UI;
+import com.vaadin.ui.UIDetachedException;
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.internal.functions.Functions;
+import io.reactivex.schedulers.Schedulers;
+import org.vaadin.addons.reactive.ReactiveCommand;
+
+/**
+ * Lazy data provider which fetches items page by page by executing given reactive commands
+ * <p>
+ * Recently used pages are cached in {@link PageCache} and pages following the requested range are prefetched
+ * in background. Cached pages are bound to current filter and sort orders, so when a filter is set by
+ * {@link #setFilter(Object)} or sort orders of a component are changed, pages are queried again
+ * <p>
+ * Refreshing all items does not clear cached pages, use {@link PageCache#invalidateAll()} or
+ * {@link PageCache#invalidateWhen(Observable)} to query pages again after items were modified
+ * <p>
+ * Commands are never executed concurrently by this data provider, so they can be regular reactive commands
+ * created by {@link org.vaadin.addons.reactive.ReactiveCommandExtension}. Component waits for their result
+ * while holding the session lock, so commands must not need the lock, for example by executing
+ * on scheduler of UI, otherwise they deadlock
+ * <p>
+ * If an execution fails, its error is passed to the component unless it is observed by
+ * {@link ReactiveCommand#getError()}. Execution without result is treated as empty page or size,
+ * which is not cached
+ * <p>
+ * Items are refreshed after invalidation of cache under the lock of UI which last used this data provider.
+ * Data provider should be disposed when it is no longer used, so that shared page cache does not hold it
+ *
+ * @param <T> type of item
+ * @param <F> type of filter
+ * @author dohnal
+ */
+public class ReactiveDataProvider<T, F> extends AbstractBackEndDataProvider<T, F> implements Disposable
+{
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    public static final int DEFAULT_CACHE_SIZE = 20;
+
+    public static final int DEFAULT_PREFETCH_SIZE = 1;
+
+    public static final long DEFAULT_CACHE_EXPIRATION_MINUTES = 5;
+
+    private final ReactiveCommand<Query<T, F>, List<T>> fetchCommand;
+
+    private final ReactiveCommand<Query<T, F>, Integer> sizeCommand;
+
+    private final int pageSize;
+
+    private final int prefetchSize;
+
+    private final Scheduler prefetchScheduler;
+
+    private final PageCache<T, F> pageCache;
+
+    private final Set<PageCache.Key<F>> prefetchedPages;
+
+    private final Object executionLock;
+
+    private final AtomicInteger generation;
+
+    private final Disposable invalidation;
+
+    private volatile UI ui;
+
+    private volatile F filter;
+
+    /**
+     * Creates new reactive data provider with default page size, cache size and prefetch size
+     *
+     * @param fetchCommand command which fetches single page of items for given query
+     * @param sizeCommand command which returns number of items for given query
+     */
+    public ReactiveDataProvider(final @Nonnull ReactiveCommand<Query<T, F>, List<T>> fetchCommand,
+                                final @Nonnull ReactiveCommand<Query<T, F>, Integer> sizeCommand)
+    {
+        this(fetchCommand, sizeCommand, DEFAULT_PAGE_SIZE, DEFAULT_CACHE_SIZE, DEFAULT_PREFETCH_SIZE,
+                Schedulers.io());
+    }
+
+    /**
+     * Creates new reactive data provider with page cache with default expiration
+     *
+     * @param fetchCommand command which fetches single page of items for given query
+     * @param sizeCommand command which returns number of items for given query
+     * @param pageSize number of items in one page
+     * @param cacheSize maximum number of cached pages
+     * @param prefetchSize number of pages which are prefetched after requested range
+     * @param prefetchScheduler scheduler used to prefetch pages
+     */
+    public ReactiveDataProvider(final @Nonnull ReactiveCommand<Query<T, F>, List<T>> fetchCommand,
+                                final @Nonnull ReactiveCommand<Query<T, F>, Integer> sizeCommand,
+                                final int pageSize,
+                                final int cacheSize,
+                                final int prefetchSize,
+                                final @Nonnull Scheduler prefetchScheduler)
+    {
+        this(fetchCommand, sizeCommand, pageSize,
+                new PageCache<>(cacheSize, DEFAULT_CACHE_EXPIRATION_MINUTES, TimeUnit.MINUTES),
+                prefetchSize, prefetchScheduler);
+    }
+
+    /**
+     * Creates new reactive data provider
+     *
+     * @param fetchCommand command which fetches single page of items for given query
+     * @param sizeCommand command which returns number of items for given query
+     * @param pageSize number of items in one page
+     * @param pageCache cache used to store fetched pages
+     * @param prefetchSize number of pages which are prefetched after requested range
+     * @param prefetchScheduler scheduler used to prefetch pages
+     */
+    public ReactiveDataProvider(final @Nonnull ReactiveCommand<Query<T, F>, List<T>> fetchCommand,
+                                final @Nonnull ReactiveCommand<Query<T, F>, Integer> sizeCommand,
+                                final int pageSize,
+                                final @Nonnull PageCache<T, F> pageCache,
+                                final int prefetchSize,
+                                final @Nonnull Scheduler prefetchScheduler)
+    {
+        Objects.requireNonNull(fetchCommand, "Fetch command cannot be null");
+        Objects.requireNonNull(sizeCommand, "Size command cannot be null");
+        Objects.requireNonNull(pageCache, "Page cache cannot be null");
+        Objects.requireNonNull(prefetchScheduler, "Prefetch scheduler cannot be null");
+
+        if (pageSize <= 0)
+        {
+            throw new IllegalArgumentException("Page size has to be positive");
+        }
+
+        if (prefetchSize < 0)
+        {
+            throw new IllegalArgumentException("Prefetch size cannot be negative");
+        }
+
+        this.fetchCommand = fetchCommand;
+        this.sizeCommand = sizeCommand;
+        this.pageSize = pageSize;
+        this.pageCache = pageCache;
+        this.prefetchSize = prefetchSize;
+        this.prefetchScheduler = prefetchScheduler;
+        this.prefetchedPages = Collections.synchronizedSet(new HashSet<>());
+        this.executionLock = new Object();
+        this.generation = new AtomicInteger(0);
+        this.ui = UI.getCurrent();
+        this.invalidation = pageCache.invalidated().subscribe(value -> onInvalidated());
+    }
+
+    /**
+     * Returns cache used to store fetched pages
+     *
+     * @return page cache
+     */
+    @Nonnull
+    public PageCache<T, F> getPageCache()
+    {
+        return pageCache;
+    }
+
+    /**
+     * Returns current filter which is used if query does not contain any filter
+     *
+     * @return current filter
+     */
+    @Nullable
+    public F getFilter()
+    {
+        return filter;
+    }
+
+    /**
+     * Sets filter which is used if query does not contain any filter and refreshes all items
+     *
+     * @param filter filter or null to remove filter
+     */
+    public void setFilter(final @Nullable F filter)
+    {
+        this.filter = filter;
+
+        refreshAll();
+    }
+
+    /**
+     * Stops refreshing items after invalidation of page cache
+     */
+    @Override
+    public void dispose()
+    {
+        invalidation.dispose();
+    }
+
+    @Override
+    public boolean isDisposed()
+    {
+        return invalidation.isDisposed();
+    }
+
+    @Override
+    protected Stream<T> fetchFromBackEnd(final @Nonnull Query<T, F> query)
+    {
+        Objects.requireNonNull(query, "Query cannot be null");
+
+        updateUI();
+
+        if (query.getLimit() <= 0)
+        {
+            return Stream.empty();
+        }
+
+        final F currentFilter = query.getFilter().orElse(filter);
+        final int firstPage = query.getOffset() / pageSize;
+        final long lastPage = ((long) query.getOffset() + query.getLimit() - 1) / pageSize;
+
+        final List<T> items = new ArrayList<>();
+
+        boolean hasMorePages = true;
+
+        for (int page = firstPage; page <= lastPage && hasMorePages; page++)
+        {
+            final List<T> pageItems = getPage(pageKey(currentFilter, query.getSortOrders(), page));
+
+            items.addAll(pageItems);
+
+            hasMorePages = pageItems.size() == pageSize;
+        }
+
+        if (hasMorePages)
+        {
+            for (long page = lastPage + 1; page <= lastPage + prefetchSize; page++)
+            {
+                prefetchPage(pageKey(currentFilter, query.getSortOrders(), (int) page));
+            }
+        }
+
+        return items.stream()
+                .skip(query.getOffset() - firstPage * pageSize)
+                .limit(query.getLimit());
+    }
+
+    @Override
+    protected int sizeInBackEnd(final @Nonnull Query<T, F> query)
+    {
+        Objects.requireNonNull(query, "Query cannot be null");
+
+        updateUI();
+
+        final Query<T, F> sizeQuery = new Query<>(0, Integer.MAX_VALUE, query.getSortOrders(), null,
+                query.getFilter().orElse(filter));
+
+        synchronized (executionLock)
+        {
+            return sizeCommand.execute(sizeQuery).blockingFirst(0);
+        }
+    }
+
+    @Nonnull
+    private List<T> getPage(final @Nonnull PageCache.Key<F> key)
+    {
+        final List<T> cachedPage = pageCache.get(key);
+
+        if (cachedPage != null)
+        {
+            return cachedPage;
+        }
+
+        return loadPage(key);
+    }
+
+    @Nonnull
+    private List<T> loadPage(final @Nonnull PageCache.Key<F> key)
+    {
+        synchronized (executionLock)
+        {
+            // Page could have been loaded by prefetch while waiting for the lock, miss was already counted
+            final List<T> loadedPage = pageCache.peek(key);
+
+            if (loadedPage != null)
+            {
+                return loadedPage;
+            }
+
+            final int currentGeneration = generation.get();
+            final List<T> page = fetchCommand.execute(key.<T>toQuery()).firstElement().blockingGet();
+
+            // Execution failed with observed error or was dropped, next query should execute it again
+            if (page == null)
+            {
+                return Collections.emptyList();
+            }
+
+            // Do not cache pages which were loaded before the cache was invalidated
+            if (currentGeneration == generation.get())
+            {
+                pageCache.put(key, page);
+            }
+
+            return page;
+        }
+    }
+
+    private void updateUI()
+    {
+        final UI currentUI = UI.getCurrent();
+
+        if (currentUI != null)
+        {
+            ui = currentUI;
+        }
+    }
+
+    private void onInvalidated()
+    {
+        generation.incrementAndGet();
+
+        final UI currentUI = ui;
+
+        if (currentUI == null)
+        {
+            refreshAll();
+        }
+        else
+        {
+            try
+            {
+                // Cache is usually invalidated by result of a command outside of the session lock
+                currentUI.access(this::refreshAll);
+            }
+            catch (final UIDetachedException e)
+            {
+                // There is no component to refresh
+            }
+        }
+    }
+
+    private void prefetchPage(final @Nonnull PageCache.Key<F> key)
+    {
+        if (!pageCache.contains(key) && prefetchedPages.add(key))
+        {
+            Observable.fromCallable(() -> loadPage(key))
+                    .subscribeOn(prefetchScheduler)
+                    .doFinally(() -> prefetchedPages.remove(key))
+                    .subscribe(Functions.emptyConsumer(), Functions.emptyConsumer());
+        }
+    }
+
+    @Nonnull
+    private PageCache.Key<F> pageKey(final @Nullable F filter,
+                                     final @Nonnull List<QuerySortOrder> sortOrders,
+                                     final int page)
+    {
+        return new PageCache.Key<>(filter, sortOrders, page * pageSize, pageSize);
+    }
+}
@@ -14,12 +14,32 @@
 package org.vaadin.addons.reactive.mvvm;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.EventObject;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
+import com.vaadin.data.HasItems;
+import com.vaadin.data.provider.DataProvider;
+import com.vaadin.data.provider.ListDataProvider;
+import com.vaadin.server.AbstractClientConnector;
+import com.vaadin.server.VaadinSession;
 import com.vaadin.shared.communication.PushMode;
+import com.vaadin.ui.Component;
 import com.vaadin.ui.CustomComponent;
+import com.vaadin.ui.HasComponents;
+import com.vaadin.ui.PopupView;
+import com.vaadin.ui.TabSheet;
 import com.vaadin.ui.UI;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.CompositeDisposable;
+import io.reactivex.disposables.Disposables;
+import io.reactivex.disposables.SerialDisposable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.vaadin.addons.reactive.ObservableBinder;
@@ -33,6 +53,7 @@ import org.vaadin.addons.reactive.activable.SerialActivable;
 import org.vaadin.addons.reactive.mvvm.binder.ActivableObservableBinder;
 import org.vaadin.addons.reactive.mvvm.binder.ActivableObservablePropertyBinder;
 import org.vaadin.addons.reactive.mvvm.binder.ActivablePropertyBinder;
+import org.vaadin.addons.reactive.mvvm.binder.PropertyUpdate;
 import org.vaadin.addons.reactive.mvvm.binder.UIObservableBinder;
 import org.vaadin.addons.reactive.mvvm.binder.UIObservableProperty;
 import org.vaadin.addons.reactive.mvvm.binder.UIObservablePropertyBinder;
@@ -41,6 +62,10 @@ import org.vaadin.addons.reactive.mvvm.binder.UIPropertyBinder;
 
 /**
  * Base class for view in MVVM pattern
+ * <p>
+ * View is serialized with its components and view model, but without its bindings. Bindings of deserialized
+ * view are created again by {@link #initView} for deserialized view model, which has to set new composition
+ * root, and they are activated on the next response to the client or when the view is attached
  *
  * @param <M> type of view model
  * @author dohnal
@@ -53,39 +78,158 @@ public abstract class ReactiveView<M extends ReactiveViewModel> extends CustomCo
 {
     protected static final Logger LOGGER = LoggerFactory.getLogger(ReactiveView.class);
 
-    private final CompositeActivable compositeActivable;
+    public static final int DEFAULT_ACTIVATION_CHUNK_SIZE = 50;
+
+    public static final int MAX_PAUSED_UPDATES = 1000;
+
+    private final int activationChunkSize;
+
+    private transient CompositeActivable compositeActivable;
+
+    private transient CompositeActivable deferredActivable;
+
+    private transient SerialDisposable deferredActivation;
+
+    private transient ActivationMetrics activationMetrics;
+
+    private transient UIScheduler uiScheduler;
+
+    private transient SerialDisposable coolDownTimer;
+
+    private transient Object pausedLock;
+
+    private transient Map<Object, Runnable> pausedUpdates;
+
+    private transient volatile KeepWarmPolicy keepWarmPolicy;
+
+    private transient volatile VaadinSession warmSession;
+
+    private transient boolean restorePending;
+
+    private volatile M viewModel;
 
     public ReactiveView()
     {
-        this.compositeActivable = new CompositeActivable();
+        this(DEFAULT_ACTIVATION_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates new view which activates deferred bindings in chunks of given size
+     *
+     * @param activationChunkSize maximum number of deferred bindings activated in one access to UI
+     */
+    public ReactiveView(final int activationChunkSize)
+    {
+        if (activationChunkSize <= 0)
+        {
+            throw new IllegalArgumentException("Activation chunk size has to be positive");
+        }
+
+        this.activationChunkSize = activationChunkSize;
+
+        initTransients();
     }
 
     protected abstract void initView(final @Nonnull M viewModel);
 
+    private void readObject(final @Nonnull ObjectInputStream input) throws IOException, ClassNotFoundException
+    {
+        input.defaultReadObject();
+
+        initTransients();
+
+        if (viewModel != null)
+        {
+            restorePending = true;
+
+            // Fields of subclasses and parents are not read yet
+            input.registerValidation(this::requestRestore, 0);
+        }
+    }
+
+    private void initTransients()
+    {
+        this.compositeActivable = new CompositeActivable(this, ReactiveView::isOwnerAlive);
+        this.deferredActivable = new CompositeActivable(this, ReactiveView::isOwnerAlive);
+        this.deferredActivation = new SerialDisposable();
+        this.activationMetrics = new ActivationMetrics();
+        this.uiScheduler = new UIScheduler(this::getUI);
+        this.coolDownTimer = new SerialDisposable();
+        this.pausedLock = new Object();
+    }
+
     @Nonnull
     public final ReactiveView<M> withViewModel(final @Nonnull M viewModel)
     {
         Objects.requireNonNull(viewModel, "View model cannot be null");
 
+        deactivateBindings();
+
         compositeActivable.clear();
+        deferredActivable.clear();
 
-        initView(viewModel);
+        this.viewModel = viewModel;
+        this.restorePending = false;
 
-        //noinspection Convert2MethodRef
-        compositeActivable.add(new SerialActivable(() -> viewModel.activate()));
+        initBindings(viewModel);
 
         if (isAttached())
         {
-            compositeActivable.activate();
+            activateBindings();
         }
 
         return this;
     }
 
+    /**
+     * Sets policy which keeps bindings of this view active for a grace period after it is detached
+     * <p>
+     * While the view is detached and warm, updates of its components are paused. When the view is attached
+     * again, the latest value of each bound property and all other updates are replayed in order they came.
+     * If more than {@link #MAX_PAUSED_UPDATES} updates are paused, they are discarded and bindings
+     * are activated again when the view is attached
+     * <p>
+     * Policy is not serialized with this view, deserialized view deactivates its bindings on detach
+     *
+     * @param keepWarmPolicy keep-warm policy or null to deactivate bindings immediately on detach
+     * @return this view
+     */
+    @Nonnull
+    public final ReactiveView<M> withKeepWarmPolicy(final @Nullable KeepWarmPolicy keepWarmPolicy)
+    {
+        this.keepWarmPolicy = keepWarmPolicy;
+
+        return this;
+    }
+
+    /**
+     * Returns whether this view is detached but its bindings are still active
+     *
+     * @return whether this view is warm
+     */
+    public final boolean isWarm()
+    {
+        return warmSession != null;
+    }
+
     @Override
     public final void attach()
     {
-        compositeActivable.activate();
+        restoreBindings();
+
+        if (resumeBindings())
+        {
+            if (!replayPausedUpdates())
+            {
+                // Too many updates were paused, bindings are activated again instead of replaying them
+                deactivateBindings();
+                activateBindings();
+            }
+        }
+        else
+        {
+            activateBindings();
+        }
 
         super.attach();
     }
@@ -93,9 +237,78 @@ public abstract class ReactiveView<M extends ReactiveViewModel> extends CustomCo
     @Override
     public final void detach()
     {
+        final UI ui = getUI();
+
         super.detach();
 
-        compositeActivable.deactivate();
+        final KeepWarmPolicy policy = keepWarmPolicy;
+
+        if (policy != null && ui != null && ui.getSession() != null)
+        {
+            keepBindingsWarm(policy, ui.getSession());
+        }
+        else
+        {
+            deactivateBindings();
+        }
+    }
+
+    @Override
+    public void beforeClientResponse(final boolean initial)
+    {
+        super.beforeClientResponse(initial);
+
+        if (restoreBindings() && isAttached())
+        {
+            activateBindings();
+        }
+    }
+
+    /**
+     * Returns memory footprint of this view including its view model
+     * <p>
+     * Components of nested reactive views are not included, they have their own footprint
+     *
+     * @return memory footprint
+     */
+    @Nonnull
+    public final MemoryFootprint getMemoryFootprint()
+    {
+        final M currentViewModel = viewModel;
+        final MemoryFootprint footprint = getViewFootprint();
+
+        return currentViewModel != null ? footprint.plus(currentViewModel.getMemoryFootprint()) : footprint;
+    }
+
+    /**
+     * Returns memory footprint of bindings and components of this view without its view model
+     *
+     * @return memory footprint
+     */
+    @Nonnull
+    final MemoryFootprint getViewFootprint()
+    {
+        return new MemoryFootprint(0, 0,
+                compositeActivable.getActivatedCount() + deferredActivable.getActivatedCount(), 0,
+                compositeActivable.size() + deferredActivable.size(), 0, 0)
+                .plus(getComponentFootprint(getCompositionRoot()));
+    }
+
+    @Nullable
+    final M getViewModel()
+    {
+        return viewModel;
+    }
+
+    /**
+     * Returns metrics of the last activation of bindings of this view
+     *
+     * @return activation metrics
+     */
+    @Nonnull
+    public final ActivationMetrics getActivationMetrics()
+    {
+        return activationMetrics;
     }
 
     @Override
@@ -112,10 +325,7 @@ public abstract class ReactiveView<M extends ReactiveViewModel> extends CustomCo
     {
         Objects.requireNonNull(property, "Property cannot be null");
 
-        return new ActivablePropertyBinder<>(compositeActivable,
-                new UIPropertyBinder<>(this::withUIAccess,
-                        ReactiveBinderExtension.super.bind(
-                                new UIProperty<>(this::withUIAccess, property))));
+        return bind(compositeActivable, property);
     }
 
     @Nonnull
@@ -124,10 +334,7 @@ public abstract class ReactiveView<M extends ReactiveViewModel> extends CustomCo
     {
         Objects.requireNonNull(property, "Property cannot be null");
 
-        return new ActivableObservablePropertyBinder<>(compositeActivable,
-                new UIObservablePropertyBinder<>(this::withUIAccess,
-                        ReactiveBinderExtension.super.bind(
-                                new UIObservableProperty<>(this::withUIAccess, property))));
+        return bind(compositeActivable, property);
     }
 
     @Nonnull
@@ -136,11 +343,323 @@ public abstract class ReactiveView<M extends ReactiveViewModel> extends CustomCo
     {
         Objects.requireNonNull(observable, "Observable cannot be null");
 
+        return when(compositeActivable, observable);
+    }
+
+    /**
+     * Sets values of given broadcaster to given property while this view is attached
+     * <p>
+     * Unlike binding, values are delivered by the broadcaster which coordinates accesses to all UIs
+     *
+     * @param broadcaster broadcaster of values
+     * @param property property which receives values
+     * @param <T> type of values
+     */
+    protected final <T> void receive(final @Nonnull PropertyBroadcaster<? extends T> broadcaster,
+                                     final @Nonnull Property<? super T> property)
+    {
+        Objects.requireNonNull(broadcaster, "Broadcaster cannot be null");
+        Objects.requireNonNull(property, "Property cannot be null");
+
+        compositeActivable.add(new SerialActivable(() -> {
+            final UI ui = getUI();
+
+            return ui != null ? broadcaster.subscribe(ui, property::setValue) : Disposables.disposed();
+        }));
+    }
+
+    /**
+     * Returns binder extension whose bindings are activated after this view is attached,
+     * in chunks which are run in separate accesses to UI
+     * <p>
+     * Bindings which are not needed for the first paint of the view should be deferred,
+     * so the view is attached sooner
+     *
+     * @return binder extension for deferred bindings
+     */
+    @Nonnull
+    protected final ReactiveBinderExtension deferred()
+    {
+        return new ScopedBinderExtension(deferredActivable);
+    }
+
+    /**
+     * Returns binder extension whose bindings are active only while this view is attached
+     * and given visibility is true
+     * <p>
+     * Vaadin does not notify about visibility changes of components, so visibility has to be observed
+     * by the caller, for example from the view model property which controls it
+     *
+     * @param visibility observable of visibility
+     * @return binder extension for visible components
+     */
+    @Nonnull
+    protected final ReactiveBinderExtension whileVisible(final @Nonnull Observable<Boolean> visibility)
+    {
+        Objects.requireNonNull(visibility, "Visibility cannot be null");
+
+        final CompositeActivable visibleActivable = new CompositeActivable(this, ReactiveView::isOwnerAlive);
+
+        compositeActivable.add(new SerialActivable(() -> new CompositeDisposable(
+                visibility.distinctUntilChanged().subscribe(visible -> {
+                    if (Boolean.TRUE.equals(visible))
+                    {
+                        visibleActivable.activate();
+                    }
+                    else
+                    {
+                        visibleActivable.deactivate();
+                    }
+                }, this::handleError),
+                Disposables.fromAction(visibleActivable::deactivate))));
+
+        return new ScopedBinderExtension(visibleActivable);
+    }
+
+    /**
+     * Returns binder extension whose bindings are active only while this view is attached
+     * and given tab is selected in given tab sheet
+     *
+     * @param tabSheet tab sheet
+     * @param tab component of tab
+     * @return binder extension for components of tab
+     */
+    @Nonnull
+    protected final ReactiveBinderExtension whileSelected(final @Nonnull TabSheet tabSheet,
+                                                          final @Nonnull Component tab)
+    {
+        Objects.requireNonNull(tabSheet, "TabSheet cannot be null");
+        Objects.requireNonNull(tab, "Tab cannot be null");
+
+        return whileVisible(selectedTabChangedOf(tabSheet)
+                .map(event -> tabSheet.getSelectedTab() == tab)
+                .startWith(Observable.fromCallable(() -> tabSheet.getSelectedTab() == tab)));
+    }
+
+    /**
+     * Returns binder extension whose bindings are active only while this view is attached
+     * and popup of given popup view is visible
+     *
+     * @param popupView popup view
+     * @return binder extension for components of popup
+     */
+    @Nonnull
+    protected final ReactiveBinderExtension whileVisible(final @Nonnull PopupView popupView)
+    {
+        Objects.requireNonNull(popupView, "PopupView cannot be null");
+
+        return whileVisible(visibilityChangedOf(popupView)
+                .map(PopupView.PopupVisibilityEvent::isPopupVisible)
+                .startWith(Observable.fromCallable(popupView::isPopupVisible)));
+    }
+
+    private void initBindings(final @Nonnull M viewModel)
+    {
+        initView(viewModel);
+
+        //noinspection Convert2MethodRef
+        compositeActivable.add(new SerialActivable(() -> viewModel.activate()));
+    }
+
+    /**
+     * Marks this deserialized view as dirty, so its bindings are restored before the next response
+     * while holding the session lock
+     */
+    private void requestRestore()
+    {
+        final UI ui = getUI();
+
+        if (ui != null)
+        {
+            ui.getConnectorTracker().markDirty(this);
+        }
+    }
+
+    /**
+     * Creates bindings of this deserialized view for its view model
+     *
+     * @return whether bindings have been created
+     */
+    private boolean restoreBindings()
+    {
+        final M currentViewModel = viewModel;
+
+        if (!restorePending || currentViewModel == null)
+        {
+            return false;
+        }
+
+        restorePending = false;
+
+        initBindings(currentViewModel);
+
+        return true;
+    }
+
+    private void activateBindings()
+    {
+        final long start = System.nanoTime();
+
+        compositeActivable.activate();
+
+        activationMetrics.recordActivation(compositeActivable.size(), System.nanoTime() - start,
+                deferredActivable.size());
+
+        final SerialDisposable activation = new SerialDisposable();
+
+        deferredActivation.set(activation);
+
+        activation.set(deferredActivable.activate(activationChunkSize, chunk -> withUIAccess(() -> {
+            // Chunks of previous activation may still be waiting for access to UI
+            if (!activation.isDisposed())
+            {
+                final long chunkStart = System.nanoTime();
+
+                chunk.run();
+
+                activationMetrics.recordChunk(System.nanoTime() - chunkStart);
+            }
+        })));
+    }
+
+    private static boolean isOwnerAlive(final @Nonnull Object owner)
+    {
+        final ReactiveView<?> view = (ReactiveView<?>) owner;
+        final VaadinSession session = view.isWarm() ? view.warmSession : view.getSession();
+
+        // Session may be closed without detaching its UIs
+        return session != null && session.getState() == VaadinSession.State.OPEN;
+    }
+
+    @Nonnull
+    private static MemoryFootprint getComponentFootprint(final @Nullable Component component)
+    {
+        if (component == null || component instanceof ReactiveView)
+        {
+            return MemoryFootprint.EMPTY;
+        }
+
+        final int listenerCount = component instanceof AbstractClientConnector ?
+                ((AbstractClientConnector) component).getListeners(EventObject.class).size() : 0;
+
+        final DataProvider<?, ?> dataProvider = component instanceof HasItems ?
+                ((HasItems<?>) component).getDataProvider() : null;
+
+        final int itemCount = dataProvider instanceof ListDataProvider ?
+                ((ListDataProvider<?>) dataProvider).getItems().size() : 0;
+
+        MemoryFootprint footprint = new MemoryFootprint(0, 0, 0, listenerCount, 0, 1, itemCount);
+
+        if (component instanceof HasComponents)
+        {
+            for (final Component child : (HasComponents) component)
+            {
+                footprint = footprint.plus(getComponentFootprint(child));
+            }
+        }
+
+        return footprint;
+    }
+
+    private void keepBindingsWarm(final @Nonnull KeepWarmPolicy policy, final @Nonnull VaadinSession session)
+    {
+        synchronized (pausedLock)
+        {
+            pausedUpdates = new LinkedHashMap<>();
+        }
+
+        warmSession = session;
+
+        coolDownTimer.set(policy.getScheduler().scheduleDirect(() -> session.access(() -> {
+            if (warmSession == session)
+            {
+                deactivateBindings();
+            }
+        }), policy.getGracePeriod(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS));
+
+        policy.getWarmViews(session).add(this);
+    }
+
+    /**
+     * Deactivates bindings of this warm view, must be called while holding the session lock
+     */
+    void coolDown()
+    {
+        deactivateBindings();
+    }
+
+    private boolean resumeBindings()
+    {
+        final VaadinSession session = warmSession;
+
+        if (session == null)
+        {
+            return false;
+        }
+
+        warmSession = null;
+        coolDownTimer.set(null);
+
+        final WarmViews warmViews = KeepWarmPolicy.findWarmViews(session);
+
+        if (warmViews != null)
+        {
+            warmViews.remove(this);
+        }
+
+        return true;
+    }
+
+    private void deactivateBindings()
+    {
+        resumeBindings();
+        takePausedUpdates();
+
+        deferredActivation.set(null);
+        deferredActivable.deactivate();
+        compositeActivable.deactivate();
+    }
+
+    @Nonnull
+    private <T> PropertyBinder<T> bind(final @Nonnull CompositeActivable compositeActivable,
+                                       final @Nonnull Property<T> property)
+    {
+        return new ActivablePropertyBinder<>(compositeActivable,
+                new UIPropertyBinder<>(this::withUIAccess,
+                        ReactiveBinderExtension.super.bind(
+                                new UIProperty<>(this::withUIAccess, property))));
+    }
+
+    @Nonnull
+    private <T> ObservablePropertyBinder<T> bind(final @Nonnull CompositeActivable compositeActivable,
+                                                 final @Nonnull ObservableProperty<T> property)
+    {
+        return new ActivableObservablePropertyBinder<>(compositeActivable,
+                new UIObservablePropertyBinder<>(this::withUIAccess,
+                        ReactiveBinderExtension.super.bind(
+                                new UIObservableProperty<>(this::withUIAccess, property))));
+    }
+
+    @Nonnull
+    private <T> ObservableBinder<T> when(final @Nonnull CompositeActivable compositeActivable,
+                                         final @Nonnull Observable<T> observable)
+    {
         return new ActivableObservableBinder<>(compositeActivable,
                 new UIObservableBinder<>(this::withUIAccess,
                         ReactiveBinderExtension.super.when(observable)));
     }
 
+    /**
+     * Returns scheduler which runs tasks while holding the session lock of UI this view is attached to
+     *
+     * @return UI scheduler
+     */
+    @Nonnull
+    protected final Scheduler getUIScheduler()
+    {
+        return uiScheduler;
+    }
+
     /**
      * Runs given action while holding the session lock to ensure exclusive access
      * to UI this view is attached to
@@ -151,6 +670,11 @@ public abstract class ReactiveView<M extends ReactiveViewModel> extends CustomCo
     {
         Objects.requireNonNull(action, "Action cannot be null");
 
+        if (pause(action))
+        {
+            return;
+        }
+
         final UI ui = getUI();
 
         if (ui != null && ui.isAttached())
@@ -163,4 +687,115 @@ public abstract class ReactiveView<M extends ReactiveViewModel> extends CustomCo
             }
         }
     }
+
+    /**
+     * Keeps given action until this view is attached again, if this view is warm
+     *
+     * @param action action
+     * @return whether the action has been paused
+     */
+    private boolean pause(final @Nonnull Runnable action)
+    {
+        synchronized (pausedLock)
+        {
+            if (pausedUpdates == null)
+            {
+                return false;
+            }
+
+            // Update of property supersedes its previous update, other actions are kept in order
+            final Object key = action instanceof PropertyUpdate ? ((PropertyUpdate<?>) action).getProperty() :
+                    new Object();
+
+            if (pausedUpdates.remove(key) == null && pausedUpdates.size() >= MAX_PAUSED_UPDATES)
+            {
+                // Following actions are dropped as for detached view, attach activates bindings again
+                pausedUpdates = null;
+            }
+            else
+            {
+                pausedUpdates.put(key, action);
+            }
+
+            return true;
+        }
+    }
+
+    @Nullable
+    private Map<Object, Runnable> takePausedUpdates()
+    {
+        synchronized (pausedLock)
+        {
+            final Map<Object, Runnable> updates = pausedUpdates;
+
+            pausedUpdates = null;
+
+            return updates;
+        }
+    }
+
+    /**
+     * Runs paused updates of this view
+     *
+     * @return whether paused updates were complete and have been run
+     */
+    private boolean replayPausedUpdates()
+    {
+        final Map<Object, Runnable> updates = takePausedUpdates();
+
+        if (updates == null)
+        {
+            return false;
+        }
+
+        updates.values().forEach(Runnable::run);
+
+        return true;
+    }
+
+    /**
+     * Binder extension which adds bindings of this view to given composite activable
+     */
+    private final class ScopedBinderExtension implements ReactiveBinderExtension
+    {
+        private final CompositeActivable compositeActivable;
+
+        ScopedBinderExtension(final @Nonnull CompositeActivable compositeActivable)
+        {
+            this.compositeActivable = compositeActivable;
+        }
+
+        @Override
+        public void handleError(final @Nonnull Throwable error)
+        {
+            ReactiveView.this.handleError(error);
+        }
+
+        @Nonnull
+        @Override
+        public <T> PropertyBinder<T> bind(final @Nonnull Property<T> property)
+        {
+            Objects.requireNonNull(property, "Property cannot be null");
+
+            return ReactiveView.this.bind(compositeActivable, property);
+        }
+
+        @Nonnull
+        @Override
+        public <T> ObservablePropertyBinder<T> bind(final @Nonnull ObservableProperty<T> property)
+        {
+            Objects.requireNonNull(property, "Property cannot be null");
+
+            return ReactiveView.this.bind(compositeActivable, property);
+        }
+
+        @Nonnull
+        @Override
+        public <T> ObservableBinder<T> when(final @Nonnull Observable<T> observable)
+        {
+            Objects.requireNonNull(observable, "Observable cannot be null");
+
+            return ReactiveView.this.when(compositeActivable, observable);
+        }
+    }
 }
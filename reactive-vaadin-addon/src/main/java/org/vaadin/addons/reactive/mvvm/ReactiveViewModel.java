@@ -14,13 +14,25 @@
 package org.vaadin.addons.reactive.mvvm;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
 import io.reactivex.disposables.CompositeDisposable;
 import io.reactivex.disposables.Disposable;
 import io.reactivex.disposables.Disposables;
@@ -33,6 +45,7 @@ import org.vaadin.addons.reactive.ObservablePropertyBinder;
 import org.vaadin.addons.reactive.Property;
 import org.vaadin.addons.reactive.PropertyBinder;
 import org.vaadin.addons.reactive.ReactiveBinderExtension;
+import org.vaadin.addons.reactive.ReactiveCommand;
 import org.vaadin.addons.reactive.ReactiveCommandExtension;
 import org.vaadin.addons.reactive.ReactiveInteractionExtension;
 import org.vaadin.addons.reactive.ReactiveProperty;
@@ -45,10 +58,14 @@ import org.vaadin.addons.reactive.mvvm.binder.ActivablePropertyBinder;
 
 /**
  * Base class for all view models in MVVM pattern
+ * <p>
+ * View model is serialized as its snapshot, for example when Vaadin session is replicated. Views are serialized
+ * without their bindings, which are created again for deserialized view model, see {@link ReactiveView}
  *
  * @author dohnal
  */
 public class ReactiveViewModel implements
+        Serializable,
         Suppressible,
         Delayable,
         ReactiveBinderExtension,
@@ -58,26 +75,53 @@ public class ReactiveViewModel implements
 {
     protected static final Logger LOGGER = LoggerFactory.getLogger(ReactiveViewModel.class);
 
+    private static final long serialVersionUID = 1L;
+
     private final List<ReactiveProperty<?>> properties;
 
+    private final List<ReactiveCommand<?, ?>> commands;
+
     private final AtomicInteger suppressed;
 
     private final AtomicInteger delayed;
 
     private final AtomicInteger viewCount;
 
+    private final Object activationLock;
+
     private final ReactiveProperty<Boolean> activation;
 
     private final CompositeActivable compositeActivable;
 
+    private final SchedulerPolicy schedulerPolicy;
+
+    private volatile Scheduler defaultScheduler;
+
     public ReactiveViewModel()
     {
-        this.properties = new ArrayList<>();
+        this(SchedulerPolicy.inline());
+    }
+
+    /**
+     * Creates new view model whose commands created without explicit scheduler are executed
+     * on scheduler given by policy
+     *
+     * @param schedulerPolicy scheduler policy
+     */
+    public ReactiveViewModel(final @Nonnull SchedulerPolicy schedulerPolicy)
+    {
+        Objects.requireNonNull(schedulerPolicy, "Scheduler policy cannot be null");
+
+        this.schedulerPolicy = schedulerPolicy;
+        this.properties = new CopyOnWriteArrayList<>();
+        this.commands = new CopyOnWriteArrayList<>();
         this.suppressed = new AtomicInteger(0);
         this.delayed = new AtomicInteger(0);
         this.viewCount = new AtomicInteger(0);
+        this.activationLock = new Object();
         this.activation = createProperty();
-        this.compositeActivable = new CompositeActivable();
+        // Bindings of view model are owned by view model itself, it may outlive its first view
+        this.compositeActivable = new CompositeActivable(this, ReactiveViewModel::isOwnerAlive);
     }
 
     @Override
@@ -162,6 +206,18 @@ public class ReactiveViewModel implements
         LOGGER.error("Unhandled error", error);
     }
 
+    @Nonnull
+    @Override
+    public Scheduler getDefaultScheduler()
+    {
+        if (defaultScheduler == null)
+        {
+            defaultScheduler = schedulerPolicy.getScheduler();
+        }
+
+        return defaultScheduler;
+    }
+
     @Nonnull
     @Override
     public <T> ReactiveProperty<T> onCreateProperty(final @Nonnull ReactiveProperty<T> property)
@@ -173,6 +229,17 @@ public class ReactiveViewModel implements
         return property;
     }
 
+    @Nonnull
+    @Override
+    public <T, R> ReactiveCommand<T, R> onCreateCommand(final @Nonnull ReactiveCommand<T, R> command)
+    {
+        Objects.requireNonNull(command, "Command cannot be null");
+
+        commands.add(command);
+
+        return command;
+    }
+
     /**
      * Returns an event which will happen when this view model is activated
      *
@@ -195,22 +262,183 @@ public class ReactiveViewModel implements
         return activation.asObservable().filter(Boolean.FALSE::equals).map(value -> true);
     }
 
+    /**
+     * Returns snapshot of values of properties and execution counts of commands of this view model
+     * in compact binary form
+     * <p>
+     * Values of read-only properties are not included, they are derived again when the snapshot is restored
+     *
+     * @return snapshot
+     */
+    @Nonnull
+    public final byte[] snapshot()
+    {
+        return ViewModelSnapshot.write(getClass(), getSnapshotProperties(), commands, this::writeSnapshotState);
+    }
+
+    /**
+     * Restores values of properties from given snapshot, this view model should be freshly constructed
+     * and of the same class as view model of which the snapshot was taken
+     *
+     * @param snapshot snapshot
+     */
+    public final void restore(final @Nonnull byte[] snapshot)
+    {
+        Objects.requireNonNull(snapshot, "Snapshot cannot be null");
+
+        ViewModelSnapshot.read(snapshot, getClass(), getSnapshotProperties(), commands, this::isSnapshotType,
+                this::readSnapshotState);
+    }
+
+    /**
+     * Writes additional state of this view model into its snapshot
+     * <p>
+     * Snapshot contains only values of properties and execution counts of commands, override together with
+     * {@link #readSnapshotState(DataInput)} to include other fields of view model
+     *
+     * @param output output of snapshot
+     * @throws IOException if state cannot be written
+     */
+    protected void writeSnapshotState(final @Nonnull DataOutput output) throws IOException
+    {}
+
+    /**
+     * Reads additional state of this view model written by {@link #writeSnapshotState(DataOutput)}
+     *
+     * @param input input of snapshot
+     * @throws IOException if state cannot be read
+     */
+    protected void readSnapshotState(final @Nonnull DataInput input) throws IOException
+    {}
+
+    /**
+     * Returns whether serialized values of given type can be restored from snapshot
+     * <p>
+     * Strings, primitive wrappers, enums and common JDK value types and collections are always allowed.
+     * Override to allow other serializable value types of properties of this view model
+     *
+     * @param type type of serialized value or of its part
+     * @return whether type is allowed
+     */
+    protected boolean isSnapshotType(final @Nonnull Class<?> type)
+    {
+        return false;
+    }
+
+    /**
+     * Returns memory footprint of this view model
+     * <p>
+     * View model has no components and no listeners of them, they are counted by its views.
+     * Items are counted for properties whose values are collections, maps or arrays
+     *
+     * @return memory footprint
+     */
+    @Nonnull
+    public final MemoryFootprint getMemoryFootprint()
+    {
+        final List<ReactiveProperty<?>> snapshotProperties = getSnapshotProperties();
+
+        return new MemoryFootprint(snapshotProperties.size(), commands.size(),
+                compositeActivable.getActivatedCount(), 0, compositeActivable.size(), 0,
+                snapshotProperties.stream().mapToLong(ReactiveViewModel::getItemCount).sum());
+    }
+
+    /**
+     * Returns number of views which currently activate this view model
+     *
+     * @return number of views
+     */
+    public final int getViewCount()
+    {
+        return viewCount.get();
+    }
+
+    /**
+     * View model is serialized as its snapshot, when it is deserialized new instance is created
+     * by constructor without parameters, so all bindings and commands are created again
+     * <p>
+     * Fields which are neither properties nor commands are not serialized unless they are written
+     * by {@link #writeSnapshotState(DataOutput)}
+     *
+     * @return serialized form of view model
+     * @throws ObjectStreamException if view model has no constructor without parameters
+     */
+    @Nonnull
+    protected final Object writeReplace() throws ObjectStreamException
+    {
+        try
+        {
+            getClass().getDeclaredConstructor();
+        }
+        catch (final NoSuchMethodException e)
+        {
+            throw new NotSerializableException(getClass().getName() + " has no constructor without parameters");
+        }
+
+        return new SerializedViewModel(snapshot());
+    }
+
+    private void readObject(final @Nonnull ObjectInputStream input) throws InvalidObjectException
+    {
+        throw new InvalidObjectException("Serialized form of view model is required");
+    }
+
+    private static boolean isOwnerAlive(final @Nonnull Object viewModel)
+    {
+        return ((ReactiveViewModel) viewModel).getViewCount() > 0;
+    }
+
+    private static long getItemCount(final @Nonnull ReactiveProperty<?> property)
+    {
+        final Object value = property.hasValue() ? property.getValue() : null;
+
+        if (value instanceof Collection)
+        {
+            return ((Collection<?>) value).size();
+        }
+        else if (value instanceof Map)
+        {
+            return ((Map<?, ?>) value).size();
+        }
+        else if (value != null && value.getClass().isArray())
+        {
+            return Array.getLength(value);
+        }
+
+        return 0;
+    }
+
+    @Nonnull
+    private List<ReactiveProperty<?>> getSnapshotProperties()
+    {
+        return properties.stream()
+                .filter(property -> property != activation)
+                .collect(Collectors.toList());
+    }
+
     @Nonnull
     final Disposable activate()
     {
-        if (viewCount.getAndIncrement() == 0)
+        // Views of different UIs may activate and deactivate shared view model concurrently
+        synchronized (activationLock)
         {
-            compositeActivable.activate();
+            if (viewCount.getAndIncrement() == 0)
+            {
+                compositeActivable.activate();
 
-            activation.setValue(true);
+                activation.setValue(true);
+            }
         }
 
         return Disposables.fromRunnable(() -> {
-            if (viewCount.decrementAndGet() == 0)
+            synchronized (activationLock)
             {
-                activation.setValue(false);
+                if (viewCount.decrementAndGet() == 0)
+                {
+                    activation.setValue(false);
 
-                compositeActivable.deactivate();
+                    compositeActivable.deactivate();
+                }
             }
         });
     }
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.mvvm;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.vaadin.server.VaadinSession;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.schedulers.Schedulers;
+import org.vaadin.addons.reactive.command.BoundedScheduler;
+import org.vaadin.addons.reactive.command.CommandSchedulers;
+
+/**
+ * Policy which decides on which scheduler commands of {@link ReactiveViewModel} are executed
+ * if they are created without explicit scheduler
+ *
+ * @author dohnal
+ */
+public final class SchedulerPolicy
+{
+    public static final int DEFAULT_POOL_CONCURRENCY = CommandSchedulers.DEFAULT_MAX_PLATFORM_THREADS;
+
+    public static final int DEFAULT_POOL_QUEUE_DEPTH = 1000;
+
+    public static final int DEFAULT_SESSION_QUEUE_DEPTH = 10;
+
+    private static final SchedulerPolicy INLINE = new SchedulerPolicy(Schedulers::trampoline);
+
+    private final Supplier<Scheduler> scheduler;
+
+    private SchedulerPolicy(final @Nonnull Supplier<Scheduler> scheduler)
+    {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Returns policy which executes commands synchronously on the calling thread
+     *
+     * @return inline policy
+     */
+    @Nonnull
+    public static SchedulerPolicy inline()
+    {
+        return INLINE;
+    }
+
+    /**
+     * Returns policy which executes commands on shared pool with default concurrency and queue depth
+     *
+     * @return shared pool policy
+     */
+    @Nonnull
+    public static SchedulerPolicy sharedPool()
+    {
+        return SharedPoolHolder.INSTANCE;
+    }
+
+    /**
+     * Creates new policy which executes commands on a pool shared by all view models using this policy
+     *
+     * @param maxConcurrency maximum number of commands executing at once
+     * @param maxQueueDepth maximum number of commands waiting for execution
+     * @return shared pool policy
+     */
+    @Nonnull
+    public static SchedulerPolicy sharedPool(final int maxConcurrency, final int maxQueueDepth)
+    {
+        final BoundedScheduler scheduler = new BoundedScheduler(CommandSchedulers.blocking(),
+                maxConcurrency, maxQueueDepth);
+
+        return new SchedulerPolicy(() -> scheduler);
+    }
+
+    /**
+     * Returns policy which executes commands of each Vaadin session serially with default queue depth
+     *
+     * @return per-session policy
+     */
+    @Nonnull
+    public static SchedulerPolicy perSession()
+    {
+        return perSession(DEFAULT_SESSION_QUEUE_DEPTH);
+    }
+
+    /**
+     * Creates new policy which executes commands of each Vaadin session serially, one after another
+     * <p>
+     * The session is the current session at the time command is executed
+     *
+     * @param maxQueueDepth maximum number of commands of one session waiting for execution
+     * @return per-session policy
+     */
+    @Nonnull
+    public static SchedulerPolicy perSession(final int maxQueueDepth)
+    {
+        return perSession(maxQueueDepth, BoundedScheduler.OverflowPolicy.REJECT);
+    }
+
+    /**
+     * Creates new policy which executes commands of each Vaadin session serially, one after another
+     * <p>
+     * The session is the current session at the time command is executed, execution without current session
+     * is rejected. All view models of one session share one scheduler, so all per-session policies used
+     * in one session must have the same settings, otherwise execution fails with {@link IllegalStateException}.
+     * Scheduler is stored in the session as serializable attribute, it is created again after the session
+     * is deserialized
+     *
+     * @param maxQueueDepth maximum number of commands of one session waiting for execution
+     * @param overflowPolicy policy which handles new executions when too many commands of the session are waiting
+     * @return per-session policy
+     */
+    @Nonnull
+    public static SchedulerPolicy perSession(final int maxQueueDepth,
+                                             final @Nonnull BoundedScheduler.OverflowPolicy overflowPolicy)
+    {
+        Objects.requireNonNull(overflowPolicy, "Overflow policy cannot be null");
+
+        if (maxQueueDepth <= 0)
+        {
+            throw new IllegalArgumentException("Maximum queue depth has to be positive");
+        }
+
+        final CurrentSessionScheduler scheduler = new CurrentSessionScheduler(maxQueueDepth, overflowPolicy);
+
+        return new SchedulerPolicy(() -> scheduler);
+    }
+
+    /**
+     * Returns serial scheduler of given session which is used by per-session policy
+     *
+     * @param session Vaadin session
+     * @return serial scheduler of session or null if it has not been created yet
+     */
+    @Nullable
+    public static BoundedScheduler getSessionScheduler(final @Nonnull VaadinSession session)
+    {
+        Objects.requireNonNull(session, "Session cannot be null");
+
+        final SessionScheduler sessionScheduler;
+
+        session.lock();
+
+        try
+        {
+            sessionScheduler = session.getAttribute(SessionScheduler.class);
+        }
+        finally
+        {
+            session.unlock();
+        }
+
+        return sessionScheduler != null ? sessionScheduler.get() : null;
+    }
+
+    @Nonnull
+    private static BoundedScheduler getSessionScheduler(final @Nonnull VaadinSession session,
+                                                        final int maxQueueDepth,
+                                                        final @Nonnull BoundedScheduler.OverflowPolicy overflowPolicy)
+    {
+        SessionScheduler sessionScheduler;
+
+        // Attributes of session can be accessed only while holding its lock
+        session.lock();
+
+        try
+        {
+            sessionScheduler = session.getAttribute(SessionScheduler.class);
+
+            if (sessionScheduler == null)
+            {
+                sessionScheduler = new SessionScheduler(maxQueueDepth, overflowPolicy);
+
+                session.setAttribute(SessionScheduler.class, sessionScheduler);
+            }
+            else if (sessionScheduler.maxQueueDepth != maxQueueDepth ||
+                    sessionScheduler.overflowPolicy != overflowPolicy)
+            {
+                throw new IllegalStateException("Session already has scheduler with maximum queue depth " +
+                        sessionScheduler.maxQueueDepth + " and overflow policy " + sessionScheduler.overflowPolicy);
+            }
+        }
+        finally
+        {
+            session.unlock();
+        }
+
+        return sessionScheduler.get();
+    }
+
+    /**
+     * Returns scheduler which should be used to execute commands
+     *
+     * @return scheduler
+     */
+    @Nonnull
+    public Scheduler getScheduler()
+    {
+        return scheduler.get();
+    }
+
+    /**
+     * Scheduler which runs tasks on serial scheduler of session which is current at the time they are scheduled
+     */
+    private static final class CurrentSessionScheduler extends Scheduler
+    {
+        private final int maxQueueDepth;
+
+        private final BoundedScheduler.OverflowPolicy overflowPolicy;
+
+        CurrentSessionScheduler(final int maxQueueDepth,
+                                final @Nonnull BoundedScheduler.OverflowPolicy overflowPolicy)
+        {
+            this.maxQueueDepth = maxQueueDepth;
+            this.overflowPolicy = overflowPolicy;
+        }
+
+        @Nonnull
+        @Override
+        public Worker createWorker()
+        {
+            return getCurrentScheduler().createWorker();
+        }
+
+        @Nonnull
+        @Override
+        public Disposable scheduleDirect(final @Nonnull Runnable run, final long delay, final @Nonnull TimeUnit unit)
+        {
+            return getCurrentScheduler().scheduleDirect(run, delay, unit);
+        }
+
+        @Nonnull
+        private BoundedScheduler getCurrentScheduler()
+        {
+            final VaadinSession session = VaadinSession.getCurrent();
+
+            if (session == null)
+            {
+                throw new RejectedExecutionException("There is no current session to execute command in");
+            }
+
+            return getSessionScheduler(session, maxQueueDepth, overflowPolicy);
+        }
+    }
+
+    /**
+     * Serializable attribute of session holding its serial scheduler
+     */
+    private static final class SessionScheduler implements Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int maxQueueDepth;
+
+        private final BoundedScheduler.OverflowPolicy overflowPolicy;
+
+        private transient BoundedScheduler scheduler;
+
+        SessionScheduler(final int maxQueueDepth, final @Nonnull BoundedScheduler.OverflowPolicy overflowPolicy)
+        {
+            this.maxQueueDepth = maxQueueDepth;
+            this.overflowPolicy = overflowPolicy;
+        }
+
+        @Nonnull
+        synchronized BoundedScheduler get()
+        {
+            if (scheduler == null)
+            {
+                scheduler = new BoundedScheduler(CommandSchedulers.blocking(), 1, maxQueueDepth, overflowPolicy);
+            }
+
+            return scheduler;
+        }
+    }
+
+    private static final class SharedPoolHolder
+    {
+        private static final SchedulerPolicy INSTANCE = sharedPool(DEFAULT_POOL_CONCURRENCY,
+                DEFAULT_POOL_QUEUE_DEPTH);
+    }
+}
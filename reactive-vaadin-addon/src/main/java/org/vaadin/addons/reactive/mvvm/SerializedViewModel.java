@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.mvvm;
+
+import javax.annotation.Nonnull;
+import java.io.InvalidObjectException;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.lang.reflect.Constructor;
+
+/**
+ * Serialized form of {@link ReactiveViewModel} which contains only its snapshot
+ * <p>
+ * Subjects, bindings and commands of view model are not written, they are created again
+ * by constructor of view model when it is deserialized
+ *
+ * @author dohnal
+ */
+final class SerializedViewModel implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final byte[] snapshot;
+
+    SerializedViewModel(final @Nonnull byte[] snapshot)
+    {
+        this.snapshot = snapshot;
+    }
+
+    @Nonnull
+    private Object readResolve() throws ObjectStreamException
+    {
+        // Class is not written as object, its descriptor would contain all fields of view model
+        final String type = ViewModelSnapshot.readType(snapshot);
+
+        try
+        {
+            final Constructor<? extends ReactiveViewModel> constructor = Class.forName(type, false,
+                    getClassLoader()).asSubclass(ReactiveViewModel.class).getDeclaredConstructor();
+
+            constructor.setAccessible(true);
+
+            final ReactiveViewModel viewModel = constructor.newInstance();
+
+            viewModel.restore(snapshot);
+
+            return viewModel;
+        }
+        catch (final ReflectiveOperationException | RuntimeException e)
+        {
+            final InvalidObjectException exception = new InvalidObjectException("Cannot restore view model " +
+                    type);
+
+            exception.initCause(e);
+
+            throw exception;
+        }
+    }
+
+    @Nonnull
+    private static ClassLoader getClassLoader()
+    {
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+        return classLoader != null ? classLoader : SerializedViewModel.class.getClassLoader();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.mvvm;
+
+import javax.annotation.Nonnull;
+import java.util.Objects;
+
+import org.vaadin.addons.reactive.ReactiveProperty;
+import org.vaadin.addons.reactive.property.SharedProperty;
+
+/**
+ * Base class for view models which are shared by views of many UIs, for example global market data
+ * <p>
+ * Properties of shared view model serialize changes of their values and multicast them to all bound views,
+ * each view then updates its components in access to its own UI. View model is activated while
+ * at least one view of any UI is attached
+ *
+ * @author dohnal
+ */
+public class SharedReactiveViewModel extends ReactiveViewModel
+{
+    public SharedReactiveViewModel()
+    {
+        this(SchedulerPolicy.sharedPool());
+    }
+
+    /**
+     * Creates new shared view model whose commands created without explicit scheduler are executed
+     * on scheduler given by policy
+     * <p>
+     * Per-session policy should not be used because the view model does not belong to any session
+     *
+     * @param schedulerPolicy scheduler policy
+     */
+    public SharedReactiveViewModel(final @Nonnull SchedulerPolicy schedulerPolicy)
+    {
+        super(schedulerPolicy);
+    }
+
+    @Nonnull
+    @Override
+    public <T> ReactiveProperty<T> onCreateProperty(final @Nonnull ReactiveProperty<T> property)
+    {
+        Objects.requireNonNull(property, "Property cannot be null");
+
+        return super.onCreateProperty(new SharedProperty<>(property));
+    }
+}
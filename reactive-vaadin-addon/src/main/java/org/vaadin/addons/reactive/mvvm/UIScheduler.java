@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.mvvm;
+
+import javax.annotation.Nonnull;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.vaadin.server.ErrorHandlingRunnable;
+import com.vaadin.shared.communication.PushMode;
+import com.vaadin.ui.UI;
+import com.vaadin.ui.UIDetachedException;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.CompositeDisposable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
+import io.reactivex.disposables.SerialDisposable;
+import io.reactivex.plugins.RxJavaPlugins;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * Scheduler which runs tasks while holding the session lock of an UI
+ * <p>
+ * Tasks scheduled before the UI is accessed are run in a single {@link UI#access(Runnable)}
+ * and the UI is pushed once after all of them have been run if push mode is {@link PushMode#MANUAL}.
+ * Tasks scheduled while the UI is not attached or tasks waiting for access of UI which is detached
+ * in the meantime are discarded
+ *
+ * @author dohnal
+ */
+public final class UIScheduler extends Scheduler
+{
+    private final Supplier<UI> ui;
+
+    private final Scheduler timerScheduler;
+
+    private final Queue<Runnable> queue;
+
+    private final AtomicInteger pendingCount;
+
+    /**
+     * Creates new scheduler for given UI
+     *
+     * @param ui UI
+     */
+    public UIScheduler(final @Nonnull UI ui)
+    {
+        this(() -> ui);
+
+        Objects.requireNonNull(ui, "UI cannot be null");
+    }
+
+    /**
+     * Creates new scheduler for UI returned by given supplier, for example UI of a component
+     * which can be detached and attached to another UI
+     *
+     * @param ui supplier of UI
+     */
+    public UIScheduler(final @Nonnull Supplier<UI> ui)
+    {
+        this(ui, Schedulers.computation());
+    }
+
+    /**
+     * Creates new scheduler for UI returned by given supplier
+     *
+     * @param ui supplier of UI
+     * @param timerScheduler scheduler used to wait for delayed tasks
+     */
+    public UIScheduler(final @Nonnull Supplier<UI> ui, final @Nonnull Scheduler timerScheduler)
+    {
+        Objects.requireNonNull(ui, "UI cannot be null");
+        Objects.requireNonNull(timerScheduler, "Timer scheduler cannot be null");
+
+        this.ui = ui;
+        this.timerScheduler = timerScheduler;
+        this.queue = new ConcurrentLinkedQueue<>();
+        this.pendingCount = new AtomicInteger(0);
+    }
+
+    @Nonnull
+    @Override
+    public Worker createWorker()
+    {
+        return new UIWorker();
+    }
+
+    private void enqueue(final @Nonnull Runnable task)
+    {
+        queue.offer(task);
+
+        if (pendingCount.getAndIncrement() == 0)
+        {
+            final UI currentUI = ui.get();
+
+            try
+            {
+                if (currentUI != null && currentUI.isAttached())
+                {
+                    currentUI.access(new Drain(currentUI));
+                }
+                else
+                {
+                    discard();
+                }
+            }
+            catch (final UIDetachedException e)
+            {
+                discard();
+            }
+        }
+    }
+
+    private void drain(final @Nonnull UI currentUI)
+    {
+        int missed = 1;
+
+        do
+        {
+            Runnable task;
+
+            while ((task = queue.poll()) != null)
+            {
+                task.run();
+            }
+
+            missed = pendingCount.addAndGet(-missed);
+        }
+        while (missed != 0);
+
+        if (currentUI.getPushConfiguration().getPushMode().equals(PushMode.MANUAL))
+        {
+            currentUI.push();
+        }
+    }
+
+    private void discard()
+    {
+        int missed = 1;
+
+        do
+        {
+            queue.clear();
+
+            missed = pendingCount.addAndGet(-missed);
+        }
+        while (missed != 0);
+    }
+
+    /**
+     * Access of UI which discards waiting tasks if UI is detached before the access is run,
+     * so that later tasks can access UI again
+     */
+    private final class Drain implements ErrorHandlingRunnable
+    {
+        private final UI currentUI;
+
+        private final AtomicBoolean started;
+
+        Drain(final @Nonnull UI currentUI)
+        {
+            this.currentUI = currentUI;
+            this.started = new AtomicBoolean(false);
+        }
+
+        @Override
+        public void run()
+        {
+            if (started.compareAndSet(false, true))
+            {
+                drain(currentUI);
+            }
+        }
+
+        @Override
+        public void handleError(final @Nonnull Exception exception)
+        {
+            if (started.compareAndSet(false, true))
+            {
+                discard();
+            }
+            else
+            {
+                RxJavaPlugins.onError(exception);
+            }
+        }
+    }
+
+    private final class UIWorker extends Worker
+    {
+        private final CompositeDisposable tasks = new CompositeDisposable();
+
+        @Nonnull
+        @Override
+        public Disposable schedule(final @Nonnull Runnable run, final long delay, final @Nonnull TimeUnit unit)
+        {
+            Objects.requireNonNull(run, "Run cannot be null");
+            Objects.requireNonNull(unit, "Unit cannot be null");
+
+            if (tasks.isDisposed())
+            {
+                return Disposables.disposed();
+            }
+
+            final ScheduledTask task = new ScheduledTask(RxJavaPlugins.onSchedule(run), tasks);
+
+            tasks.add(task);
+
+            if (delay <= 0)
+            {
+                enqueue(task);
+            }
+            else
+            {
+                task.timer.set(timerScheduler.scheduleDirect(() -> enqueue(task), delay, unit));
+            }
+
+            return task;
+        }
+
+        @Override
+        public void dispose()
+        {
+            tasks.dispose();
+        }
+
+        @Override
+        public boolean isDisposed()
+        {
+            return tasks.isDisposed();
+        }
+    }
+
+    private static final class ScheduledTask implements Runnable, Disposable
+    {
+        private final Runnable run;
+
+        private final CompositeDisposable parent;
+
+        private final SerialDisposable timer;
+
+        private final AtomicBoolean disposed;
+
+        ScheduledTask(final @Nonnull Runnable run, final @Nonnull CompositeDisposable parent)
+        {
+            this.run = run;
+            this.parent = parent;
+            this.timer = new SerialDisposable();
+            this.disposed = new AtomicBoolean(false);
+        }
+
+        @Override
+        public void run()
+        {
+            if (!disposed.get())
+            {
+                try
+                {
+                    run.run();
+                }
+                catch (final Throwable e)
+                {
+                    RxJavaPlugins.onError(e);
+                }
+                finally
+                {
+                    dispose();
+                }
+            }
+        }
+
+        @Override
+        public void dispose()
+        {
+            if (disposed.compareAndSet(false, true))
+            {
+                timer.dispose();
+                parent.delete(this);
+            }
+        }
+
+        @Override
+        public boolean isDisposed()
+        {
+            return disposed.get();
+        }
+    }
+}
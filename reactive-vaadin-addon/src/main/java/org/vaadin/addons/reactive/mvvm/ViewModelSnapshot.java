@@ -0,0 +1,503 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.mvvm;
+
+import javax.annotation.Nonnull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import org.vaadin.addons.reactive.ReactiveCommand;
+import org.vaadin.addons.reactive.ReactiveProperty;
+import org.vaadin.addons.reactive.command.AbstractCommand;
+
+/**
+ * Binary snapshot of values of properties and execution counts of commands of {@link ReactiveViewModel}
+ * <p>
+ * Properties and commands are identified by order in which they were created, so the snapshot can be restored
+ * only into view model of the same class. Values of strings, primitive wrappers and enums are written
+ * in compact form, other values have to be {@link Serializable}
+ * <p>
+ * Snapshot ends with additional state written by view model itself
+ * <p>
+ * Snapshot may come from external storage, so serialized values are read only if they consist of common
+ * JDK value types, enums and types explicitly allowed by view model
+ *
+ * @author dohnal
+ */
+final class ViewModelSnapshot
+{
+    private static final byte VERSION = 2;
+
+    private static final byte VERSION_WITHOUT_STATE = 1;
+
+    private static final byte NONE = 0;
+
+    private static final byte STRING = 1;
+
+    private static final byte INTEGER = 2;
+
+    private static final byte LONG = 3;
+
+    private static final byte BOOLEAN = 4;
+
+    private static final byte DOUBLE = 5;
+
+    private static final byte FLOAT = 6;
+
+    private static final byte ENUM = 7;
+
+    private static final byte OBJECT = 8;
+
+    private static final Set<String> JDK_TYPES = new HashSet<>(Arrays.asList(
+            String.class.getName(),
+            Boolean.class.getName(),
+            Character.class.getName(),
+            Number.class.getName(),
+            Byte.class.getName(),
+            Short.class.getName(),
+            Integer.class.getName(),
+            Long.class.getName(),
+            Float.class.getName(),
+            Double.class.getName(),
+            Enum.class.getName(),
+            BigInteger.class.getName(),
+            BigDecimal.class.getName(),
+            Date.class.getName(),
+            UUID.class.getName(),
+            ArrayList.class.getName(),
+            LinkedList.class.getName(),
+            HashMap.class.getName(),
+            LinkedHashMap.class.getName(),
+            TreeMap.class.getName(),
+            HashSet.class.getName(),
+            LinkedHashSet.class.getName(),
+            TreeSet.class.getName(),
+            "java.util.Arrays$ArrayList"));
+
+    private static final List<String> JDK_TYPE_PREFIXES = Arrays.asList(
+            "java.time.",
+            "java.util.Collections$Empty",
+            "java.util.Collections$Singleton",
+            "java.util.Collections$Unmodifiable");
+
+    private ViewModelSnapshot()
+    {}
+
+    /**
+     * Writes values of given properties and execution counts of given commands
+     *
+     * @param type class of view model
+     * @param properties properties of view model
+     * @param commands commands of view model
+     * @param stateWriter writer of additional state of view model
+     * @return snapshot
+     */
+    @Nonnull
+    static byte[] write(final @Nonnull Class<?> type,
+                        final @Nonnull List<ReactiveProperty<?>> properties,
+                        final @Nonnull List<ReactiveCommand<?, ?>> commands,
+                        final @Nonnull StateWriter stateWriter)
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (final DataOutputStream output = new DataOutputStream(bytes))
+        {
+            output.writeByte(VERSION);
+            output.writeUTF(type.getName());
+            output.writeInt(properties.size());
+
+            for (final ReactiveProperty<?> property : properties)
+            {
+                // Read-only properties are derived from other properties
+                writeValue(output, property.isReadOnly() ? null : property.getValue());
+            }
+
+            output.writeInt(commands.size());
+
+            for (final ReactiveCommand<?, ?> command : commands)
+            {
+                output.writeInt(command instanceof AbstractCommand ?
+                        ((AbstractCommand<?, ?>) command).getCurrentExecutionCount() : 0);
+            }
+
+            final ByteArrayOutputStream state = new ByteArrayOutputStream();
+
+            try (final DataOutputStream stateOutput = new DataOutputStream(state))
+            {
+                stateWriter.write(stateOutput);
+            }
+
+            output.writeInt(state.size());
+            state.writeTo(output);
+        }
+        catch (final IOException e)
+        {
+            throw new UncheckedIOException("Cannot write snapshot of " + type.getName(), e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads name of class of view model of which given snapshot was taken
+     *
+     * @param snapshot snapshot
+     * @return class name of view model
+     */
+    @Nonnull
+    static String readType(final @Nonnull byte[] snapshot)
+    {
+        try (final DataInputStream input = new DataInputStream(new ByteArrayInputStream(snapshot)))
+        {
+            readVersion(input);
+
+            return input.readUTF();
+        }
+        catch (final IOException e)
+        {
+            throw new UncheckedIOException("Cannot read snapshot", e);
+        }
+    }
+
+    /**
+     * Restores values of given properties and execution counts of given commands
+     *
+     * @param snapshot snapshot
+     * @param type class of view model
+     * @param properties properties of view model
+     * @param commands commands of view model
+     * @param allowedTypes predicate which allows serialized values of other than common JDK types
+     * @param stateReader reader of additional state of view model
+     */
+    @SuppressWarnings("unchecked")
+    static void read(final @Nonnull byte[] snapshot,
+                     final @Nonnull Class<?> type,
+                     final @Nonnull List<ReactiveProperty<?>> properties,
+                     final @Nonnull List<ReactiveCommand<?, ?>> commands,
+                     final @Nonnull Predicate<Class<?>> allowedTypes,
+                     final @Nonnull StateReader stateReader)
+    {
+        try (final DataInputStream input = new DataInputStream(new ByteArrayInputStream(snapshot)))
+        {
+            final byte version = readVersion(input);
+
+            final String typeName = input.readUTF();
+
+            if (!type.getName().equals(typeName))
+            {
+                throw new IllegalArgumentException("Snapshot of " + typeName + " cannot be restored into " +
+                        type.getName());
+            }
+
+            if (input.readInt() != properties.size())
+            {
+                throw new IllegalArgumentException("Snapshot has different number of properties than " +
+                        type.getName());
+            }
+
+            for (final ReactiveProperty<?> property : properties)
+            {
+                final Object value = readValue(input, type.getClassLoader(), allowedTypes);
+
+                if (value != null && !property.isReadOnly())
+                {
+                    ((ReactiveProperty<Object>) property).setValue(value);
+                }
+            }
+
+            if (input.readInt() != commands.size())
+            {
+                throw new IllegalArgumentException("Snapshot has different number of commands than " +
+                        type.getName());
+            }
+
+            for (final ReactiveCommand<?, ?> command : commands)
+            {
+                final int executionCount = input.readInt();
+
+                if (command instanceof AbstractCommand)
+                {
+                    ((AbstractCommand<?, ?>) command).restoreExecutionCount(executionCount);
+                }
+            }
+
+            if (version != VERSION_WITHOUT_STATE)
+            {
+                try (final DataInputStream stateInput = new DataInputStream(
+                        new ByteArrayInputStream(readBytes(input))))
+                {
+                    stateReader.read(stateInput);
+                }
+            }
+        }
+        catch (final IOException e)
+        {
+            throw new UncheckedIOException("Cannot read snapshot of " + type.getName(), e);
+        }
+    }
+
+    private static byte readVersion(final @Nonnull DataInputStream input) throws IOException
+    {
+        final byte version = input.readByte();
+
+        if (version != VERSION && version != VERSION_WITHOUT_STATE)
+        {
+            throw new IllegalArgumentException("Unsupported version of snapshot");
+        }
+
+        return version;
+    }
+
+    private static void writeValue(final @Nonnull DataOutputStream output, final Object value) throws IOException
+    {
+        if (value == null)
+        {
+            output.writeByte(NONE);
+        }
+        else if (value instanceof String)
+        {
+            final byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+
+            output.writeByte(STRING);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+        else if (value instanceof Integer)
+        {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        }
+        else if (value instanceof Long)
+        {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        }
+        else if (value instanceof Boolean)
+        {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        }
+        else if (value instanceof Double)
+        {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        }
+        else if (value instanceof Float)
+        {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        }
+        else if (value instanceof Enum)
+        {
+            output.writeByte(ENUM);
+            output.writeUTF(((Enum<?>) value).getDeclaringClass().getName());
+            output.writeUTF(((Enum<?>) value).name());
+        }
+        else if (value instanceof Serializable)
+        {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+            try (final ObjectOutputStream objectOutput = new ObjectOutputStream(bytes))
+            {
+                objectOutput.writeObject(value);
+            }
+
+            output.writeByte(OBJECT);
+            output.writeInt(bytes.size());
+            bytes.writeTo(output);
+        }
+        else
+        {
+            throw new IllegalArgumentException("Value of type " + value.getClass().getName() +
+                    " is not serializable");
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object readValue(final @Nonnull DataInputStream input,
+                                    final @Nonnull ClassLoader classLoader,
+                                    final @Nonnull Predicate<Class<?>> allowedTypes) throws IOException
+    {
+        final byte tag = input.readByte();
+
+        switch (tag)
+        {
+            case NONE:
+                return null;
+            case STRING:
+                return new String(readBytes(input), StandardCharsets.UTF_8);
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case BOOLEAN:
+                return input.readBoolean();
+            case DOUBLE:
+                return input.readDouble();
+            case FLOAT:
+                return input.readFloat();
+            case ENUM:
+                try
+                {
+                    final Class enumType = Class.forName(input.readUTF(), false, classLoader);
+
+                    return Enum.valueOf(enumType, input.readUTF());
+                }
+                catch (final ClassNotFoundException e)
+                {
+                    throw new IOException("Cannot read value of snapshot", e);
+                }
+            case OBJECT:
+                try (final ObjectInputStream objectInput = new SnapshotObjectInputStream(
+                        new ByteArrayInputStream(readBytes(input)), classLoader, allowedTypes))
+                {
+                    return objectInput.readObject();
+                }
+                catch (final ClassNotFoundException e)
+                {
+                    throw new IOException("Cannot read value of snapshot", e);
+                }
+            default:
+                throw new IllegalArgumentException("Unknown value in snapshot: " + tag);
+        }
+    }
+
+    @Nonnull
+    private static byte[] readBytes(final @Nonnull DataInputStream input) throws IOException
+    {
+        final int length = input.readInt();
+
+        if (length < 0 || length > input.available())
+        {
+            throw new IllegalArgumentException("Snapshot is corrupted, invalid length of value: " + length);
+        }
+
+        final byte[] bytes = new byte[length];
+
+        input.readFully(bytes);
+
+        return bytes;
+    }
+
+    private static boolean isJdkType(final @Nonnull Class<?> type)
+    {
+        return JDK_TYPES.contains(type.getName()) ||
+                JDK_TYPE_PREFIXES.stream().anyMatch(prefix -> type.getName().startsWith(prefix));
+    }
+
+    /**
+     * Writer of additional state of view model
+     */
+    @FunctionalInterface
+    interface StateWriter
+    {
+        void write(final @Nonnull DataOutput output) throws IOException;
+    }
+
+    /**
+     * Reader of additional state of view model
+     */
+    @FunctionalInterface
+    interface StateReader
+    {
+        void read(final @Nonnull DataInput input) throws IOException;
+    }
+
+    /**
+     * Input stream which resolves only classes allowed in snapshot
+     */
+    private static final class SnapshotObjectInputStream extends ObjectInputStream
+    {
+        private final ClassLoader classLoader;
+
+        private final Predicate<Class<?>> allowedTypes;
+
+        SnapshotObjectInputStream(final @Nonnull InputStream input,
+                                  final @Nonnull ClassLoader classLoader,
+                                  final @Nonnull Predicate<Class<?>> allowedTypes) throws IOException
+        {
+            super(input);
+
+            this.classLoader = classLoader;
+            this.allowedTypes = allowedTypes;
+        }
+
+        @Override
+        protected Class<?> resolveClass(final @Nonnull ObjectStreamClass description)
+                throws IOException, ClassNotFoundException
+        {
+            Class<?> type;
+
+            try
+            {
+                // Classes are not initialized before they are checked
+                type = Class.forName(description.getName(), false, classLoader);
+            }
+            catch (final ClassNotFoundException e)
+            {
+                type = super.resolveClass(description);
+            }
+
+            Class<?> componentType = type;
+
+            while (componentType.isArray())
+            {
+                componentType = componentType.getComponentType();
+            }
+
+            if (!componentType.isPrimitive() && !componentType.isEnum() &&
+                    !isJdkType(componentType) && !allowedTypes.test(componentType))
+            {
+                throw new InvalidClassException(description.getName(), "Type is not allowed in snapshot");
+            }
+
+            return type;
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(final @Nonnull String[] interfaces) throws IOException
+        {
+            throw new InvalidClassException("Proxy classes are not allowed in snapshot");
+        }
+    }
+}
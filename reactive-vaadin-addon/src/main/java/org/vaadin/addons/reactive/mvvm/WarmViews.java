@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.mvvm;
+
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Warm views of one Vaadin session in order they were detached
+ * <p>
+ * Views are held weakly and are not serialized with the session, bindings of views do not survive
+ * serialization, so deserialized views are not warm
+ *
+ * @author dohnal
+ */
+final class WarmViews implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final int maxWarmViews;
+
+    private transient Deque<WeakReference<ReactiveView<?>>> views;
+
+    WarmViews(final int maxWarmViews)
+    {
+        this.maxWarmViews = maxWarmViews;
+        this.views = new ArrayDeque<>();
+    }
+
+    /**
+     * Adds view and cools down the least recently detached view if the limit is exceeded
+     *
+     * @param view warm view
+     */
+    void add(final @Nonnull ReactiveView<?> view)
+    {
+        ReactiveView<?> evicted = null;
+
+        synchronized (this)
+        {
+            removeView(view);
+            getViews().addLast(new WeakReference<>(view));
+
+            while (evicted == null && getViews().size() > maxWarmViews)
+            {
+                evicted = getViews().removeFirst().get();
+            }
+        }
+
+        if (evicted != null)
+        {
+            evicted.coolDown();
+        }
+    }
+
+    synchronized void remove(final @Nonnull ReactiveView<?> view)
+    {
+        removeView(view);
+    }
+
+    synchronized int size()
+    {
+        removeView(null);
+
+        return getViews().size();
+    }
+
+    /**
+     * Returns warm views which were not garbage collected in order they were detached
+     *
+     * @return warm views
+     */
+    @Nonnull
+    synchronized List<ReactiveView<?>> toList()
+    {
+        removeView(null);
+
+        final List<ReactiveView<?>> list = new ArrayList<>(getViews().size());
+
+        for (final WeakReference<ReactiveView<?>> reference : getViews())
+        {
+            final ReactiveView<?> view = reference.get();
+
+            if (view != null)
+            {
+                list.add(view);
+            }
+        }
+
+        return list;
+    }
+
+    /**
+     * Removes given view and views which were garbage collected
+     *
+     * @param view view to remove or null to remove only collected views
+     */
+    private void removeView(final ReactiveView<?> view)
+    {
+        final Iterator<WeakReference<ReactiveView<?>>> iterator = getViews().iterator();
+
+        while (iterator.hasNext())
+        {
+            final ReactiveView<?> current = iterator.next().get();
+
+            if (current == null || current == view)
+            {
+                iterator.remove();
+            }
+        }
+    }
+
+    @Nonnull
+    private Deque<WeakReference<ReactiveView<?>>> getViews()
+    {
+        // Views are transient, deserialized instance starts with no warm views
+        if (views == null)
+        {
+            views = new ArrayDeque<>();
+        }
+
+        return views;
+    }
+}
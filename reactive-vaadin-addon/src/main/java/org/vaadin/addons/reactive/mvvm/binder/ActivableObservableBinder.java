@@ -20,6 +20,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 import io.reactivex.Observable;
+import io.reactivex.ObservableTransformer;
 import io.reactivex.disposables.Disposable;
 import org.vaadin.addons.reactive.ObservableBinder;
 import org.vaadin.addons.reactive.activable.CompositeActivable;
@@ -89,4 +90,11 @@ public final class ActivableObservableBinder<T> extends ObservableBinderDecorato
 
         return activable.asDisposable();
     }
+
+    @Nonnull
+    @Override
+    public final ObservableBinder<T> compose(final @Nonnull ObservableTransformer<T, T> transformer)
+    {
+        return new ActivableObservableBinder<>(compositeActivable, super.compose(transformer));
+    }
 }
@@ -17,6 +17,7 @@ import javax.annotation.Nonnull;
 import java.util.Objects;
 
 import io.reactivex.Observable;
+import io.reactivex.ObservableTransformer;
 import io.reactivex.disposables.Disposable;
 import org.vaadin.addons.reactive.IsObservable;
 import org.vaadin.addons.reactive.ObservableProperty;
@@ -77,4 +78,11 @@ public final class ActivableObservablePropertyBinder<T> extends ObservableProper
 
         return activable.asDisposable();
     }
+
+    @Nonnull
+    @Override
+    public final ObservablePropertyBinder<T> compose(final @Nonnull ObservableTransformer<T, T> transformer)
+    {
+        return new ActivableObservablePropertyBinder<>(compositeActivable, super.compose(transformer));
+    }
 }
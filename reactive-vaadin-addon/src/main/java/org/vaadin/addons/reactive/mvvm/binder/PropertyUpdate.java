@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.mvvm.binder;
+
+import javax.annotation.Nonnull;
+import java.util.Objects;
+
+import org.vaadin.addons.reactive.Property;
+
+/**
+ * Action which sets value to property with UI access
+ * <p>
+ * Later update of the same property supersedes this one, so only the latest update
+ * has to be run when updates are delayed
+ *
+ * @param <T> type of value
+ * @author dohnal
+ */
+public final class PropertyUpdate<T> implements Runnable
+{
+    private final Property<T> property;
+
+    private final T value;
+
+    PropertyUpdate(final @Nonnull Property<T> property, final @Nonnull T value)
+    {
+        Objects.requireNonNull(property, "Property cannot be null");
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        this.property = property;
+        this.value = value;
+    }
+
+    /**
+     * Returns updated property
+     *
+     * @return property
+     */
+    @Nonnull
+    public Property<T> getProperty()
+    {
+        return property;
+    }
+
+    @Override
+    public void run()
+    {
+        property.setValue(value);
+    }
+}
@@ -17,6 +17,7 @@ import javax.annotation.Nonnull;
 import java.util.Objects;
 import java.util.function.Consumer;
 
+import io.reactivex.ObservableTransformer;
 import io.reactivex.disposables.Disposable;
 import org.vaadin.addons.reactive.ObservableBinder;
 import org.vaadin.addons.reactive.binder.ObservableBinderDecorator;
@@ -56,4 +57,11 @@ public final class UIObservableBinder<T> extends ObservableBinderDecorator<T>
             withUIAccess.accept(() -> action.accept(value));
         });
     }
+
+    @Nonnull
+    @Override
+    public final ObservableBinder<T> compose(final @Nonnull ObservableTransformer<T, T> transformer)
+    {
+        return new UIObservableBinder<>(withUIAccess, super.compose(transformer));
+    }
 }
@@ -53,7 +53,7 @@ public final class UIObservableProperty<T> implements ObservableProperty<T>
     @Override
     public final void setValue(final @Nonnull T value)
     {
-        withUIAccess.accept(() -> property.setValue(value));
+        withUIAccess.accept(new PropertyUpdate<>(property, value));
     }
 
     @Override
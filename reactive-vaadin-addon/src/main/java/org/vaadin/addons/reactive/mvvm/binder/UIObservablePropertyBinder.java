@@ -17,6 +17,7 @@ import javax.annotation.Nonnull;
 import java.util.Objects;
 import java.util.function.Consumer;
 
+import io.reactivex.ObservableTransformer;
 import io.reactivex.disposables.Disposable;
 import org.vaadin.addons.reactive.ObservableProperty;
 import org.vaadin.addons.reactive.ObservablePropertyBinder;
@@ -55,4 +56,11 @@ public final class UIObservablePropertyBinder<T> extends ObservablePropertyBinde
     {
         return super.to(new UIObservableProperty<>(withUIAccess, anotherProperty));
     }
+
+    @Nonnull
+    @Override
+    public final ObservablePropertyBinder<T> compose(final @Nonnull ObservableTransformer<T, T> transformer)
+    {
+        return new UIObservablePropertyBinder<>(withUIAccess, super.compose(transformer));
+    }
 }
@@ -44,6 +44,6 @@ public final class UIProperty<T> implements Property<T>
     @Override
     public final void setValue(final @Nonnull T value)
     {
-        withUIAccess.accept(() -> property.setValue(value));
+        withUIAccess.accept(new PropertyUpdate<>(property, value));
     }
 }
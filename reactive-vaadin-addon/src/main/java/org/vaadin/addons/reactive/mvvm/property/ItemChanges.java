@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.mvvm.property;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+
+/**
+ * Represents a set of changes which should be applied to items of a component
+ *
+ * @param <T> type of item
+ * @author dohnal
+ */
+public final class ItemChanges<T>
+{
+    private final Collection<T> added;
+
+    private final Collection<T> updated;
+
+    private final Collection<T> removed;
+
+    /**
+     * Creates new item changes
+     *
+     * @param added items which should be added
+     * @param updated items which should replace items with the same key
+     * @param removed items which should be removed
+     */
+    public ItemChanges(final @Nonnull Collection<T> added,
+                       final @Nonnull Collection<T> updated,
+                       final @Nonnull Collection<T> removed)
+    {
+        Objects.requireNonNull(added, "Added cannot be null");
+        Objects.requireNonNull(updated, "Updated cannot be null");
+        Objects.requireNonNull(removed, "Removed cannot be null");
+
+        this.added = added;
+        this.updated = updated;
+        this.removed = removed;
+    }
+
+    /**
+     * Creates new item changes which adds given items
+     *
+     * @param items items to add
+     * @param <T> type of item
+     * @return item changes
+     */
+    @Nonnull
+    public static <T> ItemChanges<T> added(final @Nonnull Collection<T> items)
+    {
+        return new ItemChanges<>(items, Collections.emptyList(), Collections.emptyList());
+    }
+
+    /**
+     * Creates new item changes which updates given items
+     *
+     * @param items items to update
+     * @param <T> type of item
+     * @return item changes
+     */
+    @Nonnull
+    public static <T> ItemChanges<T> updated(final @Nonnull Collection<T> items)
+    {
+        return new ItemChanges<>(Collections.emptyList(), items, Collections.emptyList());
+    }
+
+    /**
+     * Creates new item changes which removes given items
+     *
+     * @param items items to remove
+     * @param <T> type of item
+     * @return item changes
+     */
+    @Nonnull
+    public static <T> ItemChanges<T> removed(final @Nonnull Collection<T> items)
+    {
+        return new ItemChanges<>(Collections.emptyList(), Collections.emptyList(), items);
+    }
+
+    /**
+     * Returns items which should be added
+     *
+     * @return items which should be added
+     */
+    @Nonnull
+    public Collection<T> getAdded()
+    {
+        return added;
+    }
+
+    /**
+     * Returns items which should replace items with the same key
+     *
+     * @return items which should replace items with the same key
+     */
+    @Nonnull
+    public Collection<T> getUpdated()
+    {
+        return updated;
+    }
+
+    /**
+     * Returns items which should be removed
+     *
+     * @return items which should be removed
+     */
+    @Nonnull
+    public Collection<T> getRemoved()
+    {
+        return removed;
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.mvvm.property;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import com.vaadin.data.HasDataProvider;
+import com.vaadin.data.provider.DataProvider;
+import com.vaadin.data.provider.ListDataProvider;
+
+/**
+ * In-memory data provider which identifies its items by key and applies changes incrementally
+ * <p>
+ * Instead of replacing the whole data set, only changed items are refreshed in bound components,
+ * so a component keeps its state (like scroll position) and only changed rows are sent to the client
+ * <p>
+ * By default an item is considered unchanged only if it is the same instance as the current item with
+ * the same key, because entities often implement equality by their id only. A custom comparison
+ * (for example by version) can be given instead
+ *
+ * @param <T> type of item
+ * @author dohnal
+ */
+public final class KeyedListDataProvider<T> extends ListDataProvider<T>
+{
+    private final Function<? super T, ?> keyMapper;
+
+    private final BiPredicate<? super T, ? super T> isUnchanged;
+
+    private final Map<Object, T> items;
+
+    private static final BiPredicate<Object, Object> SAME_INSTANCE = (currentItem, newItem) -> currentItem == newItem;
+
+    /**
+     * Creates new keyed data provider with no items, which considers an item unchanged only
+     * if it is the same instance
+     *
+     * @param keyMapper function which returns unique key of an item
+     */
+    public KeyedListDataProvider(final @Nonnull Function<? super T, ?> keyMapper)
+    {
+        this(keyMapper, SAME_INSTANCE);
+    }
+
+    /**
+     * Creates new keyed data provider with no items
+     *
+     * @param keyMapper function which returns unique key of an item
+     * @param isUnchanged predicate which tests if current item and new item with the same key are unchanged
+     */
+    public KeyedListDataProvider(final @Nonnull Function<? super T, ?> keyMapper,
+                                 final @Nonnull BiPredicate<? super T, ? super T> isUnchanged)
+    {
+        this(keyMapper, isUnchanged, new LinkedHashMap<>());
+    }
+
+    private KeyedListDataProvider(final @Nonnull Function<? super T, ?> keyMapper,
+                                  final @Nonnull BiPredicate<? super T, ? super T> isUnchanged,
+                                  final @Nonnull Map<Object, T> items)
+    {
+        super(items.values());
+
+        Objects.requireNonNull(keyMapper, "Key mapper cannot be null");
+        Objects.requireNonNull(isUnchanged, "Is unchanged cannot be null");
+
+        this.keyMapper = keyMapper;
+        this.isUnchanged = isUnchanged;
+        this.items = items;
+    }
+
+    /**
+     * Returns keyed data provider of given component or sets new one if the component
+     * does not have any yet
+     * <p>
+     * Existing data provider is reused with its own key mapper and comparison, so all bindings
+     * of one component have to identify items the same way
+     *
+     * @param component component
+     * @param keyMapper function which returns unique key of an item, used if new data provider is created
+     * @param <T> type of item
+     * @return keyed data provider of given component
+     */
+    @Nonnull
+    public static <T> KeyedListDataProvider<T> of(final @Nonnull HasDataProvider<T> component,
+                                                  final @Nonnull Function<? super T, ?> keyMapper)
+    {
+        Objects.requireNonNull(component, "Component cannot be null");
+        Objects.requireNonNull(keyMapper, "Key mapper cannot be null");
+
+        final KeyedListDataProvider<T> dataProvider = find(component);
+
+        return dataProvider != null ? dataProvider : create(component, keyMapper, SAME_INSTANCE);
+    }
+
+    /**
+     * Returns keyed data provider of given component or sets new one if the component
+     * does not have any yet
+     * <p>
+     * Existing data provider is reused with its own key mapper, it has to use given comparison
+     *
+     * @param component component
+     * @param keyMapper function which returns unique key of an item, used if new data provider is created
+     * @param isUnchanged predicate which tests if current item and new item with the same key are unchanged
+     * @param <T> type of item
+     * @return keyed data provider of given component
+     * @throws IllegalStateException if the component already has keyed data provider with different comparison
+     */
+    @Nonnull
+    public static <T> KeyedListDataProvider<T> of(final @Nonnull HasDataProvider<T> component,
+                                                  final @Nonnull Function<? super T, ?> keyMapper,
+                                                  final @Nonnull BiPredicate<? super T, ? super T> isUnchanged)
+    {
+        Objects.requireNonNull(component, "Component cannot be null");
+        Objects.requireNonNull(keyMapper, "Key mapper cannot be null");
+        Objects.requireNonNull(isUnchanged, "Is unchanged cannot be null");
+
+        final KeyedListDataProvider<T> dataProvider = find(component);
+
+        if (dataProvider == null)
+        {
+            return create(component, keyMapper, isUnchanged);
+        }
+
+        if (!dataProvider.isUnchanged.equals(isUnchanged))
+        {
+            throw new IllegalStateException("Component already has keyed data provider with different comparison");
+        }
+
+        return dataProvider;
+    }
+
+    @Nonnull
+    @Override
+    public Object getId(final @Nonnull T item)
+    {
+        Objects.requireNonNull(item, "Item cannot be null");
+
+        return Objects.requireNonNull(keyMapper.apply(item), "Key cannot be null");
+    }
+
+    /**
+     * Replaces current items with given items by computing keyed difference between them
+     * <p>
+     * If only some items were replaced by changed items with the same key, only these items are refreshed,
+     * otherwise all items are refreshed
+     *
+     * @param newItems new items
+     */
+    public void setItems(final @Nonnull Collection<? extends T> newItems)
+    {
+        Objects.requireNonNull(newItems, "Items cannot be null");
+
+        final Map<Object, T> nextItems = new LinkedHashMap<>(newItems.size());
+
+        newItems.forEach(item -> nextItems.put(getId(item), item));
+
+        final Iterator<Object> currentKeys = items.keySet().iterator();
+        final List<T> updatedItems = new ArrayList<>();
+
+        boolean structuralChange = nextItems.size() != items.size();
+
+        for (final Map.Entry<Object, T> entry : nextItems.entrySet())
+        {
+            final T currentItem = items.get(entry.getKey());
+
+            if (currentItem == null || structuralChange || !currentKeys.next().equals(entry.getKey()))
+            {
+                structuralChange = true;
+            }
+            else if (!isUnchanged.test(currentItem, entry.getValue()))
+            {
+                updatedItems.add(entry.getValue());
+            }
+        }
+
+        if (structuralChange)
+        {
+            items.clear();
+            items.putAll(nextItems);
+
+            refreshAll();
+        }
+        else
+        {
+            updatedItems.forEach(this::replace);
+        }
+    }
+
+    /**
+     * Applies given changes to current items
+     * <p>
+     * If given changes contain only updates, only these items are refreshed, otherwise all items are refreshed
+     *
+     * @param changes changes to apply
+     */
+    public void applyChanges(final @Nonnull ItemChanges<? extends T> changes)
+    {
+        Objects.requireNonNull(changes, "Changes cannot be null");
+
+        final List<T> updatedItems = new ArrayList<>(changes.getUpdated());
+
+        boolean structuralChange = false;
+
+        for (final T item : changes.getRemoved())
+        {
+            structuralChange |= items.remove(getId(item)) != null;
+        }
+
+        for (final T item : changes.getAdded())
+        {
+            if (items.containsKey(getId(item)))
+            {
+                updatedItems.add(item);
+            }
+            else
+            {
+                items.put(getId(item), item);
+
+                structuralChange = true;
+            }
+        }
+
+        if (structuralChange)
+        {
+            updatedItems.forEach(item -> items.replace(getId(item), item));
+
+            refreshAll();
+        }
+        else
+        {
+            updatedItems.forEach(this::replace);
+        }
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static <T> KeyedListDataProvider<T> find(final @Nonnull HasDataProvider<T> component)
+    {
+        final DataProvider<T, ?> dataProvider = component.getDataProvider();
+
+        return dataProvider instanceof KeyedListDataProvider ? (KeyedListDataProvider<T>) dataProvider : null;
+    }
+
+    @Nonnull
+    private static <T> KeyedListDataProvider<T> create(final @Nonnull HasDataProvider<T> component,
+                                                       final @Nonnull Function<? super T, ?> keyMapper,
+                                                       final @Nonnull BiPredicate<? super T, ? super T> isUnchanged)
+    {
+        final KeyedListDataProvider<T> dataProvider = new KeyedListDataProvider<>(keyMapper, isUnchanged);
+
+        component.setDataProvider(dataProvider);
+
+        return dataProvider;
+    }
+
+    private void replace(final @Nonnull T item)
+    {
+        if (items.replace(getId(item), item) != null)
+        {
+            refreshItem(item);
+        }
+    }
+}
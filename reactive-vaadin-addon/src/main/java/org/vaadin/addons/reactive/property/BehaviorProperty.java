@@ -15,6 +15,9 @@ package org.vaadin.addons.reactive.property;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -34,8 +37,10 @@ import org.vaadin.addons.reactive.exceptions.ReadOnlyPropertyException;
  * @param <T> type of property
  * @author dohnal
  */
-public final class BehaviorProperty<T> implements ReactiveProperty<T>
+public final class BehaviorProperty<T> implements ReactiveProperty<T>, Serializable
 {
+    private static final long serialVersionUID = 1L;
+
     private final AtomicReference<T> value;
 
     private final PublishSubject<T> subject;
@@ -196,6 +201,17 @@ public final class BehaviorProperty<T> implements ReactiveProperty<T>
         });
     }
 
+    @Nonnull
+    private Object writeReplace()
+    {
+        return new SerializedProperty(getValue(), isReadOnly(), false);
+    }
+
+    private void readObject(final @Nonnull ObjectInputStream input) throws InvalidObjectException
+    {
+        throw new InvalidObjectException("Serialized form of property is required");
+    }
+
     private void setValueInternal(final @Nonnull T value)
     {
         this.value.set(value);
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.property;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.Function;
+
+import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
+import org.vaadin.addons.reactive.ReactiveProperty;
+
+/**
+ * Implementation of {@link ReactiveProperty} which holds only its value until it is observed
+ * <p>
+ * Underlying {@link BehaviorProperty} is created when the property is observed, suppressed or delayed
+ * for the first time, so properties which are never observed do not allocate any subjects
+ *
+ * @param <T> type of property
+ * @author dohnal
+ */
+public final class LazyProperty<T> implements ReactiveProperty<T>, Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private volatile T value;
+
+    private volatile BehaviorProperty<T> property;
+
+    /**
+     * Creates new property with no value
+     */
+    public LazyProperty()
+    {
+        this.value = null;
+    }
+
+    /**
+     * Creates new property with given default value
+     *
+     * @param defaultValue default value
+     */
+    public LazyProperty(final @Nonnull T defaultValue)
+    {
+        Objects.requireNonNull(defaultValue, "Default value cannot be null");
+
+        this.value = defaultValue;
+    }
+
+    @Override
+    public boolean hasValue()
+    {
+        return value != null;
+    }
+
+    @Override
+    public boolean isReadOnly()
+    {
+        return false;
+    }
+
+    @Nullable
+    @Override
+    public T getValue()
+    {
+        return value;
+    }
+
+    @Override
+    public void setValue(final @Nonnull T value)
+    {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        final BehaviorProperty<T> currentProperty;
+
+        synchronized (this)
+        {
+            this.value = value;
+
+            currentProperty = property;
+        }
+
+        if (currentProperty != null)
+        {
+            currentProperty.setValue(value);
+        }
+    }
+
+    @Override
+    public void updateValue(final @Nonnull Function<? super T, ? extends T> update)
+    {
+        Objects.requireNonNull(update, "Update cannot be null");
+
+        setValue(update.apply(getValue()));
+    }
+
+    @Nonnull
+    @Override
+    public Observable<T> asObservable()
+    {
+        return materialize().asObservable();
+    }
+
+    @Override
+    public boolean isSuppressed()
+    {
+        final BehaviorProperty<T> currentProperty = property;
+
+        return currentProperty != null && currentProperty.isSuppressed();
+    }
+
+    @Nonnull
+    @Override
+    public Disposable suppress()
+    {
+        return materialize().suppress();
+    }
+
+    @Override
+    public boolean isDelayed()
+    {
+        final BehaviorProperty<T> currentProperty = property;
+
+        return currentProperty != null && currentProperty.isDelayed();
+    }
+
+    @Nonnull
+    @Override
+    public Disposable delay()
+    {
+        return materialize().delay();
+    }
+
+    /**
+     * Returns whether underlying property has been already created
+     *
+     * @return whether underlying property has been created
+     */
+    public boolean isMaterialized()
+    {
+        return property != null;
+    }
+
+    @Nonnull
+    private Object writeReplace()
+    {
+        return new SerializedProperty(getValue(), isReadOnly(), true);
+    }
+
+    private void readObject(final @Nonnull ObjectInputStream input) throws InvalidObjectException
+    {
+        throw new InvalidObjectException("Serialized form of property is required");
+    }
+
+    @Nonnull
+    private BehaviorProperty<T> materialize()
+    {
+        BehaviorProperty<T> currentProperty = property;
+
+        if (currentProperty == null)
+        {
+            synchronized (this)
+            {
+                currentProperty = property;
+
+                if (currentProperty == null)
+                {
+                    final T currentValue = value;
+
+                    currentProperty = currentValue != null ?
+                            new BehaviorProperty<>(currentValue) : new BehaviorProperty<>();
+
+                    property = currentProperty;
+                }
+            }
+        }
+
+        return currentProperty;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.property;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Serializable;
+
+import io.reactivex.Observable;
+import org.vaadin.addons.reactive.ReactiveProperty;
+
+/**
+ * Serialized form of {@link BehaviorProperty} and {@link LazyProperty} which contains only current value
+ * <p>
+ * Subjects of property are created again when it is deserialized. Read-only property keeps
+ * its last value but it is no longer connected to its source
+ *
+ * @author dohnal
+ */
+final class SerializedProperty implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Object value;
+
+    private final boolean readOnly;
+
+    private final boolean lazy;
+
+    SerializedProperty(final @Nullable Object value, final boolean readOnly, final boolean lazy)
+    {
+        this.value = value;
+        this.readOnly = readOnly;
+        this.lazy = lazy;
+    }
+
+    @Nonnull
+    private Object readResolve()
+    {
+        final ReactiveProperty<Object> property;
+
+        if (lazy)
+        {
+            property = value != null ? new LazyProperty<>(value) : new LazyProperty<>();
+        }
+        else if (readOnly)
+        {
+            property = new BehaviorProperty<>(value != null ?
+                    Observable.never().startWith(value) : Observable.never());
+        }
+        else
+        {
+            property = value != null ? new BehaviorProperty<>(value) : new BehaviorProperty<>();
+        }
+
+        return property;
+    }
+}
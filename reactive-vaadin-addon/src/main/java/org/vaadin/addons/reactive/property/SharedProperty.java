@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.property;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Objects;
+import java.util.function.Function;
+
+import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
+import org.vaadin.addons.reactive.ReactiveProperty;
+
+/**
+ * Implementation of {@link ReactiveProperty} which can be shared by many observers on different threads
+ * <p>
+ * Changes of value are serialized and all observers share single subscription to the underlying property,
+ * which replays its latest value to new observers
+ *
+ * @param <T> type of property
+ * @author dohnal
+ */
+public final class SharedProperty<T> implements ReactiveProperty<T>
+{
+    private final ReactiveProperty<T> property;
+
+    private final Observable<T> observable;
+
+    /**
+     * Creates new property shared by many observers
+     *
+     * @param property underlying property
+     */
+    public SharedProperty(final @Nonnull ReactiveProperty<T> property)
+    {
+        Objects.requireNonNull(property, "Property cannot be null");
+
+        this.property = property;
+        this.observable = Observable.defer(property::asObservable).replay(1).refCount();
+    }
+
+    @Override
+    public boolean hasValue()
+    {
+        return property.hasValue();
+    }
+
+    @Override
+    public boolean isReadOnly()
+    {
+        return property.isReadOnly();
+    }
+
+    @Nullable
+    @Override
+    public T getValue()
+    {
+        return property.getValue();
+    }
+
+    @Override
+    public void setValue(final @Nonnull T value)
+    {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        synchronized (this)
+        {
+            property.setValue(value);
+        }
+    }
+
+    @Override
+    public void updateValue(final @Nonnull Function<? super T, ? extends T> update)
+    {
+        Objects.requireNonNull(update, "Update cannot be null");
+
+        synchronized (this)
+        {
+            property.setValue(update.apply(property.getValue()));
+        }
+    }
+
+    @Nonnull
+    @Override
+    public Observable<T> asObservable()
+    {
+        return observable;
+    }
+
+    @Override
+    public boolean isSuppressed()
+    {
+        return property.isSuppressed();
+    }
+
+    @Nonnull
+    @Override
+    public Disposable suppress()
+    {
+        return property.suppress();
+    }
+
+    @Override
+    public boolean isDelayed()
+    {
+        return property.isDelayed();
+    }
+
+    @Nonnull
+    @Override
+    public Disposable delay()
+    {
+        return property.delay();
+    }
+}
@@ -58,6 +58,10 @@ public class ReactiveBinderExtensionTest implements
         @Nested
         @DisplayName("to observable property")
         class ToObservableProperty extends WhenBindObservablePropertyToObservablePropertySpecification {}
+
+        @Nested
+        @DisplayName("to debounced observable")
+        class ToDebouncedObservable extends WhenBindObservablePropertyToDebouncedObservableSpecification {}
     }
 
     @Nested
@@ -79,6 +83,10 @@ public class ReactiveBinderExtensionTest implements
         @Nested
         @DisplayName("to observable function")
         class ToObservableFunction extends WhenBindObservableToObservableFunctionSpecification {}
+
+        @Nested
+        @DisplayName("with rate limiting")
+        class WithRateLimiting extends WhenBindRateLimitedObservableSpecification {}
     }
 
     @Nested
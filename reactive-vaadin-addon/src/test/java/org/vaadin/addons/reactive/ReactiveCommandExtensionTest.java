@@ -13,8 +13,16 @@
 
 package org.vaadin.addons.reactive;
 
+import javax.annotation.Nonnull;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Observable;
+import io.reactivex.schedulers.Schedulers;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.vaadin.addons.reactive.command.Bulkhead;
+import org.vaadin.addons.reactive.command.Command;
 import org.vaadin.addons.reactive.command.create.CompositeFromCommandsSpecification;
 import org.vaadin.addons.reactive.command.create.FromConsumerSpecification;
 import org.vaadin.addons.reactive.command.create.FromFunctionSpecification;
@@ -29,6 +37,8 @@ import org.vaadin.addons.reactive.command.create.ProgressFromFunctionSpecificati
 import org.vaadin.addons.reactive.command.create.ProgressFromObservableBiFunctionSpecification;
 import org.vaadin.addons.reactive.command.create.ProgressFromObservableFunctionSpecification;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 /**
  * Tests for {@link ReactiveProperty}
  *
@@ -265,4 +275,66 @@ public class ReactiveCommandExtensionTest
         class FromCommandsWithCanExecuteAndScheduler extends
                 AbstractCompositeFromCommandsWithCanExecuteAndSchedulerSpecification {}
     }
+
+    @Nested
+    @DisplayName("When created commands are decorated")
+    class WhenDecorate implements ReactiveCommandExtension
+    {
+        @Nonnull
+        @Override
+        public <T, R> ReactiveCommand<T, R> onCreateCommand(final @Nonnull ReactiveCommand<T, R> command)
+        {
+            return new Command<>(command.canExecute(),
+                    input -> input != null ? command.execute(input) : command.execute(),
+                    Schedulers.trampoline());
+        }
+
+        @Test
+        @DisplayName("Retry command should be decorated")
+        public void testRetry()
+        {
+            final ReactiveCommand<Void, Integer> command = createRetryCommand(
+                    new Command<>(Observable.just(true), input -> Observable.just(1), Schedulers.trampoline()),
+                    1, 1, 1, TimeUnit.MILLISECONDS);
+
+            assertTrue(command instanceof Command);
+            command.execute().test().assertValue(1);
+        }
+
+        @Test
+        @DisplayName("Circuit breaker command should be decorated")
+        public void testCircuitBreaker()
+        {
+            final ReactiveCommand<Void, Integer> command = createCircuitBreakerCommand(
+                    new Command<>(Observable.just(true), input -> Observable.just(1), Schedulers.trampoline()),
+                    1, 1, TimeUnit.SECONDS);
+
+            assertTrue(command instanceof Command);
+            command.execute().test().assertValue(1);
+        }
+
+        @Test
+        @DisplayName("Bulkhead command should be decorated")
+        public void testBulkhead()
+        {
+            final ReactiveCommand<Void, Integer> command = createBulkheadCommand(
+                    new Command<>(Observable.just(true), input -> Observable.just(1), Schedulers.trampoline()),
+                    new Bulkhead(1));
+
+            assertTrue(command instanceof Command);
+            command.execute().test().assertValue(1);
+        }
+
+        @Test
+        @DisplayName("Timeout command should be decorated")
+        public void testTimeout()
+        {
+            final ReactiveCommand<Void, Integer> command = createTimeoutCommand(
+                    new Command<>(Observable.just(true), input -> Observable.just(1), Schedulers.trampoline()),
+                    1, TimeUnit.SECONDS);
+
+            assertTrue(command instanceof Command);
+            command.execute().test().assertValue(1);
+        }
+    }
 }
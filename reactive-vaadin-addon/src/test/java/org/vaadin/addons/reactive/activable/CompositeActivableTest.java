@@ -13,12 +13,25 @@
 
 package org.vaadin.addons.reactive.activable;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.disposables.Disposable;
 import io.reactivex.disposables.Disposables;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -463,5 +476,210 @@ public class CompositeActivableTest
                 }
             }
         }
+
+        @Nested
+        @DisplayName("When activable are activated in chunks")
+        class WhenActivateInChunks
+        {
+            private List<SerialActivable> children;
+            private Queue<Runnable> chunks;
+            private Disposable activation;
+
+            @BeforeEach
+            void before()
+            {
+                children = new ArrayList<>();
+                chunks = new ArrayDeque<>();
+
+                for (int i = 0; i < 5; i++)
+                {
+                    final SerialActivable child = new SerialActivable(Disposables::empty);
+
+                    children.add(child);
+                    activable.add(child);
+                }
+
+                activation = activable.activate(2, chunks::add);
+            }
+
+            @Test
+            @DisplayName("IsActivated should be true")
+            public void testIsActivated()
+            {
+                assertTrue(activable.isActivated());
+                assertEquals(5, activable.size());
+            }
+
+            @Test
+            @DisplayName("Children should be activated chunk by chunk")
+            public void testChunks()
+            {
+                assertFalse(children.get(0).isActivated());
+
+                chunks.poll().run();
+
+                assertTrue(children.get(1).isActivated());
+                assertFalse(children.get(2).isActivated());
+
+                chunks.poll().run();
+                chunks.poll().run();
+
+                assertTrue(children.stream().allMatch(SerialActivable::isActivated));
+                assertTrue(chunks.isEmpty());
+            }
+
+            @Test
+            @DisplayName("Remaining chunks should not be run when activation is disposed")
+            public void testDispose()
+            {
+                chunks.poll().run();
+                activation.dispose();
+                chunks.poll().run();
+
+                assertFalse(children.get(2).isActivated());
+                assertTrue(chunks.isEmpty());
+            }
+
+            @Test
+            @DisplayName("Remaining chunks should not be run when deactivated")
+            public void testDeactivate()
+            {
+                activable.deactivate();
+                chunks.poll().run();
+
+                assertFalse(children.stream().anyMatch(SerialActivable::isActivated));
+            }
+        }
+
+        @Nested
+        @DisplayName("When activable are added while activating from another thread")
+        class WhenAddConcurrently
+        {
+            @Test
+            @DisplayName("All children should be activated after activation")
+            public void testConcurrentAdd() throws Exception
+            {
+                final List<SerialActivable> children = new ArrayList<>();
+                final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+                try
+                {
+                    final Future<?> toggling = executor.submit(() -> {
+                        for (int i = 0; i < 1000; i++)
+                        {
+                            activable.activate();
+                            activable.deactivate();
+                        }
+                    });
+
+                    for (int i = 0; i < 1000; i++)
+                    {
+                        final SerialActivable child = new SerialActivable(Disposables::empty);
+
+                        children.add(child);
+                        activable.add(child);
+                    }
+
+                    toggling.get(10, TimeUnit.SECONDS);
+                }
+                finally
+                {
+                    executor.shutdown();
+                }
+
+                activable.activate();
+
+                assertTrue(children.stream().allMatch(SerialActivable::isActivated));
+            }
+
+            @Test
+            @DisplayName("All children added by many threads should be activated by single concurrent activation")
+            public void testStress() throws Exception
+            {
+                final int threadCount = 8;
+                final List<SerialActivable> children = new CopyOnWriteArrayList<>();
+                final ExecutorService executor = Executors.newFixedThreadPool(threadCount + 1);
+                final CountDownLatch start = new CountDownLatch(1);
+
+                try
+                {
+                    final List<Future<?>> futures = new ArrayList<>();
+
+                    for (int thread = 0; thread < threadCount; thread++)
+                    {
+                        futures.add(executor.submit(() -> {
+                            start.await();
+
+                            for (int i = 0; i < 500; i++)
+                            {
+                                final SerialActivable child = new SerialActivable(Disposables::empty);
+
+                                children.add(child);
+                                activable.add(child);
+                            }
+
+                            return null;
+                        }));
+                    }
+
+                    futures.add(executor.submit(() -> {
+                        start.await();
+
+                        activable.activate();
+
+                        return null;
+                    }));
+
+                    start.countDown();
+
+                    for (final Future<?> future : futures)
+                    {
+                        future.get(10, TimeUnit.SECONDS);
+                    }
+                }
+                finally
+                {
+                    executor.shutdown();
+                }
+
+                assertEquals(threadCount * 500, activable.size());
+                assertTrue(children.stream().allMatch(SerialActivable::isActivated));
+            }
+
+            @Test
+            @DisplayName("Children added during concurrent clear should be either kept or disposed")
+            public void testConcurrentClear() throws Exception
+            {
+                final List<SerialActivable> children = new ArrayList<>();
+                final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+                try
+                {
+                    final Future<?> clearing = executor.submit(() -> {
+                        for (int i = 0; i < 1000; i++)
+                        {
+                            activable.clear();
+                        }
+                    });
+
+                    for (int i = 0; i < 1000; i++)
+                    {
+                        final SerialActivable child = new SerialActivable(Disposables::empty);
+
+                        children.add(child);
+                        activable.add(child);
+                    }
+
+                    clearing.get(10, TimeUnit.SECONDS);
+                }
+                finally
+                {
+                    executor.shutdown();
+                }
+
+                assertEquals(activable.size(),
+                        children.stream().filter(child -> !child.asDisposable().isDisposed()).count());
+            }
+        }
     }
 }
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.activable;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.reactivex.disposables.Disposable;
+import io.reactivex.subjects.PublishSubject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.vaadin.addons.reactive.ReactiveBinderExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link LeakDetection}
+ *
+ * @author dohnal
+ */
+@DisplayName("Leak detection specification")
+public class LeakDetectionTest
+{
+    @Nested
+    @DisplayName("When leak detection is disabled")
+    class WhenDisabled
+    {
+        @Test
+        @DisplayName("Subscription should not be tracked")
+        public void testTrack()
+        {
+            final PublishSubject<Integer> subject = PublishSubject.create();
+            final Disposable subscription = subject.subscribe();
+
+            assertFalse(LeakDetection.isEnabled());
+            assertSame(subscription, LeakDetection.track(subscription));
+            assertEquals(0, LeakDetection.getLiveSubscriptions().size());
+        }
+    }
+
+    @Nested
+    @DisplayName("When leak detection is enabled")
+    class WhenEnabled implements ReactiveBinderExtension
+    {
+        private PublishSubject<Integer> subject;
+
+        @BeforeEach
+        void before()
+        {
+            subject = PublishSubject.create();
+
+            LeakDetection.setEnabled(true);
+        }
+
+        @AfterEach
+        void after()
+        {
+            LeakDetection.setEnabled(false);
+        }
+
+        @Override
+        public void handleError(final @Nonnull Throwable error)
+        {}
+
+        @Test
+        @DisplayName("Subscription of binding should be tracked until it is disposed")
+        public void testTrack()
+        {
+            final Disposable subscription = when(subject).then(() -> {});
+
+            assertTrue(subscription instanceof TrackedSubscription);
+            assertEquals(1, LeakDetection.getLiveSubscriptions().size());
+            assertNull(((TrackedSubscription) subscription).getOwner());
+            assertTrue(((TrackedSubscription) subscription).getCreationStackTrace().length > 0);
+
+            subscription.dispose();
+
+            assertTrue(subscription.isDisposed());
+            assertFalse(subject.hasObservers());
+            assertEquals(0, LeakDetection.getLiveSubscriptions().size());
+        }
+
+        @Test
+        @DisplayName("Subscription of completed observable should not be live")
+        public void testComplete()
+        {
+            when(subject).then(() -> {});
+
+            subject.onComplete();
+
+            assertEquals(0, LeakDetection.getLiveSubscriptions().size());
+        }
+
+        @Test
+        @DisplayName("Subscription without owner should be reported as suspicious but not as leak")
+        public void testNoOwner()
+        {
+            final Disposable subscription = when(subject).then(() -> {});
+
+            assertEquals(0, LeakDetection.findLeaks().size());
+            assertEquals(1, LeakDetection.findSuspicious().size());
+
+            subscription.dispose();
+
+            assertEquals(0, LeakDetection.findSuspicious().size());
+        }
+
+        @Test
+        @DisplayName("Subscription added to activated composite activable should be owned by its owner")
+        public void testCompositeOwner()
+        {
+            final AtomicBoolean owner = new AtomicBoolean(true);
+            final CompositeActivable activable = new CompositeActivable(owner,
+                    alive -> ((AtomicBoolean) alive).get());
+
+            activable.activate();
+            activable.add(new SerialActivable(() -> when(subject).then(() -> {})));
+
+            assertEquals(1, LeakDetection.getLiveSubscriptions().size());
+            assertSame(owner, LeakDetection.getLiveSubscriptions().get(0).getOwner());
+
+            owner.set(false);
+
+            assertEquals(1, LeakDetection.findLeaks().size());
+
+            activable.deactivate();
+
+            assertEquals(0, LeakDetection.findLeaks().size());
+        }
+
+        @Nested
+        @DisplayName("When subscription is created by owner")
+        class WhenCreateWithOwner
+        {
+            private AtomicBoolean owner;
+            private Disposable subscription;
+
+            @BeforeEach
+            void before()
+            {
+                owner = new AtomicBoolean(true);
+
+                LeakDetection.runWithOwner(owner, alive -> ((AtomicBoolean) alive).get(),
+                        () -> subscription = when(subject).then(() -> {}));
+            }
+
+            @Test
+            @DisplayName("Subscription should know its owner")
+            public void testOwner()
+            {
+                assertSame(owner, ((TrackedSubscription) subscription).getOwner());
+                assertTrue(((TrackedSubscription) subscription).getOwnerDescription()
+                        .startsWith(AtomicBoolean.class.getName()));
+            }
+
+            @Test
+            @DisplayName("Subscription should not be reported as leak while owner is alive")
+            public void testAlive()
+            {
+                assertEquals(0, LeakDetection.findLeaks().size());
+            }
+
+            @Test
+            @DisplayName("Subscription created after action should not have owner")
+            public void testAfterAction()
+            {
+                assertNull(((TrackedSubscription) when(subject).then(() -> {})).getOwner());
+            }
+
+            @Test
+            @DisplayName("Subscription which outlives its owner should be reported as leak")
+            public void testLeak()
+            {
+                owner.set(false);
+
+                assertEquals(1, LeakDetection.findLeaks().size());
+                assertSame(subscription, LeakDetection.findLeaks().get(0));
+
+                subscription.dispose();
+
+                assertEquals(0, LeakDetection.findLeaks().size());
+            }
+        }
+    }
+}
@@ -1183,4 +1183,116 @@ public interface ObservableBinderSpecification
             disposable = binder.then(function);
         }
     }
+
+    abstract class WhenBindRateLimitedObservableSpecification implements ReactiveBinderExtension
+    {
+        protected TestScheduler testScheduler;
+        protected PublishSubject<Integer> observable;
+        protected Consumer<Integer> consumer;
+
+        @BeforeEach
+        @SuppressWarnings("unchecked")
+        protected void create()
+        {
+            testScheduler = new TestScheduler();
+            observable = PublishSubject.create();
+            consumer = Mockito.mock(Consumer.class);
+        }
+
+        @Override
+        public void handleError(final @Nonnull Throwable error)
+        {}
+
+        @Nested
+        @DisplayName("When debounced observable emits values")
+        class WhenDebounced
+        {
+            @BeforeEach
+            void before()
+            {
+                when(observable).debounced(300, TimeUnit.MILLISECONDS, testScheduler).then(consumer);
+
+                observable.onNext(1);
+                testScheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+                observable.onNext(2);
+                testScheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+            }
+
+            @Test
+            @DisplayName("Consumer should not be called before timeout")
+            public void testConsumer()
+            {
+                Mockito.verify(consumer, Mockito.never()).accept(Mockito.any());
+            }
+
+            @Test
+            @DisplayName("Consumer should be called only with last value after timeout")
+            public void testConsumerAfterTimeout()
+            {
+                testScheduler.advanceTimeBy(300, TimeUnit.MILLISECONDS);
+
+                Mockito.verify(consumer).accept(2);
+                Mockito.verifyNoMoreInteractions(consumer);
+            }
+        }
+
+        @Nested
+        @DisplayName("When throttled observable emits values")
+        class WhenThrottled
+        {
+            @BeforeEach
+            void before()
+            {
+                when(observable).throttled(300, TimeUnit.MILLISECONDS, testScheduler).then(consumer);
+
+                observable.onNext(1);
+                testScheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+                observable.onNext(2);
+                testScheduler.advanceTimeBy(300, TimeUnit.MILLISECONDS);
+                observable.onNext(3);
+            }
+
+            @Test
+            @DisplayName("Consumer should be called with first value of each window")
+            public void testConsumer()
+            {
+                Mockito.verify(consumer).accept(1);
+                Mockito.verify(consumer).accept(3);
+                Mockito.verifyNoMoreInteractions(consumer);
+            }
+        }
+
+        @Nested
+        @DisplayName("When sampled observable emits values")
+        class WhenSampled
+        {
+            @BeforeEach
+            void before()
+            {
+                when(observable).sampled(300, TimeUnit.MILLISECONDS, testScheduler).then(consumer);
+
+                observable.onNext(1);
+                observable.onNext(2);
+                testScheduler.advanceTimeBy(300, TimeUnit.MILLISECONDS);
+                observable.onNext(3);
+            }
+
+            @Test
+            @DisplayName("Consumer should be called with latest value of each period")
+            public void testConsumer()
+            {
+                Mockito.verify(consumer).accept(2);
+                Mockito.verifyNoMoreInteractions(consumer);
+            }
+
+            @Test
+            @DisplayName("Consumer should be called with last value when observable completes")
+            public void testConsumerOnComplete()
+            {
+                observable.onComplete();
+
+                Mockito.verify(consumer).accept(3);
+            }
+        }
+    }
 }
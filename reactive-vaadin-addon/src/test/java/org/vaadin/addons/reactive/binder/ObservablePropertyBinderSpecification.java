@@ -14,6 +14,7 @@
 package org.vaadin.addons.reactive.binder;
 
 import javax.annotation.Nonnull;
+import java.util.concurrent.TimeUnit;
 
 import io.reactivex.disposables.Disposable;
 import io.reactivex.observers.TestObserver;
@@ -386,4 +387,62 @@ public interface ObservablePropertyBinderSpecification
             }
         }
     }
+
+    abstract class WhenBindObservablePropertyToDebouncedObservableSpecification
+            implements ReactiveBinderExtension, ReactivePropertyExtension
+    {
+        protected TestScheduler testScheduler;
+        protected PublishSubject<Integer> sourceObservable;
+        protected ReactiveProperty<Integer> property;
+        protected ReactiveProperty<Integer> anotherProperty;
+
+        @BeforeEach
+        protected void bind()
+        {
+            testScheduler = new TestScheduler();
+            sourceObservable = PublishSubject.create();
+            property = createProperty();
+            anotherProperty = createProperty();
+        }
+
+        @Override
+        public void handleError(final @Nonnull Throwable error)
+        {}
+
+        @Test
+        @DisplayName("Property value should be set only with last value after timeout")
+        public void testPropertyValue()
+        {
+            bind(property).debounced(300, TimeUnit.MILLISECONDS, testScheduler).to(sourceObservable);
+
+            final TestObserver<Integer> testObserver = property.asObservable().test();
+
+            sourceObservable.onNext(1);
+            sourceObservable.onNext(2);
+
+            testObserver.assertNoValues();
+
+            testScheduler.advanceTimeBy(300, TimeUnit.MILLISECONDS);
+
+            testObserver.assertValue(2);
+        }
+
+        @Test
+        @DisplayName("Property value should be set only with last value of another property after timeout")
+        public void testTwoWayPropertyValue()
+        {
+            bind(property).debounced(300, TimeUnit.MILLISECONDS, testScheduler).to(anotherProperty);
+
+            final TestObserver<Integer> testObserver = property.asObservable().test();
+
+            anotherProperty.setValue(1);
+            anotherProperty.setValue(2);
+
+            testObserver.assertNoValues();
+
+            testScheduler.advanceTimeBy(300, TimeUnit.MILLISECONDS);
+
+            testObserver.assertValue(2);
+        }
+    }
 }
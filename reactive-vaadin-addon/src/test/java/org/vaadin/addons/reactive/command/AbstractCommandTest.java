@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.command;
+
+import javax.annotation.Nonnull;
+import java.util.Optional;
+
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link AbstractCommand}
+ *
+ * @author dohnal
+ */
+@DisplayName("Abstract command specification")
+public class AbstractCommandTest
+{
+    private static class TestCommand extends AbstractCommand<Void, Integer>
+    {
+        TestCommand()
+        {
+            super(Observable.just(true), Observable.empty());
+        }
+
+        @Nonnull
+        @Override
+        protected Observable<Integer> executeInternal(final @Nonnull Optional<Void> input)
+        {
+            return Observable.empty();
+        }
+    }
+
+    @Nested
+    @DisplayName("When new abstract command is created")
+    class WhenCreate
+    {
+        private TestCommand command;
+
+        @BeforeEach
+        void before()
+        {
+            command = new TestCommand();
+        }
+
+        @Test
+        @DisplayName("CanExecute property should follow executability")
+        public void testCanExecuteProperty()
+        {
+            assertSame(command.getCanExecuteProperty(), command.getCanExecuteProperty());
+            assertTrue(command.getCanExecuteProperty().getValue());
+
+            command.handleStart(Optional.empty());
+
+            assertFalse(command.getCanExecuteProperty().getValue());
+
+            command.handleComplete();
+
+            assertTrue(command.getCanExecuteProperty().getValue());
+        }
+
+        @Test
+        @DisplayName("Result subject should be created once")
+        public void testResultSubject()
+        {
+            assertSame(command.getResultSubject(), command.getResultSubject());
+        }
+
+        @Test
+        @DisplayName("Results emitted by subclass should be observed")
+        public void testResult()
+        {
+            final TestObserver<Integer> testObserver = command.getResult().test();
+
+            command.getResultSubject().onNext(5);
+
+            testObserver.assertValue(5);
+        }
+
+        @Test
+        @DisplayName("Errors emitted by subclass should be observed")
+        public void testError()
+        {
+            final IllegalStateException error = new IllegalStateException();
+            final TestObserver<Throwable> testObserver = command.getError().test();
+
+            command.getErrorSubject().onNext(error);
+
+            testObserver.assertValue(error);
+        }
+    }
+}
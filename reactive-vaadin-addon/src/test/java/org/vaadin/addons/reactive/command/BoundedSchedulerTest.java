@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.command;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import io.reactivex.Scheduler;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.vaadin.addons.reactive.ReactiveCommand;
+import org.vaadin.addons.reactive.ReactiveCommandExtension;
+import org.vaadin.addons.reactive.exceptions.RejectedCommandExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link BoundedScheduler}
+ *
+ * @author dohnal
+ */
+@DisplayName("Bounded scheduler specification")
+public class BoundedSchedulerTest
+{
+    @Nested
+    @DisplayName("When new serial bounded scheduler is created")
+    class WhenCreate implements ReactiveCommandExtension
+    {
+        private TestScheduler testScheduler;
+        private BoundedScheduler scheduler;
+        private List<Integer> values;
+
+        @BeforeEach
+        void before()
+        {
+            testScheduler = new TestScheduler();
+            scheduler = new BoundedScheduler(testScheduler, 1, 3);
+            values = new ArrayList<>();
+        }
+
+        @Test
+        @DisplayName("Queue depth should be zero")
+        public void testQueueDepth()
+        {
+            assertEquals(0, scheduler.getQueueDepth());
+        }
+
+        @Test
+        @DisplayName("Maximum concurrency has to be positive")
+        public void testMaxConcurrency()
+        {
+            assertThrows(IllegalArgumentException.class, () -> new BoundedScheduler(testScheduler, 0, 1));
+        }
+
+        @Nested
+        @DisplayName("When tasks are scheduled")
+        class WhenSchedule
+        {
+            @BeforeEach
+            void before()
+            {
+                scheduler.scheduleDirect(() -> values.add(1));
+                scheduler.scheduleDirect(() -> values.add(2));
+                scheduler.scheduleDirect(() -> values.add(3));
+            }
+
+            @Test
+            @DisplayName("Queue depth should be number of waiting tasks")
+            public void testQueueDepth()
+            {
+                assertEquals(3, scheduler.getQueueDepth());
+            }
+
+            @Test
+            @DisplayName("Tasks should be run in order")
+            public void testRun()
+            {
+                testScheduler.triggerActions();
+
+                assertEquals(Arrays.asList(1, 2, 3), values);
+                assertEquals(0, scheduler.getQueueDepth());
+            }
+
+            @Test
+            @DisplayName("Next task should be rejected")
+            public void testReject()
+            {
+                assertThrows(RejectedExecutionException.class, () -> scheduler.scheduleDirect(() -> values.add(4)));
+                assertEquals(1, scheduler.getRejectedCount());
+            }
+
+            @Test
+            @DisplayName("Disposed task should not be run")
+            public void testDispose()
+            {
+                testScheduler.triggerActions();
+
+                scheduler.scheduleDirect(() -> values.add(4)).dispose();
+                testScheduler.triggerActions();
+
+                assertEquals(Arrays.asList(1, 2, 3), values);
+            }
+        }
+
+        @Nested
+        @DisplayName("When more tasks than maximum queue depth are scheduled by worker")
+        class WhenScheduleOnWorker
+        {
+            private Scheduler.Worker worker;
+
+            @BeforeEach
+            void before()
+            {
+                worker = scheduler.createWorker();
+
+                worker.schedule(() -> values.add(1));
+                worker.schedule(() -> values.add(2));
+                worker.schedule(() -> {
+                    values.add(3);
+
+                    worker.schedule(() -> values.add(5));
+                });
+                worker.schedule(() -> values.add(4));
+            }
+
+            @Test
+            @DisplayName("Worker should wait in queue as one task")
+            public void testQueueDepth()
+            {
+                assertEquals(1, scheduler.getQueueDepth());
+                assertEquals(0, scheduler.getRejectedCount());
+            }
+
+            @Test
+            @DisplayName("Tasks should be run in order")
+            public void testRun()
+            {
+                testScheduler.triggerActions();
+
+                assertEquals(Arrays.asList(1, 2, 3, 4, 5), values);
+                assertEquals(0, scheduler.getQueueDepth());
+            }
+
+            @Test
+            @DisplayName("Tasks of disposed worker should not be run")
+            public void testDispose()
+            {
+                worker.dispose();
+                testScheduler.triggerActions();
+
+                assertTrue(values.isEmpty());
+            }
+        }
+
+        @Nested
+        @DisplayName("When command execution is rejected")
+        class WhenRejectCommand
+        {
+            @Test
+            @DisplayName("Error should be emitted")
+            public void testError()
+            {
+                final ReactiveCommand<Void, Integer> command = createCommandFromSupplier(() -> 1, scheduler);
+                final TestObserver<Throwable> testObserver = command.getError().test();
+
+                scheduler.scheduleDirect(() -> values.add(1));
+                scheduler.scheduleDirect(() -> values.add(2));
+                scheduler.scheduleDirect(() -> values.add(3));
+
+                command.execute().test().assertComplete();
+
+                testObserver.assertValueCount(1);
+                testObserver.assertValue(error -> error instanceof RejectedCommandExecutionException);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("When new serial bounded scheduler with drop policy is created")
+    class WhenCreateWithDropPolicy implements ReactiveCommandExtension
+    {
+        private TestScheduler testScheduler;
+        private BoundedScheduler scheduler;
+        private List<Integer> values;
+
+        @BeforeEach
+        void before()
+        {
+            testScheduler = new TestScheduler();
+            scheduler = new BoundedScheduler(testScheduler, 1, 1, BoundedScheduler.OverflowPolicy.DROP);
+            values = new ArrayList<>();
+
+            scheduler.scheduleDirect(() -> values.add(1));
+        }
+
+        @Test
+        @DisplayName("Next task should be dropped")
+        public void testDrop()
+        {
+            assertTrue(scheduler.scheduleDirect(() -> values.add(2)).isDisposed());
+
+            testScheduler.triggerActions();
+
+            assertEquals(Arrays.asList(1), values);
+            assertEquals(1, scheduler.getDroppedCount());
+            assertEquals(0, scheduler.getRejectedCount());
+        }
+
+        @Test
+        @DisplayName("Dropped command execution should complete without result and error")
+        public void testCommand()
+        {
+            final ReactiveCommand<Void, Integer> command = createCommandFromSupplier(() -> 1, scheduler);
+            final TestObserver<Throwable> testObserver = command.getError().test();
+
+            command.execute().test().assertResult();
+
+            testObserver.assertNoValues();
+        }
+    }
+}
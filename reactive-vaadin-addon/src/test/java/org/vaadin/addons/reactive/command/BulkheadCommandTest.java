@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+package org.vaadin.addons.reactive.command;
+
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.PublishSubject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.vaadin.addons.reactive.ReactiveCommand;
+import org.vaadin.addons.reactive.ReactiveCommandExtension;
+import org.vaadin.addons.reactive.exceptions.RejectedCommandExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link BulkheadCommand}
+ *
+ * @author dohnal
+ */
+@DisplayName("Bulkhead command specification")
+public class BulkheadCommandTest
+{
+    @Nested
+    @DisplayName("When commands share bulkhead")
+    class WhenShareBulkhead implements ReactiveCommandExtension
+    {
+        private Bulkhead bulkhead;
+        private PublishSubject<Integer> subject;
+        private ReactiveCommand<Void, Integer> first;
+        private ReactiveCommand<Void, Integer> second;
+
+        @BeforeEach
+        void before()
+        {
+            bulkhead = new Bulkhead(1);
+            subject = PublishSubject.create();
+
+            first = createBulkheadCommand(createCommandFromObservable(() -> subject), bulkhead);
+            second = createBulkheadCommand(createCommandFromObservable(() -> Observable.just(2)), bulkhead);
+        }
+
+        @Test
+        @DisplayName("Maximum concurrency has to be positive")
+        public void testMaxConcurrency()
+        {
+            assertThrows(IllegalArgumentException.class, () -> new Bulkhead(0));
+        }
+
+        @Test
+        @DisplayName("Execution should run if bulkhead is not full")
+        public void testAccept()
+        {
+            second.execute().test().assertResult(2);
+
+            assertEquals(1, bulkhead.getAcceptedCount());
+            assertEquals(0, bulkhead.getRunningCount());
+        }
+
+        @Nested
+        @DisplayName("When bulkhead is full")
+        class WhenFull
+        {
+            private TestObserver<Integer> firstObserver;
+
+            @BeforeEach
+            void before()
+            {
+                firstObserver = first.execute().test();
+            }
+
+            @Test
+            @DisplayName("Execution should be rejected")
+            public void testReject()
+            {
+                second.execute().test().assertError(RejectedCommandExecutionException.class);
+
+                assertEquals(1, bulkhead.getRunningCount());
+                assertEquals(1, bulkhead.getRejectedCount());
+            }
+
+            @Test
+            @DisplayName("Execution should run after running execution completes")
+            public void testRelease()
+            {
+                subject.onNext(1);
+                subject.onComplete();
+
+                firstObserver.assertResult(1);
+                second.execute().test().assertResult(2);
+            }
+        }
+    }
+}
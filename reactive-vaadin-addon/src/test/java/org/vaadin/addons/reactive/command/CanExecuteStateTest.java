@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.command;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.PublishSubject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link CanExecuteState}
+ *
+ * @author dohnal
+ */
+@DisplayName("Can execute state specification")
+public class CanExecuteStateTest
+{
+    @Nested
+    @DisplayName("When new can execute state is created")
+    class WhenCreate
+    {
+        private PublishSubject<Boolean> canExecute;
+        private CanExecuteState state;
+
+        @BeforeEach
+        void before()
+        {
+            canExecute = PublishSubject.create();
+            state = new CanExecuteState(canExecute);
+        }
+
+        @Test
+        @DisplayName("State should be true")
+        public void testGet()
+        {
+            assertTrue(state.get());
+        }
+
+        @Test
+        @DisplayName("Observable should be shared")
+        public void testShared()
+        {
+            assertSame(state.asObservable(), state.asObservable());
+        }
+
+        @Test
+        @DisplayName("Observable should emit only changes")
+        public void testChanges()
+        {
+            final TestObserver<Boolean> testObserver = state.asObservable().test();
+
+            canExecute.onNext(true);
+            state.setExecuting(true);
+            canExecute.onNext(false);
+            state.setExecuting(false);
+            canExecute.onNext(true);
+
+            testObserver.assertValues(true, false, true);
+        }
+
+        @Test
+        @DisplayName("State should be false after CanExecute observable emits error")
+        public void testError()
+        {
+            final TestObserver<Boolean> testObserver = state.asObservable().test();
+
+            canExecute.onError(new RuntimeException("Error"));
+
+            assertFalse(state.get());
+            testObserver.assertError(RuntimeException.class);
+        }
+
+        @Test
+        @DisplayName("Change made by observer should be emitted after current value")
+        public void testReentrantChange()
+        {
+            final TestObserver<Boolean> testObserver = state.asObservable()
+                    .doOnNext(value -> {
+                        if (!value)
+                        {
+                            state.setExecuting(false);
+                        }
+                    })
+                    .test();
+
+            state.setExecuting(true);
+
+            testObserver.assertValues(true, false, true);
+            assertTrue(state.get());
+        }
+
+        @Test
+        @DisplayName("Observer should be notified without blocking other threads")
+        public void testEmitWithoutLock() throws InterruptedException
+        {
+            final AtomicReference<Thread> other = new AtomicReference<>();
+
+            final TestObserver<Boolean> testObserver = state.asObservable()
+                    .doOnNext(value -> {
+                        if (!value && other.get() == null)
+                        {
+                            final Thread thread = new Thread(() -> state.setExecuting(false));
+
+                            other.set(thread);
+                            thread.start();
+                            thread.join(TimeUnit.SECONDS.toMillis(5));
+                        }
+                    })
+                    .test();
+
+            state.setExecuting(true);
+
+            assertFalse(other.get().isAlive());
+            testObserver.assertValues(true, false, true);
+        }
+    }
+}
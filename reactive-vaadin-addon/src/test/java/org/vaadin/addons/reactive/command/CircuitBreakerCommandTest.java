@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+package org.vaadin.addons.reactive.command;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.vaadin.addons.reactive.ReactiveCommandExtension;
+import org.vaadin.addons.reactive.exceptions.CircuitBreakerOpenException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link CircuitBreakerCommand}
+ *
+ * @author dohnal
+ */
+@DisplayName("Circuit breaker command specification")
+public class CircuitBreakerCommandTest
+{
+    @Nested
+    @DisplayName("When new circuit breaker command is created")
+    class WhenCreate implements ReactiveCommandExtension
+    {
+        private TestScheduler testScheduler;
+        private AtomicBoolean failing;
+        private CircuitBreakerCommand<Void, Integer> command;
+
+        @BeforeEach
+        void before()
+        {
+            testScheduler = new TestScheduler();
+            failing = new AtomicBoolean(true);
+
+            command = new CircuitBreakerCommand<>(createCommandFromSupplier(() -> {
+                if (failing.get())
+                {
+                    throw new IllegalStateException("Failure");
+                }
+
+                return 1;
+            }), 2, 1, TimeUnit.SECONDS, testScheduler);
+        }
+
+        @Test
+        @DisplayName("Circuit should be closed")
+        public void testState()
+        {
+            assertEquals(CircuitBreakerCommand.State.CLOSED, command.getCurrentState());
+        }
+
+        @Test
+        @DisplayName("Circuit should stay closed before failure threshold is reached")
+        public void testBelowThreshold()
+        {
+            command.execute().test().assertError(IllegalStateException.class);
+
+            assertEquals(CircuitBreakerCommand.State.CLOSED, command.getCurrentState());
+            assertEquals(1, command.getFailureCount());
+        }
+
+        @Nested
+        @DisplayName("When failure threshold is reached")
+        class WhenOpen
+        {
+            private TestObserver<Boolean> canExecuteObserver;
+
+            @BeforeEach
+            void before()
+            {
+                canExecuteObserver = command.canExecute().test();
+
+                command.execute().test();
+                command.execute().test();
+            }
+
+            @Test
+            @DisplayName("Circuit should be open")
+            public void testState()
+            {
+                assertEquals(CircuitBreakerCommand.State.OPEN, command.getCurrentState());
+                assertEquals(1, command.getOpenCount());
+            }
+
+            @Test
+            @DisplayName("Command should not be executable")
+            public void testCanExecute()
+            {
+                assertEquals(Boolean.FALSE, getLastValue(canExecuteObserver));
+            }
+
+            @Test
+            @DisplayName("Execution should fail immediately")
+            public void testFailFast()
+            {
+                failing.set(false);
+
+                command.execute().test().assertError(CircuitBreakerOpenException.class);
+                assertEquals(1, command.getRejectedCount());
+            }
+
+            @Nested
+            @DisplayName("When open duration elapses")
+            class WhenHalfOpen
+            {
+                @BeforeEach
+                void before()
+                {
+                    testScheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+                }
+
+                @Test
+                @DisplayName("Circuit should be half-open and command executable")
+                public void testState()
+                {
+                    assertEquals(CircuitBreakerCommand.State.HALF_OPEN, command.getCurrentState());
+                    assertEquals(Boolean.TRUE, getLastValue(canExecuteObserver));
+                }
+
+                @Test
+                @DisplayName("Successful trial should close circuit")
+                public void testSuccess()
+                {
+                    failing.set(false);
+
+                    command.execute().test().assertResult(1);
+                    assertEquals(CircuitBreakerCommand.State.CLOSED, command.getCurrentState());
+                }
+
+                @Test
+                @DisplayName("Failed trial should open circuit again")
+                public void testFailure()
+                {
+                    command.execute().test().assertError(IllegalStateException.class);
+
+                    assertEquals(CircuitBreakerCommand.State.OPEN, command.getCurrentState());
+                    assertEquals(2, command.getOpenCount());
+                }
+            }
+        }
+    }
+
+    private static <T> T getLastValue(final TestObserver<T> testObserver)
+    {
+        return testObserver.values().get(testObserver.valueCount() - 1);
+    }
+}
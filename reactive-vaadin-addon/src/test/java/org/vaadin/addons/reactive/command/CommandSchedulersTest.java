@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.command;
+
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Scheduler;
+import io.reactivex.observers.TestObserver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.vaadin.addons.reactive.ReactiveCommand;
+import org.vaadin.addons.reactive.ReactiveCommandExtension;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link CommandSchedulers}
+ *
+ * @author dohnal
+ */
+@DisplayName("Command schedulers specification")
+public class CommandSchedulersTest
+{
+    @Nested
+    @DisplayName("When blocking scheduler is used")
+    class WhenBlocking implements ReactiveCommandExtension
+    {
+        @Test
+        @DisplayName("Blocking scheduler should be shared")
+        public void testShared()
+        {
+            assertSame(CommandSchedulers.blocking(), getBlockingScheduler());
+        }
+
+        @Test
+        @DisplayName("Maximum number of platform threads has to be positive")
+        public void testMaxPlatformThreads()
+        {
+            assertThrows(IllegalArgumentException.class, () -> CommandSchedulers.blocking(0));
+        }
+
+        @Test
+        @DisplayName("Command should be executed outside of calling thread")
+        public void testExecution()
+        {
+            final Scheduler scheduler = CommandSchedulers.blocking(1);
+            final ReactiveCommand<Void, Thread> command = createCommandFromSupplier(Thread::currentThread, scheduler);
+
+            final TestObserver<Thread> testObserver = command.getResult().test();
+
+            command.execute().test().awaitDone(5, TimeUnit.SECONDS).assertComplete();
+
+            testObserver.assertValueCount(1);
+            testObserver.assertValue(thread -> thread != Thread.currentThread());
+        }
+
+        @Test
+        @DisplayName("Command should be executed on daemon platform thread if virtual threads are not supported")
+        public void testPlatformThread()
+        {
+            final Thread thread = createCommandFromSupplier(Thread::currentThread, CommandSchedulers.blocking(1))
+                    .execute()
+                    .blockingFirst();
+
+            assertTrue(CommandSchedulers.isVirtualThreadSupported() ||
+                    (thread.isDaemon() && thread.getName().startsWith(CommandSchedulers.THREAD_NAME_PREFIX)));
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+package org.vaadin.addons.reactive.command;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.vaadin.addons.reactive.ReactiveCommand;
+import org.vaadin.addons.reactive.ReactiveCommandExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link CommandTracing} and {@link RingBufferCommandTracer}
+ *
+ * @author dohnal
+ */
+@DisplayName("Command tracing specification")
+public class CommandTracingTest
+{
+    @Nested
+    @DisplayName("When ring buffer tracer is created")
+    class WhenCreateRingBufferTracer implements ReactiveCommandExtension
+    {
+        private RingBufferCommandTracer tracer;
+        private ReactiveCommand<?, ?> command;
+
+        @BeforeEach
+        void before()
+        {
+            tracer = new RingBufferCommandTracer(2);
+            command = createCommandFromSupplier(() -> 1);
+        }
+
+        @Test
+        @DisplayName("Capacity has to be positive")
+        public void testCapacity()
+        {
+            assertThrows(IllegalArgumentException.class, () -> new RingBufferCommandTracer(0));
+        }
+
+        @Test
+        @DisplayName("Only most recent spans should be kept from the oldest one")
+        public void testSpans()
+        {
+            tracer.onSpan(new CommandSpan(command, CommandStage.SCHEDULING, "test", 0, 1));
+            tracer.onSpan(new CommandSpan(command, CommandStage.EXECUTION, "test", 1, 1));
+            tracer.onSpan(new CommandSpan(command, CommandStage.COMPLETION, "test", 2, 1));
+
+            assertEquals(Arrays.asList(CommandStage.EXECUTION, CommandStage.COMPLETION), getStages(tracer));
+            assertEquals(3, tracer.getSpanCount());
+        }
+
+        @Test
+        @DisplayName("Cleared tracer should not have any span")
+        public void testClear()
+        {
+            tracer.onSpan(new CommandSpan(command, CommandStage.SCHEDULING, "test", 0, 1));
+            tracer.clear();
+
+            assertTrue(tracer.getSpans().isEmpty());
+            assertEquals(0, tracer.getSpanCount());
+        }
+
+        @Test
+        @DisplayName("Span should identify command without holding it")
+        public void testCommandName()
+        {
+            final CommandSpan span = new CommandSpan(command, CommandStage.SCHEDULING, "test", 0, 1);
+            final CommandSpan otherSpan = new CommandSpan(createCommandFromSupplier(() -> 2),
+                    CommandStage.SCHEDULING, "test", 0, 1);
+
+            assertEquals(command.getClass(), span.getCommandClass());
+            assertTrue(span.getCommandName().startsWith(command.getClass().getSimpleName() + "@"));
+            assertNotEquals(span.getCommandName(), otherSpan.getCommandName());
+        }
+
+        @Test
+        @DisplayName("Spans received while clearing should be kept consistently")
+        public void testConcurrentClear() throws InterruptedException
+        {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Thread> threads = new ArrayList<>();
+
+            for (int i = 0; i < 4; i++)
+            {
+                final Thread thread = new Thread(() -> {
+                    try
+                    {
+                        start.await();
+                    }
+                    catch (final InterruptedException e)
+                    {
+                        return;
+                    }
+
+                    for (int j = 0; j < 1000; j++)
+                    {
+                        tracer.onSpan(new CommandSpan(command, CommandStage.EXECUTION, "test", j, 1));
+                    }
+                });
+
+                threads.add(thread);
+                thread.start();
+            }
+
+            start.countDown();
+
+            for (int i = 0; i < 100; i++)
+            {
+                tracer.clear();
+            }
+
+            for (final Thread thread : threads)
+            {
+                thread.join();
+            }
+
+            assertEquals(Math.min(tracer.getSpanCount(), tracer.getCapacity()), tracer.getSpans().size());
+        }
+    }
+
+    @Nested
+    @DisplayName("When tracing is enabled")
+    class WhenEnable implements ReactiveCommandExtension
+    {
+        private RingBufferCommandTracer tracer;
+        private TestScheduler testScheduler;
+
+        @BeforeEach
+        void before()
+        {
+            tracer = new RingBufferCommandTracer(100);
+            testScheduler = new TestScheduler();
+
+            CommandTracing.setTracer(tracer);
+        }
+
+        @AfterEach
+        void after()
+        {
+            CommandTracing.setTracer(null);
+        }
+
+        @Test
+        @DisplayName("All stages of execution should be traced in order")
+        public void testStages()
+        {
+            final ReactiveCommand<Void, Integer> command = createCommandFromSupplier(() -> 5, testScheduler);
+            final TestObserver<Integer> testObserver = command.getResult().test();
+
+            command.execute().test();
+            testScheduler.triggerActions();
+
+            testObserver.assertValue(5);
+            assertEquals(Arrays.asList(CommandStage.SCHEDULING, CommandStage.CAN_EXECUTE_CHECK,
+                    CommandStage.RESULT, CommandStage.EXECUTION, CommandStage.COMPLETION), getStages(tracer));
+            assertTrue(tracer.getSpans().stream().allMatch(span -> span.getCommandClass() == command.getClass()));
+            assertTrue(tracer.getSpans().stream().allMatch(span -> span.getDurationNanos() >= 0));
+        }
+
+        @Test
+        @DisplayName("Waiting for scheduler should be traced even if command cannot be executed")
+        public void testCannotExecute()
+        {
+            final ReactiveCommand<Void, Integer> command = createCommandFromSupplier(Observable.just(false),
+                    () -> 5, testScheduler);
+
+            command.execute().test();
+            testScheduler.triggerActions();
+
+            assertEquals(Arrays.asList(CommandStage.SCHEDULING, CommandStage.CAN_EXECUTE_CHECK), getStages(tracer));
+        }
+
+        @Nested
+        @DisplayName("When tracing is disabled")
+        class WhenDisable
+        {
+            @Test
+            @DisplayName("Execution should not be traced")
+            public void testDisabled()
+            {
+                final ReactiveCommand<Void, Integer> command = createCommandFromSupplier(() -> 5, testScheduler);
+
+                command.execute().test();
+                CommandTracing.setTracer(null);
+                testScheduler.triggerActions();
+
+                assertTrue(tracer.getSpans().isEmpty());
+            }
+        }
+    }
+
+    private static List<CommandStage> getStages(final RingBufferCommandTracer tracer)
+    {
+        return tracer.getSpans().stream().map(CommandSpan::getStage).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+package org.vaadin.addons.reactive.command;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.PublishSubject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.vaadin.addons.reactive.ReactiveCommand;
+import org.vaadin.addons.reactive.ReactiveCommandExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link GraphCommand}
+ *
+ * @author dohnal
+ */
+@DisplayName("Graph command specification")
+public class GraphCommandTest
+{
+    @Nested
+    @DisplayName("When new diamond graph command is created")
+    class WhenCreateDiamond implements ReactiveCommandExtension
+    {
+        private PublishSubject<Integer> left;
+        private PublishSubject<Integer> right;
+        private AtomicBoolean joined;
+        private GraphCommand.Node<Integer> sourceNode;
+        private GraphCommand.Node<Integer> leftNode;
+        private GraphCommand.Node<Integer> rightNode;
+        private GraphCommand.Node<Integer> joinNode;
+        private ReactiveCommand<Integer, GraphResult> command;
+
+        @BeforeEach
+        void before()
+        {
+            left = PublishSubject.create();
+            right = PublishSubject.create();
+            joined = new AtomicBoolean(false);
+
+            final GraphCommand.Builder<Integer> builder = GraphCommand.builder();
+
+            sourceNode = builder.addNode(createCommandFromFunction((Integer input) -> input * 10));
+            leftNode = builder.addNode(createCommandFromObservable((Integer input) -> left.map(value -> value + input)),
+                    sourceNode);
+            rightNode = builder.addNode(createCommandFromObservable((Integer input) -> right.map(value -> value + input)),
+                    sourceNode);
+            joinNode = builder.addNode(createCommandFromFunction((Integer input) -> {
+                joined.set(true);
+
+                return input;
+            }), result -> result.get(leftNode) + result.get(rightNode), leftNode, rightNode);
+
+            command = createGraphCommand(builder);
+        }
+
+        @Test
+        @DisplayName("Graph without nodes cannot be built")
+        public void testEmpty()
+        {
+            assertThrows(IllegalStateException.class, () -> GraphCommand.builder()
+                    .build(Observable.just(true), getDefaultScheduler()));
+        }
+
+        @Test
+        @DisplayName("Dependency from another builder cannot be added")
+        public void testForeignDependency()
+        {
+            assertThrows(IllegalArgumentException.class, () -> GraphCommand.<Integer>builder()
+                    .addNode(createCommandFromFunction((Integer input) -> input), sourceNode));
+        }
+
+        @Test
+        @DisplayName("Independent branches should be executing at once")
+        public void testParallel()
+        {
+            command.execute(1).test();
+
+            assertTrue(left.hasObservers());
+            assertTrue(right.hasObservers());
+        }
+
+        @Test
+        @DisplayName("Node should receive results of its dependencies")
+        public void testResult()
+        {
+            final TestObserver<GraphResult> testObserver = command.execute(1).test();
+
+            left.onNext(1);
+            left.onComplete();
+            right.onNext(2);
+            right.onComplete();
+
+            testObserver.assertValueCount(1);
+            assertEquals(Integer.valueOf(10), testObserver.values().get(0).get(sourceNode));
+            assertEquals(Integer.valueOf(23), testObserver.values().get(0).get(joinNode));
+        }
+
+        @Test
+        @DisplayName("Command should be executing until all nodes finish")
+        public void testExecuting()
+        {
+            final TestObserver<Boolean> testObserver = command.isExecuting().test();
+
+            command.execute(1).test();
+
+            left.onComplete();
+            testObserver.assertValues(false, true);
+
+            right.onComplete();
+            testObserver.assertValues(false, true, false);
+        }
+
+        @Nested
+        @DisplayName("When node fails")
+        class WhenFail
+        {
+            private TestObserver<GraphResult> testObserver;
+
+            @BeforeEach
+            void before()
+            {
+                testObserver = command.execute(1).test();
+
+                left.onError(new IllegalStateException("Failure"));
+            }
+
+            @Test
+            @DisplayName("Downstream nodes should not be executed")
+            public void testDownstream()
+            {
+                right.onNext(2);
+                right.onComplete();
+
+                assertFalse(joined.get());
+            }
+
+            @Test
+            @DisplayName("Independent nodes should finish and execution should fail")
+            public void testIndependent()
+            {
+                testObserver.assertNotTerminated();
+
+                right.onComplete();
+
+                testObserver.assertError(IllegalStateException.class);
+            }
+        }
+
+        @Nested
+        @DisplayName("When execution is disposed")
+        class WhenDispose
+        {
+            @Test
+            @DisplayName("Running nodes should be disposed")
+            public void testDispose()
+            {
+                command.execute(1).test().dispose();
+
+                assertFalse(left.hasObservers());
+                assertFalse(right.hasObservers());
+            }
+        }
+    }
+}
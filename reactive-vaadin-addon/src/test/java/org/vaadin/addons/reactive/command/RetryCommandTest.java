@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+package org.vaadin.addons.reactive.command;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.vaadin.addons.reactive.ReactiveCommand;
+import org.vaadin.addons.reactive.ReactiveCommandExtension;
+import org.vaadin.addons.reactive.exceptions.CannotExecuteCommandException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link RetryCommand}
+ *
+ * @author dohnal
+ */
+@DisplayName("Retry command specification")
+public class RetryCommandTest
+{
+    @Nested
+    @DisplayName("When new retry command is created")
+    class WhenCreate implements ReactiveCommandExtension
+    {
+        private TestScheduler testScheduler;
+        private AtomicInteger attempts;
+        private RetryCommand<Void, Integer> command;
+
+        @BeforeEach
+        void before()
+        {
+            testScheduler = new TestScheduler();
+            attempts = new AtomicInteger(0);
+
+            final ReactiveCommand<Void, Integer> decorated = createCommandFromSupplier(() -> {
+                if (attempts.incrementAndGet() < 3)
+                {
+                    throw new IllegalStateException("Failure");
+                }
+
+                return attempts.get();
+            });
+
+            command = new RetryCommand<>(decorated, 2, 100, 1000, TimeUnit.MILLISECONDS, 0, testScheduler);
+        }
+
+        @Test
+        @DisplayName("Jitter has to be between 0 and 1")
+        public void testJitter()
+        {
+            assertThrows(IllegalArgumentException.class, () -> new RetryCommand<>(createCommandFromSupplier(() -> 1), 1, 1, 1,
+                    TimeUnit.SECONDS, 2, testScheduler));
+        }
+
+        @Test
+        @DisplayName("Delay should grow exponentially up to maximum delay")
+        public void testDelay()
+        {
+            assertEquals(100, command.getDelay(1));
+            assertEquals(200, command.getDelay(2));
+            assertEquals(800, command.getDelay(4));
+            assertEquals(1000, command.getDelay(5));
+        }
+
+        @Test
+        @DisplayName("Failed execution should be retried after backoff")
+        public void testRetry()
+        {
+            final TestObserver<Integer> testObserver = command.execute().test();
+
+            assertEquals(1, attempts.get());
+
+            testScheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+            assertEquals(2, attempts.get());
+
+            testScheduler.advanceTimeBy(199, TimeUnit.MILLISECONDS);
+            assertEquals(2, attempts.get());
+
+            testScheduler.advanceTimeBy(1, TimeUnit.MILLISECONDS);
+            testObserver.assertResult(3);
+            assertEquals(2, command.getRetryCount());
+            assertEquals(0, command.getExhaustedCount());
+        }
+
+        @Test
+        @DisplayName("Command should be executing while waiting for retry")
+        public void testExecuting()
+        {
+            final TestObserver<Boolean> testObserver = command.isExecuting().test();
+
+            command.execute().test();
+            testObserver.assertValues(false, true);
+
+            testScheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+            testObserver.assertValues(false, true, false);
+        }
+
+        @Nested
+        @DisplayName("When all retries fail")
+        class WhenExhaust
+        {
+            @Test
+            @DisplayName("Error should be emitted after maximum number of retries")
+            public void testError()
+            {
+                final ReactiveCommand<Void, Integer> failing = createCommandFromSupplier(() -> {
+                    throw new IllegalStateException("Failure");
+                });
+                final RetryCommand<Void, Integer> retryCommand = new RetryCommand<>(failing, 1, 100, 100,
+                        TimeUnit.MILLISECONDS, 0, testScheduler);
+                final TestObserver<Throwable> testObserver = retryCommand.getError().test();
+
+                retryCommand.execute().test();
+                testScheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+
+                testObserver.assertValue(error -> error instanceof IllegalStateException);
+                assertEquals(1, retryCommand.getRetryCount());
+                assertEquals(1, retryCommand.getExhaustedCount());
+            }
+        }
+
+        @Nested
+        @DisplayName("When decorated command cannot be executed")
+        class WhenCannotExecute
+        {
+            @Test
+            @DisplayName("Execution should not be retried")
+            public void testCannotExecute()
+            {
+                final RetryCommand<Void, Integer> retryCommand = new RetryCommand<>(
+                        createCommandFromSupplier(Observable.just(false), () -> 1), 1, 100, 100,
+                        TimeUnit.MILLISECONDS, 0, testScheduler);
+
+                retryCommand.execute().test().assertError(CannotExecuteCommandException.class);
+                assertEquals(0, retryCommand.getRetryCount());
+            }
+        }
+    }
+}
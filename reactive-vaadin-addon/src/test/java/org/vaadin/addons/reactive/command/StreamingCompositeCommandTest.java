@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+package org.vaadin.addons.reactive.command;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.PublishSubject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.vaadin.addons.reactive.ReactiveCommand;
+import org.vaadin.addons.reactive.ReactiveCommandExtension;
+import org.vaadin.addons.reactive.exceptions.CannotExecuteCommandException;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link StreamingCompositeCommand}
+ *
+ * @author dohnal
+ */
+@DisplayName("Streaming composite command specification")
+public class StreamingCompositeCommandTest
+{
+    @Nested
+    @DisplayName("When new streaming composite command is created")
+    class WhenCreate implements ReactiveCommandExtension
+    {
+        private PublishSubject<Integer> slow;
+        private PublishSubject<Integer> fast;
+        private StreamingCompositeCommand<Void, Integer> command;
+
+        @BeforeEach
+        void before()
+        {
+            slow = PublishSubject.create();
+            fast = PublishSubject.create();
+
+            command = new StreamingCompositeCommand<>(Observable.just(true), Arrays.asList(
+                    createCommandFromObservable(() -> slow),
+                    createCommandFromObservable(() -> fast)), getDefaultScheduler());
+        }
+
+        @Test
+        @DisplayName("Results should be emitted as soon as each child produces them")
+        public void testPartialResults()
+        {
+            final TestObserver<IndexedResult<Integer>> testObserver = command.getResult().test();
+
+            command.execute().test();
+
+            fast.onNext(2);
+            fast.onComplete();
+
+            testObserver.assertValue(new IndexedResult<>(1, 2));
+
+            slow.onNext(1);
+
+            testObserver.assertValues(new IndexedResult<>(1, 2), new IndexedResult<>(0, 1));
+        }
+
+        @Test
+        @DisplayName("Aggregated result should be emitted in order of children after all children finish")
+        public void testAggregatedResult()
+        {
+            final TestObserver<List<Integer>> testObserver = command.getAggregatedResult().test();
+
+            command.execute().test();
+
+            fast.onNext(2);
+            fast.onComplete();
+
+            testObserver.assertNoValues();
+
+            slow.onNext(1);
+            slow.onComplete();
+
+            testObserver.assertValue(Arrays.asList(1, 2));
+        }
+
+        @Test
+        @DisplayName("Aggregated result should not be emitted if any child fails")
+        public void testError()
+        {
+            final TestObserver<List<Integer>> testObserver = command.getAggregatedResult().test();
+
+            command.execute().test();
+
+            fast.onError(new IllegalStateException("Failure"));
+
+            testObserver.assertNoValues();
+        }
+
+        @Test
+        @DisplayName("Command should not be executable if any child cannot be executed")
+        public void testCannotExecute()
+        {
+            final ReactiveCommand<Void, IndexedResult<Integer>> disabled = createStreamingCompositeCommand(
+                    Observable.just(true),
+                    Arrays.asList(createCommandFromSupplier(Observable.just(false), () -> 1)),
+                    getDefaultScheduler());
+
+            disabled.execute().test().assertError(error -> error instanceof CannotExecuteCommandException &&
+                    ((CannotExecuteCommandException) error).getCommand() == disabled);
+        }
+    }
+
+    @Nested
+    @DisplayName("When streaming composite command is decorated on creation")
+    class WhenDecorate implements ReactiveCommandExtension
+    {
+        @Nonnull
+        @Override
+        public <T, R> ReactiveCommand<T, R> onCreateCommand(final @Nonnull ReactiveCommand<T, R> command)
+        {
+            return new Command<>(command.canExecute(),
+                    input -> input != null ? command.execute(input) : command.execute(),
+                    getDefaultScheduler());
+        }
+
+        @Test
+        @DisplayName("Command returned by extension method should be returned")
+        public void testDecorated()
+        {
+            final ReactiveCommand<Void, IndexedResult<Integer>> command = createStreamingCompositeCommand(
+                    Collections.singletonList(new Command<>(Observable.just(true), input -> Observable.just(1),
+                            getDefaultScheduler())));
+
+            assertTrue(command instanceof Command);
+            command.execute().test().assertValue(new IndexedResult<>(0, 1));
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+package org.vaadin.addons.reactive.command;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.PublishSubject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.vaadin.addons.reactive.ReactiveCommand;
+import org.vaadin.addons.reactive.ReactiveCommandExtension;
+import org.vaadin.addons.reactive.exceptions.CommandTimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link TimeoutCommand}
+ *
+ * @author dohnal
+ */
+@DisplayName("Timeout command specification")
+public class TimeoutCommandTest
+{
+    @Nested
+    @DisplayName("When new timeout command is created")
+    class WhenCreate implements ReactiveCommandExtension
+    {
+        private TestScheduler testScheduler;
+        private PublishSubject<Integer> subject;
+        private ReactiveCommand<Void, Integer> decorated;
+        private TimeoutCommand<Void, Integer> command;
+
+        @BeforeEach
+        void before()
+        {
+            testScheduler = new TestScheduler();
+            subject = PublishSubject.create();
+            decorated = createCommandFromObservable(() -> subject);
+            command = new TimeoutCommand<>(decorated, 1, TimeUnit.SECONDS, false, testScheduler);
+        }
+
+        @Test
+        @DisplayName("Timeout has to be positive")
+        public void testTimeout()
+        {
+            assertThrows(IllegalArgumentException.class, () -> new TimeoutCommand<>(decorated, 0,
+                    TimeUnit.SECONDS, false, testScheduler));
+        }
+
+        @Test
+        @DisplayName("Execution which finishes in time should not be affected")
+        public void testInTime()
+        {
+            final TestObserver<Integer> testObserver = command.execute().test();
+
+            testScheduler.advanceTimeBy(500, TimeUnit.MILLISECONDS);
+            subject.onNext(1);
+            testScheduler.advanceTimeBy(499, TimeUnit.MILLISECONDS);
+            subject.onComplete();
+            testScheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+
+            testObserver.assertResult(1);
+        }
+
+        @Nested
+        @DisplayName("When execution does not finish in time")
+        class WhenTimeout
+        {
+            private TestObserver<Throwable> errorObserver;
+            private TestObserver<Boolean> decoratedExecutingObserver;
+            private TestObserver<Boolean> executingObserver;
+
+            @BeforeEach
+            void before()
+            {
+                errorObserver = command.getError().test();
+                decoratedExecutingObserver = decorated.isExecuting().test();
+                executingObserver = command.isExecuting().test();
+
+                command.execute().test();
+                subject.onNext(1);
+                testScheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+            }
+
+            @Test
+            @DisplayName("Execution should be disposed")
+            public void testDispose()
+            {
+                assertFalse(subject.hasObservers());
+            }
+
+            @Test
+            @DisplayName("Both commands should stop executing")
+            public void testExecuting()
+            {
+                decoratedExecutingObserver.assertValues(false, true, false);
+                executingObserver.assertValues(false, true, false);
+            }
+
+            @Test
+            @DisplayName("Timeout error should be emitted")
+            public void testError()
+            {
+                errorObserver.assertValueCount(1);
+                errorObserver.assertValue(error -> error instanceof CommandTimeoutException &&
+                        ((CommandTimeoutException) error).getCommand() == command);
+            }
+
+            @Test
+            @DisplayName("Command should be executable again")
+            public void testExecuteAgain()
+            {
+                command.execute().test();
+
+                assertTrue(subject.hasObservers());
+            }
+        }
+
+        @Nested
+        @DisplayName("When execution is executed with its own timeout")
+        class WhenExecuteWithTimeout
+        {
+            @Test
+            @DisplayName("Own timeout should be used instead of default one")
+            public void testOwnTimeout()
+            {
+                final TestObserver<Integer> testObserver = command.execute(100, TimeUnit.MILLISECONDS).test();
+
+                testScheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+
+                testObserver.assertError(CommandTimeoutException.class);
+            }
+        }
+
+        @Nested
+        @DisplayName("When timed out execution should be interrupted")
+        class WhenInterrupt
+        {
+            @Test
+            @DisplayName("Thread running execution should be interrupted")
+            public void testInterrupt() throws InterruptedException
+            {
+                final CountDownLatch started = new CountDownLatch(1);
+                final CountDownLatch interrupted = new CountDownLatch(1);
+
+                final ReactiveCommand<Void, Void> blocking = createCommandFromRunnable(() -> {
+                    started.countDown();
+
+                    try
+                    {
+                        Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+                    }
+                    catch (final InterruptedException e)
+                    {
+                        interrupted.countDown();
+                    }
+                }, CommandSchedulers.blocking(1));
+
+                final TimeoutCommand<Void, Void> timeoutCommand = new TimeoutCommand<>(blocking, 1,
+                        TimeUnit.SECONDS, true, testScheduler);
+
+                timeoutCommand.execute().onErrorResumeNext(Observable.empty()).subscribe();
+
+                assertTrue(started.await(5, TimeUnit.SECONDS));
+
+                testScheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+
+                assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+            }
+
+            @Test
+            @DisplayName("Interrupt status should be cleared when execution returns")
+            public void testInterruptCleared() throws InterruptedException
+            {
+                final ExecutorService executor = Executors.newSingleThreadExecutor();
+                final Scheduler scheduler = Schedulers.from(executor);
+                final CountDownLatch started = new CountDownLatch(1);
+                final AtomicBoolean release = new AtomicBoolean(false);
+
+                try
+                {
+                    final ReactiveCommand<Void, Void> ignoring = createCommandFromRunnable(() -> {
+                        started.countDown();
+
+                        while (!release.get())
+                        {
+                            Thread.yield();
+                        }
+                    }, scheduler);
+
+                    final TimeoutCommand<Void, Void> timeoutCommand = new TimeoutCommand<>(ignoring, 1,
+                            TimeUnit.SECONDS, true, testScheduler);
+
+                    timeoutCommand.execute().onErrorResumeNext(Observable.empty()).subscribe();
+
+                    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+                    testScheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+                    release.set(true);
+
+                    final CountDownLatch next = new CountDownLatch(1);
+                    final AtomicBoolean nextInterrupted = new AtomicBoolean(true);
+
+                    executor.execute(() -> {
+                        nextInterrupted.set(Thread.currentThread().isInterrupted());
+                        next.countDown();
+                    });
+
+                    assertTrue(next.await(5, TimeUnit.SECONDS));
+                    assertFalse(nextInterrupted.get());
+                }
+                finally
+                {
+                    executor.shutdownNow();
+                }
+            }
+
+            @Test
+            @DisplayName("Thread running execution inline should not be interrupted")
+            public void testInlineNotInterrupted() throws InterruptedException
+            {
+                final CountDownLatch subscribed = new CountDownLatch(1);
+                final CountDownLatch release = new CountDownLatch(1);
+                final AtomicBoolean interrupted = new AtomicBoolean(false);
+
+                final TimeoutCommand<Void, Integer> timeoutCommand = new TimeoutCommand<>(decorated, 1,
+                        TimeUnit.SECONDS, true, testScheduler);
+
+                final Thread caller = new Thread(() -> {
+                    timeoutCommand.execute().onErrorResumeNext(Observable.empty()).subscribe();
+                    subscribed.countDown();
+
+                    try
+                    {
+                        release.await(5, TimeUnit.SECONDS);
+                    }
+                    catch (final InterruptedException e)
+                    {
+                        interrupted.set(true);
+                    }
+                });
+
+                caller.start();
+
+                assertTrue(subscribed.await(5, TimeUnit.SECONDS));
+
+                testScheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+                release.countDown();
+                caller.join(TimeUnit.SECONDS.toMillis(5));
+
+                assertFalse(interrupted.get());
+            }
+        }
+    }
+}
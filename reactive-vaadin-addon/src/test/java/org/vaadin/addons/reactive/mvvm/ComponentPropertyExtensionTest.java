@@ -14,6 +14,7 @@
 package org.vaadin.addons.reactive.mvvm;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -47,6 +48,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.vaadin.addons.reactive.ObservableProperty;
 import org.vaadin.addons.reactive.Property;
+import org.vaadin.addons.reactive.mvvm.property.ItemChanges;
+import org.vaadin.addons.reactive.mvvm.property.KeyedListDataProvider;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -691,6 +694,56 @@ public class ComponentPropertyExtensionTest implements ComponentPropertyExtensio
         Mockito.verify(component).setItems(values);
     }
 
+    @Test
+    @DisplayName("Test incremental items property")
+    public void testIncrementalItemsProperty()
+    {
+        final Grid<String> grid = new Grid<>();
+        final Property<Collection<String>> property = itemsOf(grid, String::length);
+
+        property.setValue(Arrays.asList("a", "bb", "ccc"));
+
+        assertTrue(grid.getDataProvider() instanceof KeyedListDataProvider);
+
+        final DataProvider<String, ?> dataProvider = grid.getDataProvider();
+
+        property.setValue(Arrays.asList("a", "dd", "ccc"));
+
+        assertEquals(dataProvider, grid.getDataProvider());
+        assertEquals(Arrays.asList("a", "dd", "ccc"),
+                new ArrayList<>(((KeyedListDataProvider<String>) dataProvider).getItems()));
+    }
+
+    @Test
+    @DisplayName("Test items and item changes properties of one component")
+    public void testItemsAndItemChangesProperties()
+    {
+        final Grid<String> grid = new Grid<>();
+        final Property<Collection<String>> itemsProperty = itemsOf(grid, String::length);
+        final Property<ItemChanges<String>> changesProperty = itemChangesOf(grid, String::length);
+
+        itemsProperty.setValue(Arrays.asList("a", "bb"));
+        changesProperty.setValue(ItemChanges.added(Collections.singletonList("ccc")));
+
+        assertEquals(Arrays.asList("a", "bb", "ccc"),
+                new ArrayList<>(((KeyedListDataProvider<String>) grid.getDataProvider()).getItems()));
+    }
+
+    @Test
+    @DisplayName("Test item changes property")
+    public void testItemChangesProperty()
+    {
+        final Grid<String> grid = new Grid<>();
+        final Property<ItemChanges<String>> property = itemChangesOf(grid, String::length);
+
+        property.setValue(ItemChanges.added(Arrays.asList("a", "bb")));
+        property.setValue(ItemChanges.removed(Collections.singletonList("a")));
+
+        assertTrue(grid.getDataProvider() instanceof KeyedListDataProvider);
+        assertEquals(Collections.singletonList("bb"),
+                new ArrayList<>(((KeyedListDataProvider<String>) grid.getDataProvider()).getItems()));
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     @DisplayName("Test items property")
@@ -708,6 +761,21 @@ public class ComponentPropertyExtensionTest implements ComponentPropertyExtensio
         Mockito.verify(component).setDataProvider(dataProvider);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("Test filter property")
+    public void testFilterProperty()
+    {
+        final ReactiveDataProvider<Integer, String> dataProvider = Mockito.mock(ReactiveDataProvider.class);
+        final Property<String> property = filterOf(dataProvider);
+
+        Mockito.verifyZeroInteractions(dataProvider);
+
+        property.setValue("filter");
+
+        Mockito.verify(dataProvider).setFilter("filter");
+    }
+
     private static class TestBean
     {
         private String property1;
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.mvvm;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import com.vaadin.data.provider.QuerySortOrder;
+import com.vaadin.shared.data.sort.SortDirection;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.PublishSubject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link PageCache}
+ *
+ * @author dohnal
+ */
+@DisplayName("Page cache specification")
+public class PageCacheTest
+{
+    private static PageCache.Key<String> key(final String filter, final int offset)
+    {
+        return new PageCache.Key<>(filter, Collections.emptyList(), offset, 2);
+    }
+
+    @Nested
+    @DisplayName("When new page cache is created")
+    class WhenCreate
+    {
+        private TestScheduler testScheduler;
+        private PageCache<Integer, String> cache;
+
+        @BeforeEach
+        void before()
+        {
+            testScheduler = new TestScheduler();
+            cache = new PageCache<>(2, 1, TimeUnit.MINUTES, testScheduler);
+        }
+
+        @Test
+        @DisplayName("Get should return null")
+        public void testGet()
+        {
+            assertNull(cache.get(key("a", 0)));
+        }
+
+        @Test
+        @DisplayName("Keys with same sort orders should be equal")
+        public void testKeyEquals()
+        {
+            assertEquals(
+                    new PageCache.Key<>("a", Collections.singletonList(
+                            new QuerySortOrder("name", SortDirection.ASCENDING)), 0, 2),
+                    new PageCache.Key<>("a", Collections.singletonList(
+                            new QuerySortOrder("name", SortDirection.ASCENDING)), 0, 2));
+        }
+
+        @Nested
+        @DisplayName("When pages are cached")
+        class WhenPut
+        {
+            @BeforeEach
+            void before()
+            {
+                cache.put(key("a", 0), Arrays.asList(0, 1));
+                cache.put(key("a", 2), Arrays.asList(2, 3));
+            }
+
+            @Test
+            @DisplayName("Get should return cached page")
+            public void testGet()
+            {
+                assertEquals(Arrays.asList(0, 1), cache.get(key("a", 0)));
+            }
+
+            @Test
+            @DisplayName("Statistics should contain hits and misses")
+            public void testStatistics()
+            {
+                cache.get(key("a", 0));
+                cache.get(key("b", 0));
+
+                assertEquals(1, cache.getStatistics().getHitCount());
+                assertEquals(1, cache.getStatistics().getMissCount());
+                assertEquals(0.5, cache.getStatistics().getHitRate());
+                assertEquals(2, cache.getStatistics().getSize());
+            }
+
+            @Test
+            @DisplayName("Least recently used page should be evicted when cache is full")
+            public void testEviction()
+            {
+                cache.get(key("a", 0));
+                cache.put(key("a", 4), Arrays.asList(4, 5));
+
+                assertTrue(cache.contains(key("a", 0)));
+                assertFalse(cache.contains(key("a", 2)));
+                assertTrue(cache.contains(key("a", 4)));
+                assertEquals(1, cache.getStatistics().getEvictionCount());
+            }
+
+            @Test
+            @DisplayName("Pages should expire after expiration time")
+            public void testExpiration()
+            {
+                testScheduler.advanceTimeBy(1, TimeUnit.MINUTES);
+
+                assertNull(cache.get(key("a", 0)));
+                assertEquals(1, cache.getStatistics().getEvictionCount());
+            }
+
+            @Test
+            @DisplayName("Invalidate should remove matching pages")
+            public void testInvalidate()
+            {
+                final TestObserver<Boolean> testObserver = cache.invalidated().test();
+
+                cache.invalidate(key -> key.contains(3));
+
+                assertTrue(cache.contains(key("a", 0)));
+                assertFalse(cache.contains(key("a", 2)));
+                testObserver.assertValueCount(1);
+            }
+
+            @Test
+            @DisplayName("Invalidate when should remove matching pages when observable emits")
+            public void testInvalidateWhen()
+            {
+                final PublishSubject<Integer> result = PublishSubject.create();
+
+                cache.invalidateWhen(result, (value, key) -> key.contains(value));
+
+                assertEquals(2, cache.size());
+
+                result.onNext(1);
+
+                assertFalse(cache.contains(key("a", 0)));
+                assertTrue(cache.contains(key("a", 2)));
+            }
+
+            @Test
+            @DisplayName("Invalidate all when should remove all pages when observable emits")
+            public void testInvalidateAllWhen()
+            {
+                final PublishSubject<Integer> result = PublishSubject.create();
+
+                cache.invalidateWhen(result);
+
+                result.onNext(1);
+
+                assertEquals(0, cache.size());
+            }
+        }
+    }
+}
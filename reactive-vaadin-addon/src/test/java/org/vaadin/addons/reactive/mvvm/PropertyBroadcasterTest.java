@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.mvvm;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+import com.vaadin.shared.communication.PushMode;
+import com.vaadin.ui.PushConfiguration;
+import com.vaadin.ui.UI;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.schedulers.TestScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.vaadin.addons.reactive.ReactiveProperty;
+import org.vaadin.addons.reactive.property.BehaviorProperty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link PropertyBroadcaster}
+ *
+ * @author dohnal
+ */
+@DisplayName("Property broadcaster specification")
+public class PropertyBroadcasterTest
+{
+    @Nested
+    @DisplayName("When new property broadcaster is created")
+    class WhenCreate
+    {
+        private ReactiveProperty<Integer> property;
+        private TestScheduler testScheduler;
+        private PropertyBroadcaster<Integer> broadcaster;
+
+        @BeforeEach
+        void before()
+        {
+            property = new BehaviorProperty<>();
+            testScheduler = new TestScheduler();
+            broadcaster = new PropertyBroadcaster<>(property, testScheduler);
+        }
+
+        @Nested
+        @DisplayName("When consumers of different UIs are subscribed")
+        class WhenSubscribe
+        {
+            private Queue<Runnable> slowAccesses;
+            private List<Integer> fastValues;
+            private List<Integer> slowValues;
+            private Disposable fastSubscription;
+
+            @BeforeEach
+            void before()
+            {
+                slowAccesses = new ArrayDeque<>();
+                fastValues = new ArrayList<>();
+                slowValues = new ArrayList<>();
+
+                fastSubscription = broadcaster.subscribe(createUI(Runnable::run), fastValues::add);
+                broadcaster.subscribe(createUI(slowAccesses::add), slowValues::add);
+            }
+
+            @Test
+            @DisplayName("Receiver count should be number of consumers")
+            public void testReceiverCount()
+            {
+                assertEquals(2, broadcaster.getReceiverCount());
+            }
+
+            @Test
+            @DisplayName("Value should be delivered to each UI on worker")
+            public void testDeliver()
+            {
+                property.setValue(1);
+
+                assertTrue(fastValues.isEmpty());
+
+                testScheduler.triggerActions();
+                slowAccesses.forEach(Runnable::run);
+
+                assertEquals(Collections.singletonList(1), fastValues);
+                assertEquals(Collections.singletonList(1), slowValues);
+                assertEquals(2, broadcaster.getDeliveredCount());
+            }
+
+            @Test
+            @DisplayName("Slow UI should skip to the latest value")
+            public void testSlowUI()
+            {
+                property.setValue(1);
+                testScheduler.triggerActions();
+
+                property.setValue(2);
+                testScheduler.triggerActions();
+
+                property.setValue(3);
+                testScheduler.triggerActions();
+
+                assertEquals(1, slowAccesses.size());
+
+                slowAccesses.poll().run();
+
+                assertEquals(Arrays.asList(1, 2, 3), fastValues);
+                assertEquals(Collections.singletonList(3), slowValues);
+                assertEquals(2, broadcaster.getSkippedCount());
+            }
+
+            @Test
+            @DisplayName("Unsubscribed consumer should not receive values")
+            public void testUnsubscribe()
+            {
+                fastSubscription.dispose();
+
+                property.setValue(1);
+                testScheduler.triggerActions();
+
+                assertTrue(fastValues.isEmpty());
+                assertEquals(1, broadcaster.getReceiverCount());
+            }
+
+            @Test
+            @DisplayName("New consumer should receive current value")
+            public void testCurrentValue()
+            {
+                final List<Integer> values = new ArrayList<>();
+
+                property.setValue(1);
+                broadcaster.subscribe(createUI(Runnable::run), values::add);
+                testScheduler.triggerActions();
+
+                assertEquals(Collections.singletonList(1), values);
+            }
+
+            @Test
+            @DisplayName("Disposed broadcaster should not deliver values")
+            public void testDispose()
+            {
+                broadcaster.dispose();
+
+                property.setValue(1);
+                testScheduler.triggerActions();
+
+                assertTrue(fastValues.isEmpty());
+                assertEquals(0, broadcaster.getReceiverCount());
+            }
+        }
+
+        @Nonnull
+        private UI createUI(final @Nonnull Consumer<Runnable> access)
+        {
+            final UI ui = Mockito.mock(UI.class);
+            final PushConfiguration pushConfiguration = Mockito.mock(PushConfiguration.class);
+
+            Mockito.when(ui.isAttached()).thenReturn(true);
+            Mockito.when(ui.getPushConfiguration()).thenReturn(pushConfiguration);
+            Mockito.when(pushConfiguration.getPushMode()).thenReturn(PushMode.DISABLED);
+            Mockito.doAnswer(invocation -> {
+                access.accept(invocation.getArgument(0));
+
+                return null;
+            }).when(ui).access(Mockito.any(Runnable.class));
+
+            return ui;
+        }
+    }
+}
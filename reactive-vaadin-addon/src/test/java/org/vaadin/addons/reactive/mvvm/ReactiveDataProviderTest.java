@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.mvvm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.vaadin.data.provider.Query;
+import com.vaadin.data.provider.QuerySortOrder;
+import com.vaadin.shared.data.sort.SortDirection;
+import com.vaadin.ui.UI;
+import io.reactivex.schedulers.Schedulers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.vaadin.addons.reactive.ReactiveCommand;
+import org.vaadin.addons.reactive.ReactiveCommandExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ReactiveDataProvider}
+ *
+ * @author dohnal
+ */
+@DisplayName("Reactive data provider specification")
+public class ReactiveDataProviderTest implements ReactiveCommandExtension
+{
+    @Nested
+    @DisplayName("When new reactive data provider is created")
+    class WhenCreate
+    {
+        private List<Query<Integer, Integer>> queries;
+        private ReactiveDataProvider<Integer, Integer> dataProvider;
+
+        @BeforeEach
+        void before()
+        {
+            queries = new ArrayList<>();
+
+            UI.setCurrent(null);
+
+            dataProvider = new ReactiveDataProvider<>(
+                    createCommandFromFunction(query -> {
+                        queries.add(query);
+
+                        return items(query.getFilter().orElse(0)).stream()
+                                .skip(query.getOffset())
+                                .limit(query.getLimit())
+                                .collect(Collectors.toList());
+                    }),
+                    createCommandFromFunction(query -> items(query.getFilter().orElse(0)).size()),
+                    10, 3, 1, Schedulers.trampoline());
+        }
+
+        private List<Integer> items(final int from)
+        {
+            return IntStream.range(from, 25).boxed().collect(Collectors.toList());
+        }
+
+        @Test
+        @DisplayName("Size should be number of items")
+        public void testSize()
+        {
+            assertEquals(25, dataProvider.size(new Query<>()));
+        }
+
+        @Test
+        @DisplayName("Fetch should return requested range")
+        public void testFetch()
+        {
+            assertEquals(Arrays.asList(8, 9, 10, 11),
+                    dataProvider.fetch(new Query<>(8, 4, Collections.emptyList(), null, null))
+                            .collect(Collectors.toList()));
+        }
+
+        @Test
+        @DisplayName("Fetch should return all remaining items for unlimited query")
+        public void testFetchUnlimited()
+        {
+            assertEquals(items(5), dataProvider.fetch(new Query<>(5, Integer.MAX_VALUE,
+                    Collections.emptyList(), null, null)).collect(Collectors.toList()));
+        }
+
+        @Nested
+        @DisplayName("When range is fetched")
+        class WhenFetch
+        {
+            @BeforeEach
+            void before()
+            {
+                dataProvider.fetch(new Query<>(8, 4, Collections.emptyList(), null, null))
+                        .collect(Collectors.toList());
+            }
+
+            @Test
+            @DisplayName("Requested pages and next page should be queried")
+            public void testQueries()
+            {
+                assertEquals(Arrays.asList(0, 10, 20), queries.stream()
+                        .map(Query::getOffset)
+                        .collect(Collectors.toList()));
+            }
+
+            @Test
+            @DisplayName("Cached pages should not be queried again")
+            public void testCachedPages()
+            {
+                dataProvider.fetch(new Query<>(0, 20, Collections.emptyList(), null, null))
+                        .collect(Collectors.toList());
+
+                assertEquals(3, queries.size());
+            }
+
+            @Test
+            @DisplayName("Cached pages should not be queried again after refresh")
+            public void testRefreshAll()
+            {
+                dataProvider.refreshAll();
+                dataProvider.fetch(new Query<>(0, 5, Collections.emptyList(), null, null))
+                        .collect(Collectors.toList());
+
+                assertEquals(3, queries.size());
+            }
+
+            @Test
+            @DisplayName("Pages should be queried again after cache is invalidated")
+            public void testInvalidateAll()
+            {
+                dataProvider.getPageCache().invalidateAll();
+                dataProvider.fetch(new Query<>(0, 5, Collections.emptyList(), null, null))
+                        .collect(Collectors.toList());
+
+                assertEquals(5, queries.size());
+            }
+
+            @Test
+            @DisplayName("Each requested page should be counted once in statistics")
+            public void testStatistics()
+            {
+                assertEquals(0, dataProvider.getPageCache().getStatistics().getHitCount());
+                assertEquals(2, dataProvider.getPageCache().getStatistics().getMissCount());
+
+                dataProvider.fetch(new Query<>(20, 5, Collections.emptyList(), null, null))
+                        .collect(Collectors.toList());
+
+                assertEquals(1, dataProvider.getPageCache().getStatistics().getHitCount());
+                assertEquals(2, dataProvider.getPageCache().getStatistics().getMissCount());
+            }
+
+            @Test
+            @DisplayName("Pages should be queried again when sort orders change")
+            public void testSortOrders()
+            {
+                dataProvider.fetch(new Query<>(0, 5,
+                        Collections.singletonList(new QuerySortOrder("value", SortDirection.DESCENDING)), null, null))
+                        .collect(Collectors.toList());
+
+                assertEquals(5, queries.size());
+            }
+
+            @Test
+            @DisplayName("Least recently used page should be evicted")
+            public void testEviction()
+            {
+                dataProvider.fetch(new Query<>(0, 5, Collections.emptyList(), null, 1))
+                        .collect(Collectors.toList());
+                dataProvider.fetch(new Query<>(8, 4, Collections.emptyList(), null, null))
+                        .collect(Collectors.toList());
+
+                assertEquals(8, queries.size());
+            }
+
+            @Nested
+            @DisplayName("When filter is set")
+            class WhenSetFilter
+            {
+                @BeforeEach
+                void before()
+                {
+                    dataProvider.setFilter(20);
+                }
+
+                @Test
+                @DisplayName("Fetch should return filtered items")
+                public void testFetch()
+                {
+                    assertEquals(Arrays.asList(20, 21, 22, 23, 24),
+                            dataProvider.fetch(new Query<>(0, 10, Collections.emptyList(), null, null))
+                                    .collect(Collectors.toList()));
+                }
+
+                @Test
+                @DisplayName("Size should be number of filtered items")
+                public void testSize()
+                {
+                    assertEquals(5, dataProvider.size(new Query<>()));
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("When new reactive data provider is created in UI")
+    class WhenCreateInUI
+    {
+        private UI ui;
+        private List<Runnable> accessQueue;
+        private ReactiveDataProvider<Integer, Integer> dataProvider;
+        private AtomicInteger refreshCount;
+
+        @BeforeEach
+        void before()
+        {
+            ui = Mockito.mock(UI.class);
+            accessQueue = new ArrayList<>();
+            refreshCount = new AtomicInteger(0);
+
+            Mockito.doAnswer(invocation -> {
+                accessQueue.add(invocation.getArgument(0));
+
+                return null;
+            }).when(ui).access(Mockito.any(Runnable.class));
+
+            UI.setCurrent(ui);
+
+            dataProvider = new ReactiveDataProvider<>(
+                    createCommandFromFunction(query -> Collections.<Integer>emptyList()),
+                    createCommandFromFunction(query -> 0),
+                    10, 3, 1, Schedulers.trampoline());
+            dataProvider.addDataProviderListener(event -> refreshCount.incrementAndGet());
+        }
+
+        @AfterEach
+        void after()
+        {
+            UI.setCurrent(null);
+        }
+
+        @Test
+        @DisplayName("Items should be refreshed in access of UI after cache is invalidated")
+        public void testInvalidate()
+        {
+            dataProvider.getPageCache().invalidateAll();
+
+            assertEquals(0, refreshCount.get());
+
+            accessQueue.forEach(Runnable::run);
+
+            assertEquals(1, refreshCount.get());
+        }
+
+        @Test
+        @DisplayName("Items should not be refreshed after data provider is disposed")
+        public void testDispose()
+        {
+            dataProvider.dispose();
+            dataProvider.getPageCache().invalidateAll();
+
+            assertTrue(dataProvider.isDisposed());
+            assertTrue(accessQueue.isEmpty());
+            assertEquals(0, refreshCount.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("When fetch command of new reactive data provider fails")
+    class WhenCreateWithFailingCommand
+    {
+        private List<Query<Integer, Integer>> queries;
+        private ReactiveCommand<Query<Integer, Integer>, List<Integer>> fetchCommand;
+        private ReactiveDataProvider<Integer, Integer> dataProvider;
+
+        @BeforeEach
+        void before()
+        {
+            queries = new ArrayList<>();
+
+            UI.setCurrent(null);
+
+            fetchCommand = createCommandFromFunction(query -> {
+                queries.add(query);
+
+                throw new IllegalStateException("Fetch failed");
+            });
+
+            dataProvider = new ReactiveDataProvider<>(fetchCommand, createCommandFromFunction(query -> 25),
+                    10, 3, 0, Schedulers.trampoline());
+        }
+
+        @Test
+        @DisplayName("Fetch should fail if error is not observed")
+        public void testError()
+        {
+            final Query<Integer, Integer> query = new Query<>(0, 5, Collections.emptyList(), null, null);
+
+            assertThrows(IllegalStateException.class, () -> dataProvider.fetch(query));
+        }
+
+        @Test
+        @DisplayName("Fetch should return no items if error is observed")
+        public void testObservedError()
+        {
+            fetchCommand.getError().test();
+
+            assertEquals(Collections.emptyList(),
+                    dataProvider.fetch(new Query<>(0, 5, Collections.emptyList(), null, null))
+                            .collect(Collectors.toList()));
+        }
+
+        @Test
+        @DisplayName("Failed page should not be cached")
+        public void testNotCached()
+        {
+            fetchCommand.getError().test();
+
+            dataProvider.fetch(new Query<>(0, 5, Collections.emptyList(), null, null))
+                    .collect(Collectors.toList());
+            dataProvider.fetch(new Query<>(0, 5, Collections.emptyList(), null, null))
+                    .collect(Collectors.toList());
+
+            assertEquals(2, queries.size());
+            assertEquals(0, dataProvider.getPageCache().size());
+        }
+    }
+}
@@ -13,17 +13,48 @@
 
 package org.vaadin.addons.reactive.mvvm;
 
+import javax.annotation.Nonnull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.vaadin.server.VaadinSession;
+import io.reactivex.Scheduler;
 import io.reactivex.disposables.Disposable;
 import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.schedulers.TestScheduler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
 import org.vaadin.addons.reactive.ReactiveCommand;
 import org.vaadin.addons.reactive.ReactiveProperty;
+import org.vaadin.addons.reactive.command.AbstractCommand;
+import org.vaadin.addons.reactive.command.BoundedScheduler;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -49,6 +80,90 @@ public class ReactiveViewModelTest
         }
     }
 
+    private enum TestState
+    {
+        NEW,
+        SAVED
+    }
+
+    private static class StateViewModel extends ReactiveViewModel
+    {
+        private int counter;
+
+        @Override
+        protected void writeSnapshotState(final @Nonnull DataOutput output) throws IOException
+        {
+            output.writeInt(counter);
+        }
+
+        @Override
+        protected void readSnapshotState(final @Nonnull DataInput input) throws IOException
+        {
+            counter = input.readInt();
+        }
+    }
+
+    private static class SnapshotValue implements Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final String value;
+
+        SnapshotValue(final @Nonnull String value)
+        {
+            this.value = value;
+        }
+    }
+
+    private static class ValueViewModel extends ReactiveViewModel
+    {
+        private final ReactiveProperty<List<String>> names;
+
+        private final ReactiveProperty<SnapshotValue> value;
+
+        public ValueViewModel()
+        {
+            this.names = createProperty();
+            this.value = createProperty();
+        }
+    }
+
+    private static class AllowedValueViewModel extends ValueViewModel
+    {
+        @Override
+        protected boolean isSnapshotType(final @Nonnull Class<?> type)
+        {
+            return SnapshotValue.class.equals(type);
+        }
+    }
+
+    private static class SnapshotViewModel extends ReactiveViewModel
+    {
+        private final ReactiveProperty<String> name;
+
+        private final ReactiveProperty<Integer> count;
+
+        private final ReactiveProperty<TestState> state;
+
+        private final ReactiveProperty<Double> empty;
+
+        private final ReactiveProperty<Integer> doubleCount;
+
+        private final ReactiveCommand<Void, Integer> command;
+
+        public SnapshotViewModel()
+        {
+            this.name = createProperty();
+            this.count = createProperty(0);
+            this.state = createProperty(TestState.NEW);
+            this.empty = createProperty();
+            this.doubleCount = createPropertyFrom(count, value -> value * 2);
+            this.command = createCommandFromSupplier(() -> count.getValue() + 1);
+
+            when(command.getResult()).then(count::setValue);
+        }
+    }
+
     @Nested
     @DisplayName("When new reactive view model is created")
     class WhenCreate
@@ -89,6 +204,21 @@ public class ReactiveViewModelTest
             viewModel.deactivated().test().assertNoValues();
         }
 
+        @Test
+        @DisplayName("Memory footprint should count properties, commands and items of collection properties")
+        public void testMemoryFootprint()
+        {
+            viewModel.createProperty(Arrays.asList(1, 2, 3));
+            viewModel.createProperty(new int[] {1, 2});
+
+            final MemoryFootprint footprint = viewModel.getMemoryFootprint();
+
+            assertEquals(3, footprint.getPropertyCount());
+            assertEquals(1, footprint.getCommandCount());
+            assertEquals(5, footprint.getItemCount());
+            assertEquals(0, footprint.getComponentCount());
+        }
+
         @Nested
         @DisplayName("When view model property is changed")
         class WhenChangeProperty
@@ -429,4 +559,422 @@ public class ReactiveViewModelTest
             }
         }
     }
+
+    @Nested
+    @DisplayName("When new reactive view model with scheduler policy is created")
+    class WhenCreateWithSchedulerPolicy
+    {
+        @Test
+        @DisplayName("Default scheduler should be trampoline for inline policy")
+        public void testInline()
+        {
+            assertSame(Schedulers.trampoline(), new ReactiveViewModel().getDefaultScheduler());
+        }
+
+        @Test
+        @DisplayName("Default scheduler should be shared for shared pool policy")
+        public void testSharedPool()
+        {
+            assertSame(new ReactiveViewModel(SchedulerPolicy.sharedPool()).getDefaultScheduler(),
+                    new ReactiveViewModel(SchedulerPolicy.sharedPool()).getDefaultScheduler());
+        }
+
+        @Test
+        @DisplayName("Tasks should be scheduled on scheduler of current session for per-session policy")
+        public void testPerSession()
+        {
+            final VaadinSession session = mockSession();
+
+            // View model can be created outside of request, session is resolved when task is scheduled
+            final Scheduler scheduler = new ReactiveViewModel(SchedulerPolicy.perSession()).getDefaultScheduler();
+
+            assertNull(SchedulerPolicy.getSessionScheduler(session));
+
+            VaadinSession.setCurrent(session);
+
+            try
+            {
+                scheduler.scheduleDirect(() -> {});
+
+                final BoundedScheduler sessionScheduler = SchedulerPolicy.getSessionScheduler(session);
+
+                assertNotNull(sessionScheduler);
+                assertEquals(SchedulerPolicy.DEFAULT_SESSION_QUEUE_DEPTH, sessionScheduler.getMaxQueueDepth());
+                Mockito.verify(session, Mockito.atLeastOnce()).lock();
+                Mockito.verify(session, Mockito.atLeastOnce()).unlock();
+            }
+            finally
+            {
+                VaadinSession.setCurrent(null);
+            }
+        }
+
+        @Test
+        @DisplayName("Tasks should be rejected without current session for per-session policy")
+        public void testPerSessionWithoutSession()
+        {
+            final Scheduler scheduler = new ReactiveViewModel(SchedulerPolicy.perSession()).getDefaultScheduler();
+
+            assertThrows(RejectedExecutionException.class, () -> scheduler.scheduleDirect(() -> {}));
+        }
+
+        @Test
+        @DisplayName("Scheduler of current session should be shared by view models with per-session policy")
+        public void testPerSessionShared()
+        {
+            final VaadinSession session = mockSession();
+
+            VaadinSession.setCurrent(session);
+
+            try
+            {
+                new ReactiveViewModel(SchedulerPolicy.perSession()).getDefaultScheduler().scheduleDirect(() -> {});
+
+                final BoundedScheduler sessionScheduler = SchedulerPolicy.getSessionScheduler(session);
+
+                new ReactiveViewModel(SchedulerPolicy.perSession()).getDefaultScheduler().scheduleDirect(() -> {});
+
+                assertSame(sessionScheduler, SchedulerPolicy.getSessionScheduler(session));
+            }
+            finally
+            {
+                VaadinSession.setCurrent(null);
+            }
+        }
+
+        @Test
+        @DisplayName("Tasks should fail if scheduler of current session has different settings")
+        public void testPerSessionConflict()
+        {
+            final VaadinSession session = mockSession();
+
+            VaadinSession.setCurrent(session);
+
+            try
+            {
+                new ReactiveViewModel(SchedulerPolicy.perSession()).getDefaultScheduler().scheduleDirect(() -> {});
+
+                final Scheduler scheduler = new ReactiveViewModel(SchedulerPolicy.perSession(5,
+                        BoundedScheduler.OverflowPolicy.DROP)).getDefaultScheduler();
+
+                assertThrows(IllegalStateException.class, () -> scheduler.scheduleDirect(() -> {}));
+            }
+            finally
+            {
+                VaadinSession.setCurrent(null);
+            }
+        }
+
+        @Test
+        @DisplayName("Scheduler of session should be stored as serializable attribute")
+        public void testPerSessionSerializable() throws Exception
+        {
+            final VaadinSession session = mockSession();
+
+            VaadinSession.setCurrent(session);
+
+            try
+            {
+                new ReactiveViewModel(SchedulerPolicy.perSession(5, BoundedScheduler.OverflowPolicy.DROP))
+                        .getDefaultScheduler()
+                        .scheduleDirect(() -> {});
+            }
+            finally
+            {
+                VaadinSession.setCurrent(null);
+            }
+
+            final ArgumentCaptor<Object> attribute = ArgumentCaptor.forClass(Object.class);
+
+            Mockito.verify(session).setAttribute(Mockito.anyString(), attribute.capture());
+
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+            try (final ObjectOutputStream objectOutput = new ObjectOutputStream(output))
+            {
+                objectOutput.writeObject(attribute.getValue());
+            }
+
+            try (final ObjectInputStream input = new ObjectInputStream(
+                    new ByteArrayInputStream(output.toByteArray())))
+            {
+                final Object deserialized = input.readObject();
+                final VaadinSession restoredSession = mockSession();
+
+                restoredSession.setAttribute(deserialized.getClass().getName(), deserialized);
+
+                final BoundedScheduler scheduler = SchedulerPolicy.getSessionScheduler(restoredSession);
+
+                assertEquals(5, scheduler.getMaxQueueDepth());
+                assertEquals(BoundedScheduler.OverflowPolicy.DROP, scheduler.getOverflowPolicy());
+            }
+        }
+
+        @Nonnull
+        private VaadinSession mockSession()
+        {
+            final VaadinSession session = Mockito.mock(VaadinSession.class);
+            final Map<String, Object> attributes = new HashMap<>();
+
+            Mockito.doAnswer(invocation -> attributes.put(invocation.getArgument(0), invocation.getArgument(1)))
+                    .when(session).setAttribute(Mockito.anyString(), Mockito.any());
+            Mockito.doAnswer(invocation -> {
+                session.setAttribute(((Class<?>) invocation.getArgument(0)).getName(), invocation.getArgument(1));
+
+                return null;
+            }).when(session).setAttribute(Mockito.any(Class.class), Mockito.any());
+            Mockito.when(session.getAttribute(Mockito.any(Class.class))).thenAnswer(invocation ->
+                    attributes.get(((Class<?>) invocation.getArgument(0)).getName()));
+
+            return session;
+        }
+
+        @Test
+        @DisplayName("Command should be executed on default scheduler")
+        public void testCommand()
+        {
+            final TestScheduler testScheduler = new TestScheduler();
+            final ReactiveViewModel viewModel = new ReactiveViewModel(SchedulerPolicy.sharedPool())
+            {
+                @Nonnull
+                @Override
+                public Scheduler getDefaultScheduler()
+                {
+                    return testScheduler;
+                }
+            };
+
+            final TestObserver<Integer> testObserver = viewModel.createCommandFromSupplier(() -> 1).execute().test();
+
+            testObserver.assertNoValues();
+
+            testScheduler.triggerActions();
+
+            testObserver.assertResult(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("When snapshot of view model is taken")
+    class WhenSnapshot
+    {
+        private byte[] snapshot;
+
+        @BeforeEach
+        void before()
+        {
+            final SnapshotViewModel viewModel = new SnapshotViewModel();
+
+            viewModel.name.setValue("Name");
+            viewModel.count.setValue(5);
+            viewModel.state.setValue(TestState.SAVED);
+
+            snapshot = viewModel.snapshot();
+        }
+
+        @Test
+        @DisplayName("Values should be restored into new view model")
+        public void testRestore()
+        {
+            final SnapshotViewModel viewModel = new SnapshotViewModel();
+
+            viewModel.restore(snapshot);
+
+            assertEquals("Name", viewModel.name.getValue());
+            assertEquals(Integer.valueOf(5), viewModel.count.getValue());
+            assertEquals(TestState.SAVED, viewModel.state.getValue());
+            assertFalse(viewModel.empty.hasValue());
+            assertEquals(Integer.valueOf(10), viewModel.doubleCount.getValue());
+        }
+
+        @Test
+        @DisplayName("Activation of view model should not be restored")
+        public void testActivation()
+        {
+            final SnapshotViewModel viewModel = new SnapshotViewModel();
+            final TestObserver<Boolean> testObserver = viewModel.activated().test();
+
+            viewModel.restore(snapshot);
+
+            testObserver.assertNoValues();
+        }
+
+        @Test
+        @DisplayName("Snapshot should not be restored into view model of different class")
+        public void testDifferentClass()
+        {
+            assertThrows(IllegalArgumentException.class, () -> new TestViewModel().restore(snapshot));
+        }
+
+        @Test
+        @DisplayName("Serialized values of JDK types should be restored")
+        public void testJdkTypes()
+        {
+            final ValueViewModel viewModel = new ValueViewModel();
+
+            viewModel.names.setValue(new ArrayList<>(Arrays.asList("First", "Second")));
+
+            final ValueViewModel restored = new ValueViewModel();
+
+            restored.restore(viewModel.snapshot());
+
+            assertEquals(Arrays.asList("First", "Second"), restored.names.getValue());
+        }
+
+        @Test
+        @DisplayName("Serialized values of types which are not allowed should not be restored")
+        public void testNotAllowedType()
+        {
+            final ValueViewModel viewModel = new ValueViewModel();
+
+            viewModel.value.setValue(new SnapshotValue("Value"));
+
+            final byte[] valueSnapshot = viewModel.snapshot();
+
+            assertThrows(UncheckedIOException.class, () -> new ValueViewModel().restore(valueSnapshot));
+        }
+
+        @Test
+        @DisplayName("Serialized values of types allowed by view model should be restored")
+        public void testAllowedType()
+        {
+            final ValueViewModel viewModel = new AllowedValueViewModel();
+
+            viewModel.value.setValue(new SnapshotValue("Value"));
+
+            final ValueViewModel restored = new AllowedValueViewModel();
+
+            restored.restore(viewModel.snapshot());
+
+            assertEquals("Value", restored.value.getValue().value);
+        }
+
+        @Test
+        @DisplayName("Snapshot with corrupted length of value should not be restored")
+        public void testCorruptedLength()
+        {
+            final SnapshotViewModel viewModel = new SnapshotViewModel();
+            final int lengthOffset = 1 + 2 + SnapshotViewModel.class.getName().length() + 4 + 1;
+
+            ByteBuffer.wrap(snapshot).putInt(lengthOffset, Integer.MAX_VALUE);
+
+            assertThrows(IllegalArgumentException.class, () -> viewModel.restore(snapshot));
+
+            ByteBuffer.wrap(snapshot).putInt(lengthOffset, -1);
+
+            assertThrows(IllegalArgumentException.class, () -> viewModel.restore(snapshot));
+        }
+
+        @Test
+        @DisplayName("Value which is not serializable should not be written")
+        public void testNotSerializable()
+        {
+            final ReactiveViewModel viewModel = new ReactiveViewModel();
+
+            viewModel.createProperty(new Object());
+
+            assertThrows(IllegalArgumentException.class, viewModel::snapshot);
+        }
+    }
+
+    @Nested
+    @DisplayName("When view model is serialized")
+    class WhenSerialize
+    {
+        private byte[] bytes;
+
+        @BeforeEach
+        void before() throws Exception
+        {
+            final SnapshotViewModel viewModel = new SnapshotViewModel();
+
+            viewModel.name.setValue("Name");
+            viewModel.activate();
+            viewModel.command.execute().test();
+
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+            try (final ObjectOutputStream objectOutput = new ObjectOutputStream(output))
+            {
+                objectOutput.writeObject(viewModel);
+            }
+
+            bytes = output.toByteArray();
+        }
+
+        @Test
+        @DisplayName("Serialized form should contain only state of view model")
+        public void testSize()
+        {
+            assertTrue(bytes.length < 512);
+        }
+
+        @Test
+        @DisplayName("Deserialized view model should have same state")
+        public void testState() throws Exception
+        {
+            final SnapshotViewModel viewModel = deserialize();
+
+            assertEquals("Name", viewModel.name.getValue());
+            assertEquals(Integer.valueOf(1), viewModel.count.getValue());
+            assertEquals(Integer.valueOf(2), viewModel.doubleCount.getValue());
+            assertEquals(1, ((AbstractCommand<?, ?>) viewModel.command).getCurrentExecutionCount());
+        }
+
+        @Test
+        @DisplayName("Bindings of deserialized view model should be created again")
+        public void testBindings() throws Exception
+        {
+            final SnapshotViewModel viewModel = deserialize();
+
+            viewModel.activate();
+            viewModel.command.execute().test();
+
+            assertEquals(Integer.valueOf(2), viewModel.count.getValue());
+            assertEquals(Integer.valueOf(4), viewModel.doubleCount.getValue());
+        }
+
+        @Test
+        @DisplayName("Additional state written by view model should be restored")
+        public void testAdditionalState() throws Exception
+        {
+            final StateViewModel viewModel = new StateViewModel();
+
+            viewModel.counter = 7;
+
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+            try (final ObjectOutputStream objectOutput = new ObjectOutputStream(output))
+            {
+                objectOutput.writeObject(viewModel);
+            }
+
+            try (final ObjectInputStream input = new ObjectInputStream(
+                    new ByteArrayInputStream(output.toByteArray())))
+            {
+                assertEquals(7, ((StateViewModel) input.readObject()).counter);
+            }
+        }
+
+        @Test
+        @DisplayName("View model without constructor without parameters should not be serialized")
+        public void testWithoutConstructor()
+        {
+            final ReactiveViewModel viewModel = new ReactiveViewModel()
+            {
+            };
+
+            assertThrows(NotSerializableException.class, () ->
+                    new ObjectOutputStream(new ByteArrayOutputStream()).writeObject(viewModel));
+        }
+
+        @Nonnull
+        private SnapshotViewModel deserialize() throws Exception
+        {
+            try (final ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes)))
+            {
+                return (SnapshotViewModel) input.readObject();
+            }
+        }
+    }
 }
@@ -14,16 +14,41 @@
 package org.vaadin.addons.reactive.mvvm;
 
 import javax.annotation.Nonnull;
-
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.vaadin.server.ClientConnector;
+import com.vaadin.server.VaadinRequest;
 import com.vaadin.server.VaadinSession;
 import com.vaadin.shared.communication.PushMode;
 import com.vaadin.ui.Button;
+import com.vaadin.ui.Component;
 import com.vaadin.ui.ConnectorTracker;
 import com.vaadin.ui.Label;
 import com.vaadin.ui.PushConfiguration;
+import com.vaadin.ui.TabSheet;
 import com.vaadin.ui.TextField;
 import com.vaadin.ui.UI;
 import com.vaadin.ui.VerticalLayout;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.PublishSubject;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -31,8 +56,12 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.vaadin.addons.reactive.ReactiveCommand;
 import org.vaadin.addons.reactive.ReactiveProperty;
+import org.vaadin.addons.reactive.activable.LeakDetection;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Tests for {@link ReactiveView}
@@ -61,6 +90,7 @@ public class ReactiveViewTest
         private final TextField field;
         private final Label label;
         private final Button button;
+        private TestViewModel viewModel;
 
         public TestView()
         {
@@ -72,6 +102,8 @@ public class ReactiveViewTest
         @Override
         protected void initView(final @Nonnull TestViewModel viewModel)
         {
+            this.viewModel = viewModel;
+
             bind(valueOf(field)).to(viewModel.property);
             bind(valueOf(label)).to(viewModel.command.getResult());
             when(clickedOn(button)).then(execute(viewModel.command));
@@ -80,6 +112,108 @@ public class ReactiveViewTest
         }
     }
 
+    private static class TestTabView extends ReactiveView<TestViewModel>
+    {
+        private final TabSheet tabSheet;
+        private final Label firstLabel;
+        private final Label secondLabel;
+        private final PublishSubject<String> subject;
+
+        public TestTabView()
+        {
+            tabSheet = new TabSheet();
+            firstLabel = new Label();
+            secondLabel = new Label();
+            subject = PublishSubject.create();
+        }
+
+        @Override
+        protected void initView(final @Nonnull TestViewModel viewModel)
+        {
+            tabSheet.addTab(firstLabel);
+            tabSheet.addTab(secondLabel);
+
+            whileSelected(tabSheet, secondLabel).bind(valueOf(secondLabel)).to(subject);
+
+            setCompositionRoot(tabSheet);
+        }
+    }
+
+    private static class TestDeferredView extends ReactiveView<TestViewModel>
+    {
+        private final Label label;
+        private final List<Label> deferredLabels;
+        private final PublishSubject<String> subject;
+
+        public TestDeferredView()
+        {
+            super(2);
+
+            label = new Label();
+            deferredLabels = new ArrayList<>();
+            subject = PublishSubject.create();
+        }
+
+        @Override
+        protected void initView(final @Nonnull TestViewModel viewModel)
+        {
+            bind(valueOf(label)).to(subject);
+
+            for (int i = 0; i < 3; i++)
+            {
+                final Label deferredLabel = new Label();
+
+                deferredLabels.add(deferredLabel);
+                deferred().bind(valueOf(deferredLabel)).to(subject);
+            }
+
+            setCompositionRoot(label);
+        }
+    }
+
+    private static class TestSession extends VaadinSession
+    {
+        private final ReentrantLock lock;
+
+        private int connectorCount;
+
+        public TestSession()
+        {
+            super(null);
+
+            lock = new ReentrantLock();
+        }
+
+        @Override
+        public Lock getLockInstance()
+        {
+            return lock;
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public String createConnectorId(final @Nonnull ClientConnector connector)
+        {
+            return String.valueOf(++connectorCount);
+        }
+
+        @Override
+        public Future<Void> access(final @Nonnull Runnable runnable)
+        {
+            runnable.run();
+
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private static class TestUI extends UI
+    {
+        @Override
+        protected void init(final @Nonnull VaadinRequest request)
+        {
+        }
+    }
+
     @Nested
     @DisplayName("When new reactive view model is created")
     class WhenCreate
@@ -95,6 +229,7 @@ public class ReactiveViewTest
             final PushConfiguration pushConfiguration = Mockito.mock(PushConfiguration.class);
 
             Mockito.when(session.hasLock()).thenReturn(true);
+            Mockito.when(session.getState()).thenReturn(VaadinSession.State.OPEN);
             Mockito.when(ui.getSession()).thenReturn(session);
             Mockito.when(ui.getConnectorTracker()).thenReturn(Mockito.mock(ConnectorTracker.class));
             Mockito.when(ui.isAttached()).thenReturn(true);
@@ -504,6 +639,124 @@ public class ReactiveViewTest
                     assertEquals("", view.label.getValue());
                 }
 
+                @Test
+                @DisplayName("Memory footprint should count bindings, components and view model")
+                public void testMemoryFootprint()
+                {
+                    final MemoryFootprint footprint = view.getMemoryFootprint();
+
+                    assertEquals(1, footprint.getPropertyCount());
+                    assertEquals(1, footprint.getCommandCount());
+                    assertEquals(4, footprint.getActivableCount());
+                    assertEquals(4, footprint.getSubscriptionCount());
+                    assertEquals(4, footprint.getComponentCount());
+                    assertTrue(footprint.getListenerCount() >= 2);
+                    assertTrue(footprint.getScore() > 0);
+                }
+
+                @Test
+                @DisplayName("Session summary should contain footprint of view")
+                public void testSessionSummary()
+                {
+                    final UI ui = UI.getCurrent();
+
+                    Mockito.when(ui.getSession().getUIs()).thenReturn(Collections.singletonList(ui));
+                    Mockito.when(ui.iterator()).thenReturn(Collections.<Component>singletonList(view).iterator());
+
+                    final Map<String, MemoryFootprint> summary = MemoryDiagnostics.getSessionSummary(ui.getSession());
+
+                    assertEquals(Collections.singleton(TestView.class.getName()), summary.keySet());
+                    assertEquals(view.getMemoryFootprint().getScore(),
+                            summary.get(TestView.class.getName()).getScore());
+                }
+
+                @Test
+                @DisplayName("Session summary should count shared view model once")
+                public void testSessionSummarySharedViewModel()
+                {
+                    final UI ui = UI.getCurrent();
+                    final TestView sharingView = new TestView();
+
+                    sharingView.withViewModel(viewModel);
+
+                    Mockito.when(ui.getSession().getUIs()).thenReturn(Collections.singletonList(ui));
+                    Mockito.when(ui.iterator()).thenReturn(Arrays.<Component>asList(view, sharingView).iterator());
+
+                    final MemoryFootprint footprint = MemoryDiagnostics.getSessionSummary(ui.getSession())
+                            .get(TestView.class.getName());
+
+                    assertEquals(1, footprint.getPropertyCount());
+                    assertEquals(1, footprint.getCommandCount());
+                    assertEquals(8, footprint.getComponentCount());
+                }
+
+                @Nested
+                @DisplayName("When leak detection is enabled")
+                class WhenEnableLeakDetection
+                {
+                    @BeforeEach
+                    void before()
+                    {
+                        LeakDetection.setEnabled(true);
+
+                        view.detach();
+                        view.attach();
+                    }
+
+                    @AfterEach
+                    void after()
+                    {
+                        LeakDetection.setEnabled(false);
+                    }
+
+                    @Test
+                    @DisplayName("Subscriptions of bindings should be owned by view")
+                    public void testOwner()
+                    {
+                        assertTrue(LeakDetection.getLiveSubscriptions().stream()
+                                .anyMatch(subscription -> subscription.getOwner() == view));
+                        assertEquals(0, LeakDetection.findLeaks().size());
+                    }
+
+                    @Test
+                    @DisplayName("Binding added after attach should be owned by view")
+                    public void testAddAfterAttach()
+                    {
+                        final PublishSubject<String> subject = PublishSubject.create();
+
+                        view.bind(view.valueOf(view.label)).to(subject);
+
+                        assertEquals(0, LeakDetection.findSuspicious().size());
+
+                        view.setParent(null);
+
+                        assertTrue(LeakDetection.getLiveSubscriptions().stream()
+                                .noneMatch(subscription -> subscription.getOwner() == view));
+                    }
+
+                    @Test
+                    @DisplayName("No subscription should outlive detached view")
+                    public void testDetach()
+                    {
+                        view.setParent(null);
+
+                        assertTrue(LeakDetection.getLiveSubscriptions().stream()
+                                .noneMatch(subscription -> subscription.getOwner() == view));
+                        assertEquals(0, LeakDetection.findLeaks().size());
+                    }
+
+                    @Test
+                    @DisplayName("Subscriptions of view discarded with its session should be reported as leaks")
+                    public void testLeak()
+                    {
+                        Mockito.when(UI.getCurrent().getSession().getState()).thenReturn(VaadinSession.State.CLOSED);
+
+                        assertFalse(LeakDetection.findLeaks().isEmpty());
+                        assertTrue(LeakDetection.findLeaks().stream()
+                                .allMatch(subscription -> subscription.getOwner() == view));
+                    }
+                }
+
                 @Nested
                 @DisplayName("When field value is changed")
                 class WhenChangeFieldValue
@@ -631,4 +884,557 @@ public class ReactiveViewTest
             }
         }
     }
+
+    @Nested
+    @DisplayName("When new reactive view with tabs is created")
+    class WhenCreateWithTabs
+    {
+        private TestTabView view;
+
+        @BeforeEach
+        void before()
+        {
+            final VaadinSession session = Mockito.mock(VaadinSession.class);
+            final UI ui = Mockito.mock(UI.class);
+
+            Mockito.when(session.hasLock()).thenReturn(true);
+            Mockito.when(session.getState()).thenReturn(VaadinSession.State.OPEN);
+            Mockito.when(ui.getSession()).thenReturn(session);
+            Mockito.when(ui.getConnectorTracker()).thenReturn(Mockito.mock(ConnectorTracker.class));
+
+            VaadinSession.setCurrent(session);
+            UI.setCurrent(ui);
+
+            view = new TestTabView();
+            view.withViewModel(new TestViewModel());
+        }
+
+        @Test
+        @DisplayName("Binding of unselected tab should not be active")
+        public void testNotAttached()
+        {
+            assertFalse(view.subject.hasObservers());
+        }
+
+        @Nested
+        @DisplayName("When view is attached")
+        class WhenAttach
+        {
+            @BeforeEach
+            void before()
+            {
+                view.setParent(UI.getCurrent());
+                view.attach();
+            }
+
+            @Test
+            @DisplayName("Binding of unselected tab should not be active")
+            public void testUnselected()
+            {
+                assertFalse(view.subject.hasObservers());
+            }
+
+            @Nested
+            @DisplayName("When tab is selected")
+            class WhenSelect
+            {
+                @BeforeEach
+                void before()
+                {
+                    view.tabSheet.setSelectedTab(view.secondLabel);
+                }
+
+                @Test
+                @DisplayName("Binding of selected tab should be active")
+                public void testSelected()
+                {
+                    assertTrue(view.subject.hasObservers());
+                }
+
+                @Test
+                @DisplayName("Binding should be deactivated when another tab is selected")
+                public void testUnselect()
+                {
+                    view.tabSheet.setSelectedTab(view.firstLabel);
+
+                    assertFalse(view.subject.hasObservers());
+                }
+
+                @Test
+                @DisplayName("Binding should be deactivated when view is detached")
+                public void testDetach()
+                {
+                    view.detach();
+
+                    assertFalse(view.subject.hasObservers());
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("When new reactive view with deferred bindings is created")
+    class WhenCreateWithDeferredBindings
+    {
+        private TestDeferredView view;
+        private Queue<Runnable> accesses;
+
+        @BeforeEach
+        void before()
+        {
+            final VaadinSession session = Mockito.mock(VaadinSession.class);
+            final UI ui = Mockito.mock(UI.class);
+            final PushConfiguration pushConfiguration = Mockito.mock(PushConfiguration.class);
+
+            accesses = new ArrayDeque<>();
+
+            Mockito.when(session.hasLock()).thenReturn(true);
+            Mockito.when(session.getState()).thenReturn(VaadinSession.State.OPEN);
+            Mockito.when(ui.getSession()).thenReturn(session);
+            Mockito.when(ui.getConnectorTracker()).thenReturn(Mockito.mock(ConnectorTracker.class));
+            Mockito.when(ui.isAttached()).thenReturn(true);
+            Mockito.when(ui.getPushConfiguration()).thenReturn(pushConfiguration);
+            Mockito.when(pushConfiguration.getPushMode()).thenReturn(PushMode.DISABLED);
+            Mockito.doAnswer(invocation -> {
+                accesses.add(invocation.getArgument(0));
+
+                return null;
+            }).when(ui).access(Mockito.any(Runnable.class));
+
+            VaadinSession.setCurrent(session);
+            UI.setCurrent(ui);
+
+            view = new TestDeferredView();
+            view.withViewModel(new TestViewModel());
+        }
+
+        @Nested
+        @DisplayName("When view is attached")
+        class WhenAttach
+        {
+            @BeforeEach
+            void before()
+            {
+                view.setParent(UI.getCurrent());
+                view.attach();
+            }
+
+            @Test
+            @DisplayName("Only critical bindings should be activated at once")
+            public void testCritical()
+            {
+                assertEquals(2, view.getActivationMetrics().getCriticalCount());
+                assertEquals(3, view.getActivationMetrics().getDeferredCount());
+                assertEquals(0, view.getActivationMetrics().getChunkCount());
+            }
+
+            @Test
+            @DisplayName("Each chunk of deferred bindings should be activated in separate access to UI")
+            public void testChunk()
+            {
+                final int pending = accesses.size();
+
+                for (int i = 0; i < pending; i++)
+                {
+                    accesses.poll().run();
+                }
+
+                assertEquals(1, view.getActivationMetrics().getChunkCount());
+                assertFalse(accesses.isEmpty());
+            }
+
+            @Test
+            @DisplayName("All deferred bindings should be activated eventually")
+            public void testDeferred()
+            {
+                runAccesses();
+
+                assertEquals(2, view.getActivationMetrics().getChunkCount());
+
+                view.subject.onNext("Value");
+                runAccesses();
+
+                assertEquals("Value", view.label.getValue());
+                assertTrue(view.deferredLabels.stream().allMatch(label -> "Value".equals(label.getValue())));
+            }
+
+            @Test
+            @DisplayName("Deferred bindings should not be activated when view is detached")
+            public void testDetach()
+            {
+                view.detach();
+                runAccesses();
+
+                assertEquals(0, view.getActivationMetrics().getChunkCount());
+                assertFalse(view.subject.hasObservers());
+            }
+        }
+
+        private void runAccesses()
+        {
+            Runnable access;
+
+            while ((access = accesses.poll()) != null)
+            {
+                access.run();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("When new reactive view with keep-warm policy is created")
+    class WhenCreateWithKeepWarmPolicy
+    {
+        private VaadinSession session;
+        private TestScheduler testScheduler;
+        private TestDeferredView view;
+
+        @BeforeEach
+        void before()
+        {
+            final UI ui = Mockito.mock(UI.class);
+            final PushConfiguration pushConfiguration = Mockito.mock(PushConfiguration.class);
+
+            session = Mockito.mock(VaadinSession.class);
+            testScheduler = new TestScheduler();
+
+            final Map<Class<?>, Object> attributes = new HashMap<>();
+
+            Mockito.when(session.hasLock()).thenReturn(true);
+            Mockito.when(session.getAttribute(Mockito.any(Class.class)))
+                    .thenAnswer(invocation -> attributes.get(invocation.<Class<?>>getArgument(0)));
+            Mockito.doAnswer(invocation -> attributes.put(invocation.getArgument(0), invocation.getArgument(1)))
+                    .when(session).setAttribute(Mockito.any(Class.class), Mockito.any());
+            Mockito.doAnswer(invocation -> {
+                final Runnable runnable = invocation.getArgument(0);
+
+                runnable.run();
+
+                return null;
+            }).when(session).access(Mockito.any(Runnable.class));
+            Mockito.when(ui.getSession()).thenReturn(session);
+            Mockito.when(ui.getConnectorTracker()).thenReturn(Mockito.mock(ConnectorTracker.class));
+            Mockito.when(ui.isAttached()).thenReturn(true);
+            Mockito.when(ui.getPushConfiguration()).thenReturn(pushConfiguration);
+            Mockito.when(pushConfiguration.getPushMode()).thenReturn(PushMode.DISABLED);
+            Mockito.doAnswer(invocation -> {
+                final Runnable runnable = invocation.getArgument(0);
+
+                runnable.run();
+
+                return null;
+            }).when(ui).access(Mockito.any(Runnable.class));
+
+            VaadinSession.setCurrent(session);
+            UI.setCurrent(ui);
+
+            view = createView(KeepWarmPolicy.of(10, TimeUnit.SECONDS, 1, testScheduler));
+        }
+
+        @Test
+        @DisplayName("Grace period has to be positive")
+        public void testGracePeriod()
+        {
+            assertThrows(IllegalArgumentException.class, () -> KeepWarmPolicy.of(0, TimeUnit.SECONDS));
+        }
+
+        @Nested
+        @DisplayName("When view is detached")
+        class WhenDetach
+        {
+            @BeforeEach
+            void before()
+            {
+                view.detach();
+            }
+
+            @Test
+            @DisplayName("View should be warm")
+            public void testWarm()
+            {
+                assertTrue(view.isWarm());
+                assertTrue(view.subject.hasObservers());
+                assertEquals(1, KeepWarmPolicy.getWarmViewCount(session));
+            }
+
+            @Test
+            @DisplayName("Session summary should contain footprint of warm view")
+            public void testSessionSummary()
+            {
+                final Map<String, MemoryFootprint> summary = MemoryDiagnostics.getSessionSummary(session);
+
+                assertEquals(Collections.singleton(TestDeferredView.class.getName()), summary.keySet());
+                assertEquals(view.getMemoryFootprint().getScore(),
+                        summary.get(TestDeferredView.class.getName()).getScore());
+            }
+
+            @Test
+            @DisplayName("Bindings should be deactivated after grace period")
+            public void testGracePeriod()
+            {
+                testScheduler.advanceTimeBy(10, TimeUnit.SECONDS);
+
+                assertFalse(view.isWarm());
+                assertFalse(view.subject.hasObservers());
+                assertEquals(0, KeepWarmPolicy.getWarmViewCount(session));
+            }
+
+            @Test
+            @DisplayName("Bindings should be kept active when view is attached within grace period")
+            public void testAttach()
+            {
+                view.attach();
+                testScheduler.advanceTimeBy(10, TimeUnit.SECONDS);
+
+                assertFalse(view.isWarm());
+                assertTrue(view.subject.hasObservers());
+                assertEquals(0, KeepWarmPolicy.getWarmViewCount(session));
+            }
+
+            @Test
+            @DisplayName("Updates should be paused and the latest value replayed when view is attached")
+            public void testPausedUpdates()
+            {
+                view.subject.onNext("First");
+                view.subject.onNext("Second");
+
+                assertEquals("", view.label.getValue());
+                Mockito.verify(session, Mockito.never()).access(Mockito.any(Runnable.class));
+
+                view.attach();
+
+                assertEquals("Second", view.label.getValue());
+                assertEquals("Second", view.deferredLabels.get(2).getValue());
+            }
+
+            @Test
+            @DisplayName("Paused updates should be discarded after grace period")
+            public void testPausedUpdatesDiscarded()
+            {
+                view.subject.onNext("First");
+
+                testScheduler.advanceTimeBy(10, TimeUnit.SECONDS);
+                view.attach();
+
+                assertEquals("", view.label.getValue());
+            }
+
+            @Test
+            @DisplayName("Paused actions should be replayed in order when view is attached")
+            public void testPausedActions()
+            {
+                final List<Integer> actions = new ArrayList<>();
+
+                view.withUIAccess(() -> actions.add(1));
+                view.subject.onNext("First");
+                view.withUIAccess(() -> actions.add(2));
+
+                assertTrue(actions.isEmpty());
+
+                view.attach();
+
+                assertEquals(Arrays.asList(1, 2), actions);
+                assertEquals("First", view.label.getValue());
+            }
+
+            @Test
+            @DisplayName("Bindings should be activated again instead of replaying too many paused actions")
+            public void testPausedActionsLimit()
+            {
+                final List<Integer> actions = new ArrayList<>();
+
+                for (int i = 0; i <= ReactiveView.MAX_PAUSED_UPDATES; i++)
+                {
+                    view.withUIAccess(() -> actions.add(1));
+                }
+
+                view.attach();
+                view.subject.onNext("Next");
+
+                assertTrue(actions.isEmpty());
+                assertTrue(view.subject.hasObservers());
+                assertEquals("Next", view.label.getValue());
+            }
+
+            @Test
+            @DisplayName("Warm views of session should be serializable without views")
+            public void testSerializable() throws IOException, ClassNotFoundException
+            {
+                final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+                try (final ObjectOutputStream output = new ObjectOutputStream(bytes))
+                {
+                    output.writeObject(session.getAttribute(WarmViews.class));
+                }
+
+                try (final ObjectInputStream input = new ObjectInputStream(
+                        new ByteArrayInputStream(bytes.toByteArray())))
+                {
+                    assertEquals(0, ((WarmViews) input.readObject()).size());
+                }
+            }
+
+            @Test
+            @DisplayName("Least recently detached view should be deactivated when limit is exceeded")
+            public void testLimit()
+            {
+                final TestDeferredView nextView = createView(KeepWarmPolicy.of(10, TimeUnit.SECONDS, 1,
+                        testScheduler));
+
+                nextView.detach();
+
+                assertFalse(view.isWarm());
+                assertFalse(view.subject.hasObservers());
+                assertTrue(nextView.isWarm());
+                assertEquals(1, KeepWarmPolicy.getWarmViewCount(session));
+            }
+        }
+
+        @Nonnull
+        private TestDeferredView createView(final @Nonnull KeepWarmPolicy keepWarmPolicy)
+        {
+            final TestDeferredView view = new TestDeferredView();
+
+            view.withKeepWarmPolicy(keepWarmPolicy);
+            view.withViewModel(new TestViewModel());
+            view.setParent(UI.getCurrent());
+
+            return view;
+        }
+    }
+
+    @Nested
+    @DisplayName("When UI with bound view is serialized")
+    class WhenSerialize
+    {
+        private TestView view;
+
+        @BeforeEach
+        void before() throws IOException, ClassNotFoundException
+        {
+            final TestUI ui = createUI();
+
+            ui.setContent(new TestView().withViewModel(new TestViewModel()));
+
+            ((TestView) ui.getContent()).field.setValue("Value");
+
+            final TestUI restoredUI = serialize(ui);
+
+            restoredUI.getSession().getLockInstance().lock();
+
+            view = (TestView) restoredUI.getContent();
+        }
+
+        @AfterEach
+        void after()
+        {
+            VaadinSession.setCurrent(null);
+            UI.setCurrent(null);
+        }
+
+        @Test
+        @DisplayName("View should be restored with its components and view model")
+        public void testRestore()
+        {
+            assertEquals("Value", view.field.getValue());
+            assertEquals("Value", view.viewModel.property.getValue());
+        }
+
+        @Test
+        @DisplayName("View should be marked as dirty to restore its bindings")
+        public void testDirty()
+        {
+            assertTrue(view.getUI().getConnectorTracker().isDirty(view));
+        }
+
+        @Nested
+        @DisplayName("When response is sent to client")
+        class WhenRespond
+        {
+            @BeforeEach
+            void before()
+            {
+                view.beforeClientResponse(false);
+            }
+
+            @Test
+            @DisplayName("Field should be bound to restored view model")
+            public void testField()
+            {
+                view.field.setValue("Changed");
+
+                assertEquals("Changed", view.viewModel.property.getValue());
+            }
+
+            @Test
+            @DisplayName("Button should execute command of restored view model")
+            public void testButton()
+            {
+                view.button.click();
+
+                assertEquals("value", view.label.getValue());
+            }
+        }
+
+        @Nested
+        @DisplayName("When view is attached again")
+        class WhenAttach
+        {
+            @BeforeEach
+            void before()
+            {
+                final UI ui = view.getUI();
+
+                ui.setContent(null);
+                ui.setContent(view);
+            }
+
+            @Test
+            @DisplayName("Button should execute command of restored view model")
+            public void testButton()
+            {
+                view.button.click();
+
+                assertEquals("value", view.label.getValue());
+            }
+        }
+
+        @Nonnull
+        private TestUI createUI()
+        {
+            final TestSession session = new TestSession();
+            final TestUI ui = new TestUI();
+
+            session.getLockInstance().lock();
+
+            VaadinSession.setCurrent(session);
+            UI.setCurrent(ui);
+
+            ui.setSession(session);
+
+            return ui;
+        }
+
+        @Nonnull
+        private TestUI serialize(final @Nonnull TestUI ui) throws IOException, ClassNotFoundException
+        {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+            try (final ObjectOutputStream output = new ObjectOutputStream(bytes))
+            {
+                output.writeObject(ui);
+            }
+
+            try (final ObjectInputStream input = new ObjectInputStream(
+                    new ByteArrayInputStream(bytes.toByteArray())))
+            {
+                final TestUI restoredUI = (TestUI) input.readObject();
+
+                VaadinSession.setCurrent(restoredUI.getSession());
+                UI.setCurrent(restoredUI);
+
+                return restoredUI;
+            }
+        }
+    }
 }
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.mvvm;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.vaadin.server.VaadinSession;
+import com.vaadin.shared.communication.PushMode;
+import com.vaadin.ui.ConnectorTracker;
+import com.vaadin.ui.Label;
+import com.vaadin.ui.PushConfiguration;
+import com.vaadin.ui.UI;
+import io.reactivex.observers.TestObserver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.vaadin.addons.reactive.ReactiveProperty;
+import org.vaadin.addons.reactive.property.SharedProperty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link SharedReactiveViewModel}
+ *
+ * @author dohnal
+ */
+@DisplayName("Shared reactive view model specification")
+public class SharedReactiveViewModelTest
+{
+    private static class TestViewModel extends SharedReactiveViewModel
+    {
+        private final ReactiveProperty<String> property;
+
+        public TestViewModel()
+        {
+            super(SchedulerPolicy.inline());
+
+            this.property = createProperty();
+        }
+    }
+
+    private static class TestView extends ReactiveView<TestViewModel>
+    {
+        private final Label label;
+
+        public TestView()
+        {
+            label = new Label();
+        }
+
+        @Override
+        protected void initView(final @Nonnull TestViewModel viewModel)
+        {
+            bind(valueOf(label)).to(viewModel.property);
+
+            setCompositionRoot(label);
+        }
+    }
+
+    @Nested
+    @DisplayName("When new shared reactive view model is created")
+    class WhenCreate
+    {
+        private TestViewModel viewModel;
+
+        @BeforeEach
+        void before()
+        {
+            viewModel = new TestViewModel();
+        }
+
+        @Test
+        @DisplayName("Properties should be shared")
+        public void testProperty()
+        {
+            assertTrue(viewModel.property instanceof SharedProperty);
+        }
+
+        @Test
+        @DisplayName("Concurrent activations should keep view model activated exactly once")
+        public void testConcurrentActivation() throws Exception
+        {
+            final TestObserver<Boolean> activated = viewModel.activated().test();
+            final TestObserver<Boolean> deactivated = viewModel.deactivated().test();
+            final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+            try
+            {
+                final List<Future<?>> futures = new ArrayList<>();
+
+                for (int i = 0; i < 4; i++)
+                {
+                    futures.add(executor.submit(() -> {
+                        for (int j = 0; j < 1000; j++)
+                        {
+                            viewModel.activate().dispose();
+                        }
+                    }));
+                }
+
+                for (final Future<?> future : futures)
+                {
+                    future.get(10, TimeUnit.SECONDS);
+                }
+            }
+            finally
+            {
+                executor.shutdown();
+            }
+
+            assertEquals(0, viewModel.getViewCount());
+            assertEquals(activated.valueCount(), deactivated.valueCount());
+        }
+
+        @Nested
+        @DisplayName("When views of different UIs are attached")
+        class WhenAttachViews
+        {
+            private TestView firstView;
+            private TestView secondView;
+            private UI firstUI;
+            private UI secondUI;
+
+            @BeforeEach
+            void before()
+            {
+                firstUI = createUI();
+                secondUI = createUI();
+
+                firstView = createView(firstUI);
+                secondView = createView(secondUI);
+            }
+
+            @Test
+            @DisplayName("View model should be activated once for all views")
+            public void testViewCount()
+            {
+                assertEquals(2, viewModel.getViewCount());
+            }
+
+            @Test
+            @DisplayName("Property change should be delivered to each view in access to its own UI")
+            public void testMulticast()
+            {
+                viewModel.property.setValue("Value");
+
+                assertEquals("Value", firstView.label.getValue());
+                assertEquals("Value", secondView.label.getValue());
+
+                Mockito.verify(firstUI, Mockito.atLeastOnce()).access(Mockito.any(Runnable.class));
+                Mockito.verify(secondUI, Mockito.atLeastOnce()).access(Mockito.any(Runnable.class));
+            }
+
+            @Test
+            @DisplayName("View model should stay activated until last view is detached")
+            public void testDetach()
+            {
+                firstView.detach();
+
+                assertEquals(1, viewModel.getViewCount());
+
+                secondView.detach();
+
+                assertEquals(0, viewModel.getViewCount());
+            }
+
+            @Nonnull
+            private TestView createView(final @Nonnull UI ui)
+            {
+                final TestView view = new TestView();
+
+                UI.setCurrent(ui);
+                view.withViewModel(viewModel);
+                view.setParent(ui);
+
+                return view;
+            }
+
+            @Nonnull
+            private UI createUI()
+            {
+                final VaadinSession session = Mockito.mock(VaadinSession.class);
+                final UI ui = Mockito.mock(UI.class);
+                final PushConfiguration pushConfiguration = Mockito.mock(PushConfiguration.class);
+
+                Mockito.when(session.hasLock()).thenReturn(true);
+                Mockito.when(ui.getSession()).thenReturn(session);
+                Mockito.when(ui.getConnectorTracker()).thenReturn(Mockito.mock(ConnectorTracker.class));
+                Mockito.when(ui.isAttached()).thenReturn(true);
+                Mockito.when(ui.getPushConfiguration()).thenReturn(pushConfiguration);
+                Mockito.when(pushConfiguration.getPushMode()).thenReturn(PushMode.DISABLED);
+                Mockito.doAnswer(invocation -> {
+                    final Runnable runnable = invocation.getArgument(0);
+
+                    VaadinSession.setCurrent(session);
+                    runnable.run();
+
+                    return null;
+                }).when(ui).access(Mockito.any(Runnable.class));
+
+                VaadinSession.setCurrent(session);
+
+                return ui;
+            }
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.mvvm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.vaadin.server.ErrorHandlingRunnable;
+import com.vaadin.shared.communication.PushMode;
+import com.vaadin.ui.PushConfiguration;
+import com.vaadin.ui.UI;
+import com.vaadin.ui.UIDetachedException;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link UIScheduler}
+ *
+ * @author dohnal
+ */
+@DisplayName("UI scheduler specification")
+public class UISchedulerTest
+{
+    @Nested
+    @DisplayName("When new UI scheduler is created")
+    class WhenCreate
+    {
+        private UI ui;
+        private PushConfiguration pushConfiguration;
+        private List<Runnable> accessQueue;
+        private TestScheduler testScheduler;
+        private UIScheduler scheduler;
+
+        @BeforeEach
+        void before()
+        {
+            ui = Mockito.mock(UI.class);
+            pushConfiguration = Mockito.mock(PushConfiguration.class);
+            accessQueue = new ArrayList<>();
+            testScheduler = new TestScheduler();
+
+            Mockito.when(ui.isAttached()).thenReturn(true);
+            Mockito.when(ui.getPushConfiguration()).thenReturn(pushConfiguration);
+            Mockito.when(pushConfiguration.getPushMode()).thenReturn(PushMode.MANUAL);
+            Mockito.doAnswer(invocation -> {
+                accessQueue.add(invocation.getArgument(0));
+
+                return null;
+            }).when(ui).access(Mockito.any(Runnable.class));
+
+            scheduler = new UIScheduler(() -> ui, testScheduler);
+        }
+
+        private void runAccess()
+        {
+            final List<Runnable> runnables = new ArrayList<>(accessQueue);
+
+            accessQueue.clear();
+            runnables.forEach(Runnable::run);
+        }
+
+        @Nested
+        @DisplayName("When multiple values are observed on UI scheduler")
+        class WhenObserveOn
+        {
+            private TestObserver<Integer> testObserver;
+
+            @BeforeEach
+            void before()
+            {
+                testObserver = Observable.just(1, 2, 3)
+                        .observeOn(scheduler)
+                        .test();
+            }
+
+            @Test
+            @DisplayName("UI should be accessed only once")
+            public void testAccess()
+            {
+                Mockito.verify(ui).access(Mockito.any(Runnable.class));
+            }
+
+            @Test
+            @DisplayName("Values should not be emitted before UI is accessed")
+            public void testNoValues()
+            {
+                testObserver.assertNoValues();
+            }
+
+            @Test
+            @DisplayName("All values should be emitted when UI is accessed")
+            public void testValues()
+            {
+                runAccess();
+
+                testObserver.assertResult(1, 2, 3);
+            }
+
+            @Test
+            @DisplayName("UI should be pushed once")
+            public void testPush()
+            {
+                runAccess();
+
+                Mockito.verify(ui).push();
+            }
+        }
+
+        @Nested
+        @DisplayName("When task is scheduled with delay")
+        class WhenScheduleWithDelay
+        {
+            private List<Integer> values;
+
+            @BeforeEach
+            void before()
+            {
+                values = new ArrayList<>();
+
+                scheduler.scheduleDirect(() -> values.add(1), 1, TimeUnit.SECONDS);
+            }
+
+            @Test
+            @DisplayName("UI should not be accessed before delay")
+            public void testNoAccess()
+            {
+                Mockito.verify(ui, Mockito.never()).access(Mockito.any(Runnable.class));
+            }
+
+            @Test
+            @DisplayName("Task should be run after delay")
+            public void testRun()
+            {
+                testScheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+                runAccess();
+
+                assertEquals(Arrays.asList(1), values);
+            }
+        }
+
+        @Nested
+        @DisplayName("When scheduled task is disposed")
+        class WhenDispose
+        {
+            @Test
+            @DisplayName("Task should not be run")
+            public void testRun()
+            {
+                final List<Integer> values = new ArrayList<>();
+
+                scheduler.scheduleDirect(() -> values.add(1)).dispose();
+                runAccess();
+
+                assertTrue(values.isEmpty());
+            }
+        }
+
+        @Nested
+        @DisplayName("When UI is not attached")
+        class WhenNotAttached
+        {
+            @Test
+            @DisplayName("Tasks should be discarded")
+            public void testDiscard()
+            {
+                final List<Integer> values = new ArrayList<>();
+
+                Mockito.when(ui.isAttached()).thenReturn(false);
+
+                scheduler.scheduleDirect(() -> values.add(1));
+
+                Mockito.when(ui.isAttached()).thenReturn(true);
+
+                scheduler.scheduleDirect(() -> values.add(2));
+                runAccess();
+
+                Mockito.verify(ui).access(Mockito.any(Runnable.class));
+                assertEquals(Arrays.asList(2), values);
+            }
+        }
+
+        @Nested
+        @DisplayName("When UI is detached before access is run")
+        class WhenDetachBeforeAccess
+        {
+            private List<Integer> values;
+
+            @BeforeEach
+            void before()
+            {
+                values = new ArrayList<>();
+
+                scheduler.scheduleDirect(() -> values.add(1));
+
+                // Vaadin reports access of detached UI to the error handler of access instead of running it
+                final List<Runnable> runnables = new ArrayList<>(accessQueue);
+
+                accessQueue.clear();
+                runnables.forEach(runnable -> ((ErrorHandlingRunnable) runnable)
+                        .handleError(new UIDetachedException()));
+            }
+
+            @Test
+            @DisplayName("Waiting tasks should be discarded")
+            public void testDiscard()
+            {
+                runAccess();
+
+                assertTrue(values.isEmpty());
+            }
+
+            @Test
+            @DisplayName("Next task should access UI again")
+            public void testAccessAgain()
+            {
+                scheduler.scheduleDirect(() -> values.add(2));
+                runAccess();
+
+                Mockito.verify(ui, Mockito.times(2)).access(Mockito.any(Runnable.class));
+                assertEquals(Arrays.asList(2), values);
+            }
+        }
+    }
+}
@@ -14,6 +14,7 @@
 package org.vaadin.addons.reactive.mvvm.binder;
 
 import javax.annotation.Nonnull;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -192,6 +193,48 @@ public class UIObservableBinderTest
             }
         }
 
+        @Nested
+        @DisplayName("When debounced observable is bound to consumer")
+        class WhenBindDebouncedToConsumer
+        {
+            protected Consumer<Integer> consumer;
+            protected Disposable disposable;
+
+            @BeforeEach
+            @SuppressWarnings("unchecked")
+            void before()
+            {
+                consumer = Mockito.mock(Consumer.class);
+
+                disposable = binder.debounced(300, TimeUnit.MILLISECONDS, testScheduler).then(consumer);
+            }
+
+            @Test
+            @DisplayName("Consumer should not be called with UI access before timeout")
+            public void testWithUIAccess()
+            {
+                observable.onNext(7);
+
+                Mockito.verify(withUIAccess, Mockito.never()).accept(Mockito.any());
+            }
+
+            @Test
+            @DisplayName("Consumer should be called with UI access after timeout")
+            public void testConsumer()
+            {
+                final ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+
+                observable.onNext(7);
+                testScheduler.advanceTimeBy(300, TimeUnit.MILLISECONDS);
+
+                Mockito.verify(withUIAccess).accept(captor.capture());
+
+                captor.getValue().run();
+
+                Mockito.verify(consumer).accept(7);
+            }
+        }
+
         @Nested
         @DisplayName("When observable is bound to observable supplier")
         class WhenBindToObservableSupplier
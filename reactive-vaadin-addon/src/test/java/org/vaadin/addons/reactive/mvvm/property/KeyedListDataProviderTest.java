@@ -0,0 +1,369 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.mvvm.property;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import com.vaadin.data.provider.DataChangeEvent;
+import com.vaadin.ui.Grid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link KeyedListDataProvider}
+ *
+ * @author dohnal
+ */
+@DisplayName("Keyed list data provider specification")
+public class KeyedListDataProviderTest
+{
+    private static class TestItem
+    {
+        private final Integer id;
+        private final String name;
+
+        TestItem(final @Nonnull Integer id, final @Nonnull String name)
+        {
+            this.id = id;
+            this.name = name;
+        }
+
+        Integer getId()
+        {
+            return id;
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final TestItem testItem = (TestItem) o;
+            return Objects.equals(id, testItem.id) && Objects.equals(name, testItem.name);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(id, name);
+        }
+    }
+
+    @Nested
+    @DisplayName("When keyed data provider with items is created")
+    class WhenCreate
+    {
+        private final TestItem first = new TestItem(1, "First");
+        private final TestItem second = new TestItem(2, "Second");
+        private final TestItem third = new TestItem(3, "Third");
+
+        private KeyedListDataProvider<TestItem> dataProvider;
+        private List<DataChangeEvent<TestItem>> events;
+
+        @BeforeEach
+        void before()
+        {
+            dataProvider = new KeyedListDataProvider<>(TestItem::getId);
+            dataProvider.setItems(Arrays.asList(first, second, third));
+
+            events = new ArrayList<>();
+            dataProvider.addDataProviderListener(events::add);
+        }
+
+        @Test
+        @DisplayName("Items should be in given order")
+        public void testItems()
+        {
+            assertEquals(Arrays.asList(
+                    new TestItem(1, "First"),
+                    new TestItem(2, "Second"),
+                    new TestItem(3, "Third")),
+                    new ArrayList<>(dataProvider.getItems()));
+        }
+
+        @Test
+        @DisplayName("Id should be key of item")
+        public void testId()
+        {
+            assertEquals(2, dataProvider.getId(new TestItem(2, "Other")));
+        }
+
+        @Nested
+        @DisplayName("When same items are set")
+        class WhenSetSameItems
+        {
+            @BeforeEach
+            void before()
+            {
+                dataProvider.setItems(Arrays.asList(first, second, third));
+            }
+
+            @Test
+            @DisplayName("No event should be fired")
+            public void testEvents()
+            {
+                assertTrue(events.isEmpty());
+            }
+        }
+
+        @Nested
+        @DisplayName("When equal items of different instances are set")
+        class WhenSetEqualItems
+        {
+            @BeforeEach
+            void before()
+            {
+                dataProvider.setItems(Arrays.asList(
+                        new TestItem(1, "First"),
+                        new TestItem(2, "Second"),
+                        new TestItem(3, "Third")));
+            }
+
+            @Test
+            @DisplayName("Every item should be refreshed")
+            public void testEvents()
+            {
+                assertEquals(3, events.size());
+                assertTrue(events.stream().allMatch(event -> event instanceof DataChangeEvent.DataRefreshEvent));
+            }
+        }
+
+        @Nested
+        @DisplayName("When items with one changed item are set")
+        class WhenSetChangedItem
+        {
+            @BeforeEach
+            void before()
+            {
+                dataProvider.setItems(Arrays.asList(first, new TestItem(2, "Changed"), third));
+            }
+
+            @Test
+            @DisplayName("Only changed item should be refreshed")
+            public void testEvents()
+            {
+                assertEquals(1, events.size());
+                assertTrue(events.get(0) instanceof DataChangeEvent.DataRefreshEvent);
+                assertEquals(new TestItem(2, "Changed"),
+                        ((DataChangeEvent.DataRefreshEvent<TestItem>) events.get(0)).getItem());
+            }
+
+            @Test
+            @DisplayName("Items should contain changed item")
+            public void testItems()
+            {
+                assertEquals(Arrays.asList(
+                        new TestItem(1, "First"),
+                        new TestItem(2, "Changed"),
+                        new TestItem(3, "Third")),
+                        new ArrayList<>(dataProvider.getItems()));
+            }
+        }
+
+        @Nested
+        @DisplayName("When items in different order are set")
+        class WhenSetReorderedItems
+        {
+            @BeforeEach
+            void before()
+            {
+                dataProvider.setItems(Arrays.asList(
+                        new TestItem(3, "Third"),
+                        new TestItem(2, "Second"),
+                        new TestItem(1, "First")));
+            }
+
+            @Test
+            @DisplayName("All items should be refreshed")
+            public void testEvents()
+            {
+                assertEquals(1, events.size());
+                assertEquals(DataChangeEvent.class, events.get(0).getClass());
+            }
+
+            @Test
+            @DisplayName("Items should be in new order")
+            public void testItems()
+            {
+                assertEquals(Arrays.asList(
+                        new TestItem(3, "Third"),
+                        new TestItem(2, "Second"),
+                        new TestItem(1, "First")),
+                        new ArrayList<>(dataProvider.getItems()));
+            }
+        }
+
+        @Nested
+        @DisplayName("When update changes are applied")
+        class WhenApplyUpdated
+        {
+            @BeforeEach
+            void before()
+            {
+                dataProvider.applyChanges(ItemChanges.updated(Collections.singletonList(new TestItem(3, "Changed"))));
+            }
+
+            @Test
+            @DisplayName("Only updated item should be refreshed")
+            public void testEvents()
+            {
+                assertEquals(1, events.size());
+                assertTrue(events.get(0) instanceof DataChangeEvent.DataRefreshEvent);
+            }
+
+            @Test
+            @DisplayName("Items should contain updated item")
+            public void testItems()
+            {
+                assertEquals(Arrays.asList(
+                        new TestItem(1, "First"),
+                        new TestItem(2, "Second"),
+                        new TestItem(3, "Changed")),
+                        new ArrayList<>(dataProvider.getItems()));
+            }
+        }
+
+        @Nested
+        @DisplayName("When add and remove changes are applied")
+        class WhenApplyAddedAndRemoved
+        {
+            @BeforeEach
+            void before()
+            {
+                dataProvider.applyChanges(new ItemChanges<>(
+                        Collections.singletonList(new TestItem(4, "Fourth")),
+                        Collections.emptyList(),
+                        Collections.singletonList(new TestItem(1, "First"))));
+            }
+
+            @Test
+            @DisplayName("All items should be refreshed")
+            public void testEvents()
+            {
+                assertEquals(1, events.size());
+                assertEquals(DataChangeEvent.class, events.get(0).getClass());
+            }
+
+            @Test
+            @DisplayName("Items should reflect changes")
+            public void testItems()
+            {
+                assertEquals(Arrays.asList(
+                        new TestItem(2, "Second"),
+                        new TestItem(3, "Third"),
+                        new TestItem(4, "Fourth")),
+                        new ArrayList<>(dataProvider.getItems()));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("When keyed data provider with custom comparison is created")
+    class WhenCreateWithComparison
+    {
+        private KeyedListDataProvider<TestItem> dataProvider;
+        private List<DataChangeEvent<TestItem>> events;
+
+        @BeforeEach
+        void before()
+        {
+            dataProvider = new KeyedListDataProvider<>(TestItem::getId, Objects::equals);
+            dataProvider.setItems(Arrays.asList(new TestItem(1, "First"), new TestItem(2, "Second")));
+
+            events = new ArrayList<>();
+            dataProvider.addDataProviderListener(events::add);
+        }
+
+        @Test
+        @DisplayName("Only items which are not equal should be refreshed")
+        public void testEvents()
+        {
+            dataProvider.setItems(Arrays.asList(new TestItem(1, "First"), new TestItem(2, "Changed")));
+
+            assertEquals(1, events.size());
+            assertEquals(new TestItem(2, "Changed"),
+                    ((DataChangeEvent.DataRefreshEvent<TestItem>) events.get(0)).getItem());
+        }
+    }
+
+    @Nested
+    @DisplayName("When keyed data provider of component is requested")
+    class WhenOf
+    {
+        private final Function<TestItem, Integer> keyMapper = TestItem::getId;
+
+        private Grid<TestItem> grid;
+
+        @BeforeEach
+        void before()
+        {
+            grid = new Grid<>();
+        }
+
+        @Test
+        @DisplayName("Same data provider should be returned for same key mapper")
+        public void testSameKeyMapper()
+        {
+            final KeyedListDataProvider<TestItem> dataProvider = KeyedListDataProvider.of(grid, keyMapper);
+
+            assertSame(dataProvider, grid.getDataProvider());
+            assertSame(dataProvider, KeyedListDataProvider.of(grid, keyMapper));
+        }
+
+        @Test
+        @DisplayName("Existing data provider should be reused for different key mapper instance")
+        public void testDifferentKeyMapper()
+        {
+            final KeyedListDataProvider<TestItem> dataProvider = KeyedListDataProvider.of(grid, keyMapper);
+
+            assertSame(dataProvider, KeyedListDataProvider.of(grid, TestItem::getId));
+        }
+
+        @Test
+        @DisplayName("Existing data provider should be reused for same comparison")
+        public void testSameComparison()
+        {
+            final BiPredicate<TestItem, TestItem> isUnchanged = Objects::equals;
+            final KeyedListDataProvider<TestItem> dataProvider = KeyedListDataProvider.of(grid, keyMapper,
+                    isUnchanged);
+
+            assertSame(dataProvider, KeyedListDataProvider.of(grid, keyMapper, isUnchanged));
+            assertSame(dataProvider, KeyedListDataProvider.of(grid, keyMapper));
+        }
+
+        @Test
+        @DisplayName("Error should be thrown for different comparison")
+        public void testDifferentComparison()
+        {
+            KeyedListDataProvider.of(grid, keyMapper);
+
+            assertThrows(IllegalStateException.class,
+                    () -> KeyedListDataProvider.of(grid, keyMapper, Objects::equals));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.property;
+
+import javax.annotation.Nonnull;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.vaadin.addons.reactive.ReactiveProperty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link LazyProperty}
+ *
+ * @author dohnal
+ */
+@DisplayName("Lazy property specification")
+public class LazyPropertyTest implements
+        SetValueSpecification,
+        UpdateValueSpecification,
+        SuppressSpecification,
+        DelaySpecification
+{
+    @Nested
+    @DisplayName("When new lazy property with default value is created")
+    class WhenCreateWithValue
+    {
+        private LazyProperty<Integer> property;
+
+        @BeforeEach
+        void before()
+        {
+            property = new LazyProperty<>(5);
+        }
+
+        @Test
+        @DisplayName("Property should not be materialized")
+        public void testMaterialized()
+        {
+            assertFalse(property.isMaterialized());
+        }
+
+        @Test
+        @DisplayName("Property should not be materialized when value is set")
+        public void testSetValue()
+        {
+            property.setValue(7);
+
+            assertEquals(Integer.valueOf(7), property.getValue());
+            assertFalse(property.isMaterialized());
+        }
+
+        @Test
+        @DisplayName("Property should be materialized when observed")
+        public void testObserve()
+        {
+            property.setValue(7);
+
+            property.asObservable().test().assertValue(7);
+
+            assertTrue(property.isMaterialized());
+        }
+
+        @Nested
+        @DisplayName("Set value specification")
+        class SetValue extends AbstractSetValueSpecification
+        {
+            @Nonnull
+            @Override
+            public ReactiveProperty<Integer> getProperty()
+            {
+                return property;
+            }
+        }
+
+        @Nested
+        @DisplayName("Update value specification")
+        class UpdateValue extends AbstractUpdateValueSpecification
+        {
+            @Nonnull
+            @Override
+            public ReactiveProperty<Integer> getProperty()
+            {
+                return property;
+            }
+        }
+
+        @Nested
+        @DisplayName("Suppress specification")
+        class Suppress extends AbstractSuppressSpecification
+        {
+            @Nonnull
+            @Override
+            public ReactiveProperty<Integer> getProperty()
+            {
+                return property;
+            }
+        }
+
+        @Nested
+        @DisplayName("Delay specification")
+        class Delay extends AbstractDelaySpecification
+        {
+            @Nonnull
+            @Override
+            public ReactiveProperty<Integer> getProperty()
+            {
+                return property;
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.property;
+
+import javax.annotation.Nonnull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import io.reactivex.subjects.PublishSubject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.vaadin.addons.reactive.ReactiveProperty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link SerializedProperty}
+ *
+ * @author dohnal
+ */
+@DisplayName("Serialized property specification")
+public class SerializedPropertyTest
+{
+    @Nested
+    @DisplayName("When property is serialized")
+    class WhenSerialize
+    {
+        @Test
+        @DisplayName("Behavior property should keep its value")
+        public void testBehaviorProperty() throws Exception
+        {
+            final ReactiveProperty<String> property = serialize(new BehaviorProperty<>("Value"));
+
+            assertTrue(property instanceof BehaviorProperty);
+            assertEquals("Value", property.getValue());
+
+            property.setValue("Next");
+
+            property.asObservable().test().assertValue("Next");
+        }
+
+        @Test
+        @DisplayName("Behavior property without value should stay without value")
+        public void testEmptyProperty() throws Exception
+        {
+            assertFalse(serialize(new BehaviorProperty<String>()).hasValue());
+        }
+
+        @Test
+        @DisplayName("Read-only property should keep its last value")
+        public void testReadOnlyProperty() throws Exception
+        {
+            final PublishSubject<String> subject = PublishSubject.create();
+            final BehaviorProperty<String> source = new BehaviorProperty<>(subject);
+
+            subject.onNext("Value");
+
+            final ReactiveProperty<String> property = serialize(source);
+
+            assertTrue(property.isReadOnly());
+            property.asObservable().test().assertValue("Value");
+        }
+
+        @Test
+        @DisplayName("Lazy property should keep its value and stay lazy")
+        public void testLazyProperty() throws Exception
+        {
+            final LazyProperty<Integer> source = new LazyProperty<>(5);
+
+            source.asObservable().test();
+
+            final ReactiveProperty<Integer> property = serialize(source);
+
+            assertTrue(property instanceof LazyProperty);
+            assertFalse(((LazyProperty<Integer>) property).isMaterialized());
+            assertEquals(Integer.valueOf(5), property.getValue());
+        }
+    }
+
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    private static <T> ReactiveProperty<T> serialize(final @Nonnull ReactiveProperty<T> property) throws Exception
+    {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (final ObjectOutputStream objectOutput = new ObjectOutputStream(output))
+        {
+            objectOutput.writeObject(property);
+        }
+
+        try (final ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(output.toByteArray())))
+        {
+            return (ReactiveProperty<T>) input.readObject();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2018-present, reactive-mvvm Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See
+ * the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.vaadin.addons.reactive.property;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.observers.TestObserver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.vaadin.addons.reactive.ReactiveProperty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link SharedProperty}
+ *
+ * @author dohnal
+ */
+@DisplayName("Shared property specification")
+public class SharedPropertyTest implements
+        SetValueSpecification,
+        UpdateValueSpecification,
+        SuppressSpecification,
+        DelaySpecification
+{
+    @Nested
+    @DisplayName("When new shared property with default value is created")
+    class WhenCreateWithValue
+    {
+        private SharedProperty<Integer> property;
+
+        @BeforeEach
+        void before()
+        {
+            property = new SharedProperty<>(new BehaviorProperty<>(0));
+        }
+
+        @Test
+        @DisplayName("New observer should receive latest value")
+        public void testLatestValue()
+        {
+            final TestObserver<Integer> firstObserver = property.asObservable().test();
+
+            property.setValue(7);
+
+            final TestObserver<Integer> secondObserver = property.asObservable().test();
+
+            firstObserver.assertValues(0, 7);
+            secondObserver.assertValues(7);
+        }
+
+        @Test
+        @DisplayName("Observer subscribed after all observers are disposed should receive current value")
+        public void testResubscribe()
+        {
+            property.asObservable().test().dispose();
+            property.setValue(7);
+
+            property.asObservable().test().assertValues(7);
+        }
+
+        @Test
+        @DisplayName("Concurrent updates should not be lost")
+        public void testConcurrentUpdate() throws Exception
+        {
+            final TestObserver<Integer> testObserver = property.asObservable().test();
+            final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+            try
+            {
+                final List<Future<?>> futures = new ArrayList<>();
+
+                for (int i = 0; i < 4; i++)
+                {
+                    futures.add(executor.submit(() -> {
+                        for (int j = 0; j < 1000; j++)
+                        {
+                            property.updateValue(value -> value + 1);
+                        }
+                    }));
+                }
+
+                for (final Future<?> future : futures)
+                {
+                    future.get(10, TimeUnit.SECONDS);
+                }
+            }
+            finally
+            {
+                executor.shutdown();
+            }
+
+            assertEquals(Integer.valueOf(4000), property.getValue());
+            testObserver.assertValueCount(4001);
+        }
+
+        @Nested
+        @DisplayName("Set value specification")
+        class SetValue extends AbstractSetValueSpecification
+        {
+            @Nonnull
+            @Override
+            public ReactiveProperty<Integer> getProperty()
+            {
+                return property;
+            }
+        }
+
+        @Nested
+        @DisplayName("Update value specification")
+        class UpdateValue extends AbstractUpdateValueSpecification
+        {
+            @Nonnull
+            @Override
+            public ReactiveProperty<Integer> getProperty()
+            {
+                return property;
+            }
+        }
+
+        @Nested
+        @DisplayName("Suppress specification")
+        class Suppress extends AbstractSuppressSpecification
+        {
+            @Nonnull
+            @Override
+            public ReactiveProperty<Integer> getProperty()
+            {
+                return property;
+            }
+        }
+
+        @Nested
+        @DisplayName("Delay specification")
+        class Delay extends AbstractDelaySpecification
+        {
+            @Nonnull
+            @Override
+            public ReactiveProperty<Integer> getProperty()
+            {
+                return property;
+            }
+        }
+    }
+}